@@ -0,0 +1,708 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@code <Controller>_ValidationPlan} for every class that has Saripaar annotated
+ * {@code View} fields, including the ones it inherits. The generated plan reads the fields
+ * directly and implements their Saripaar annotations, so the {@code Validator} can skip scanning
+ * the controller's class hierarchy and reading annotations at runtime. Plans do not refer to
+ * fields by name, so they survive minification.
+ * <p>
+ * Plans are generated only when all the annotated fields and the annotations' types can be
+ * accessed from the controller's package, i.e., they are not {@code private}. Controllers that
+ * have inaccessible fields or types are reported with a warning and continue to be validated
+ * using reflection.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+@SupportedAnnotationTypes("*")
+public final class ValidationPlanProcessor extends AbstractProcessor {
+    // Constants
+    private static final String PLAN_CLASS_SUFFIX = "_ValidationPlan";
+    private static final String VALIDATION_PLAN = "com.mobsandgeeks.saripaar.ValidationPlan";
+    private static final String VALIDATE_USING =
+            "com.mobsandgeeks.saripaar.annotation.ValidateUsing";
+    private static final String ORDER = "com.mobsandgeeks.saripaar.annotation.Order";
+    private static final String OPTIONAL = "com.mobsandgeeks.saripaar.annotation.Optional";
+    private static final String VIEW = "android.view.View";
+    private static final String OBJECT = "java.lang.Object";
+    private static final String ANNOTATION = "java.lang.annotation.Annotation";
+    private static final String ANNOTATION_CLASS_SUFFIX = "Annotation";
+    private static final String INDENT = "    ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+            final RoundEnvironment roundEnvironment) {
+        List<TypeElement> controllerTypes = new ArrayList<TypeElement>();
+        for (Element rootElement : roundEnvironment.getRootElements()) {
+            collectClasses(rootElement, controllerTypes);
+        }
+
+        for (TypeElement controllerType : controllerTypes) {
+            List<PlanField> planFields = getPlanFields(controllerType);
+            if (planFields.isEmpty()) {
+                continue;
+            }
+
+            String inaccessibleField = findInaccessibleField(controllerType, planFields);
+            if (inaccessibleField != null) {
+                String message = String.format("Skipping validation plan for '%s', '%s' is not "
+                        + "accessible from the generated code. The Validator will use reflection.",
+                        controllerType.getQualifiedName(), inaccessibleField);
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message,
+                        controllerType);
+                continue;
+            }
+
+            writePlan(controllerType, planFields);
+        }
+
+        // Don't claim annotations, other processors may be interested in them.
+        return false;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void collectClasses(final Element element, final List<TypeElement> classes) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return;
+        }
+
+        TypeElement typeElement = (TypeElement) element;
+        if (!typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            classes.add(typeElement);
+        }
+
+        for (Element enclosedElement : typeElement.getEnclosedElements()) {
+            collectClasses(enclosedElement, classes);
+        }
+    }
+
+    private List<PlanField> getPlanFields(final TypeElement controllerType) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement viewElement = elements.getTypeElement(VIEW);
+        TypeMirror viewType = viewElement != null ? viewElement.asType() : null;
+
+        // Fields declared in the controller, followed by the inherited ones
+        List<PlanField> planFields = new ArrayList<PlanField>();
+        TypeElement currentType = controllerType;
+        while (currentType != null && !OBJECT.equals(currentType.getQualifiedName().toString())) {
+            for (Element enclosedElement : currentType.getEnclosedElements()) {
+                if (enclosedElement.getKind() != ElementKind.FIELD
+                        || enclosedElement.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+
+                VariableElement field = (VariableElement) enclosedElement;
+                TypeMirror fieldType = types.erasure(field.asType());
+                boolean isViewField = viewType == null || types.isAssignable(fieldType, viewType);
+                List<AnnotationMirror> saripaarAnnotations = getSaripaarAnnotations(field);
+                if (isViewField && isSaripaarAnnotatedField(saripaarAnnotations)) {
+                    planFields.add(new PlanField(currentType, field, fieldType,
+                            saripaarAnnotations));
+                }
+            }
+
+            TypeMirror superclass = currentType.getSuperclass();
+            currentType = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) types.asElement(superclass) : null;
+        }
+
+        return planFields;
+    }
+
+    private List<AnnotationMirror> getSaripaarAnnotations(final VariableElement field) {
+        List<AnnotationMirror> saripaarAnnotations = new ArrayList<AnnotationMirror>();
+        for (AnnotationMirror annotationMirror : field.getAnnotationMirrors()) {
+            TypeElement annotationElement =
+                    (TypeElement) annotationMirror.getAnnotationType().asElement();
+
+            // The Validator reads only the annotations that are visible to reflection
+            Retention retention = annotationElement.getAnnotation(Retention.class);
+            if (retention == null || retention.value() != RetentionPolicy.RUNTIME) {
+                continue;
+            }
+
+            String name = annotationElement.getQualifiedName().toString();
+            if (ORDER.equals(name) || OPTIONAL.equals(name)
+                    || isRuleAnnotation(annotationElement)) {
+                saripaarAnnotations.add(annotationMirror);
+            }
+        }
+
+        return saripaarAnnotations;
+    }
+
+    private boolean isSaripaarAnnotatedField(final List<AnnotationMirror> saripaarAnnotations) {
+        for (AnnotationMirror annotationMirror : saripaarAnnotations) {
+            TypeElement annotationElement =
+                    (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (ORDER.equals(annotationElement.getQualifiedName().toString())
+                    || isRuleAnnotation(annotationElement)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isRuleAnnotation(final TypeElement annotationElement) {
+        for (AnnotationMirror metaAnnotation : annotationElement.getAnnotationMirrors()) {
+            Element metaAnnotationElement = metaAnnotation.getAnnotationType().asElement();
+            String name = ((TypeElement) metaAnnotationElement).getQualifiedName().toString();
+            if (VALIDATE_USING.equals(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private String findInaccessibleField(final TypeElement controllerType,
+            final List<PlanField> planFields) {
+        Elements elements = processingEnv.getElementUtils();
+        PackageElement controllerPackage = elements.getPackageOf(controllerType);
+
+        if (!isAccessibleType(controllerType, controllerPackage)) {
+            return controllerType.getQualifiedName().toString();
+        }
+
+        for (PlanField planField : planFields) {
+            Set<Modifier> modifiers = planField.field.getModifiers();
+            boolean samePackage = controllerPackage.equals(
+                    elements.getPackageOf(planField.declaringType));
+            boolean accessibleField = samePackage
+                    ? !modifiers.contains(Modifier.PRIVATE)
+                    : modifiers.contains(Modifier.PUBLIC);
+
+            if (!accessibleField
+                    || !isAccessibleType(planField.declaringType, controllerPackage)) {
+                return planField.declaringType.getSimpleName() + "." + planField.getName();
+            }
+
+            String inaccessibleType = findInaccessibleType(planField.viewType, controllerPackage);
+            for (AnnotationMirror annotationMirror : planField.annotations) {
+                if (inaccessibleType == null) {
+                    inaccessibleType = findInaccessibleType(annotationMirror, controllerPackage);
+                }
+            }
+            if (inaccessibleType != null) {
+                return inaccessibleType;
+            }
+        }
+
+        return null;
+    }
+
+    private String findInaccessibleType(final AnnotationMirror annotationMirror,
+            final PackageElement fromPackage) {
+        String inaccessibleType = findInaccessibleType(annotationMirror.getAnnotationType(),
+                fromPackage);
+
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : values.entrySet()) {
+            if (inaccessibleType == null) {
+                inaccessibleType = findInaccessibleType(entry.getKey().getReturnType(),
+                        fromPackage);
+            }
+            if (inaccessibleType == null) {
+                inaccessibleType = findInaccessibleValue(entry.getValue().getValue(),
+                        fromPackage);
+            }
+        }
+
+        return inaccessibleType;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String findInaccessibleValue(final Object value, final PackageElement fromPackage) {
+        String inaccessibleType = null;
+        if (value instanceof TypeMirror) {
+            inaccessibleType = findInaccessibleType((TypeMirror) value, fromPackage);
+        } else if (value instanceof AnnotationMirror) {
+            inaccessibleType = findInaccessibleType((AnnotationMirror) value, fromPackage);
+        } else if (value instanceof List) {
+            for (AnnotationValue element : (List<? extends AnnotationValue>) value) {
+                if (inaccessibleType == null) {
+                    inaccessibleType = findInaccessibleValue(element.getValue(), fromPackage);
+                }
+            }
+        }
+
+        return inaccessibleType;
+    }
+
+    private String findInaccessibleType(final TypeMirror type, final PackageElement fromPackage) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return findInaccessibleType(((ArrayType) type).getComponentType(), fromPackage);
+        } else if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        return isAccessibleType(typeElement, fromPackage)
+                ? null : typeElement.getQualifiedName().toString();
+    }
+
+    private boolean isAccessibleType(final TypeElement typeElement,
+            final PackageElement fromPackage) {
+        Elements elements = processingEnv.getElementUtils();
+        boolean samePackage = fromPackage.equals(elements.getPackageOf(typeElement));
+
+        Element element = typeElement;
+        while (element != null && element.getKind() != ElementKind.PACKAGE) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private void writePlan(final TypeElement controllerType, final List<PlanField> planFields) {
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(controllerType).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(controllerType).toString();
+        String planClassName = (packageName.length() == 0
+                ? binaryName : binaryName.substring(packageName.length() + 1)) + PLAN_CLASS_SUFFIX;
+        String controllerName = getTypeName(controllerType);
+
+        StringBuilder source = new StringBuilder();
+        source.append("// Generated code from Saripaar. Do not modify!\n");
+        if (packageName.length() > 0) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("public final class ").append(planClassName).append('\n')
+                .append(INDENT).append(INDENT).append("extends ").append(VALIDATION_PLAN)
+                .append('<').append(controllerName).append("> {\n");
+
+        // Field names
+        source.append(INDENT).append("private static final String[] FIELD_NAMES = {\n");
+        for (PlanField planField : planFields) {
+            source.append(INDENT).append(INDENT);
+            appendStringLiteral(source, planField.getName());
+            source.append(",\n");
+        }
+        source.append(INDENT).append("};\n\n");
+
+        // View types
+        source.append(INDENT).append("private static final Class<?>[] VIEW_TYPES = {\n");
+        for (PlanField planField : planFields) {
+            source.append(INDENT).append(INDENT).append(planField.viewType).append(".class,\n");
+        }
+        source.append(INDENT).append("};\n\n");
+
+        // Annotations, implemented by the nested classes below
+        Map<TypeElement, String> annotationClasses = new LinkedHashMap<TypeElement, String>();
+        source.append(INDENT).append("private static final ").append(ANNOTATION)
+                .append("[][] ANNOTATIONS = {\n");
+        for (PlanField planField : planFields) {
+            source.append(INDENT).append(INDENT).append("{\n");
+            for (AnnotationMirror annotationMirror : planField.annotations) {
+                source.append(INDENT).append(INDENT).append(INDENT);
+                appendAnnotation(source, annotationMirror, annotationClasses);
+                source.append(",\n");
+            }
+            source.append(INDENT).append(INDENT).append("},\n");
+        }
+        source.append(INDENT).append("};\n\n");
+
+        appendMethod(source, "int getFieldCount()",
+                "return " + planFields.size() + ";");
+        appendMethod(source, "String getFieldName(final int index)",
+                "return FIELD_NAMES[index];");
+        source.append(INDENT).append("@SuppressWarnings(\"unchecked\")\n");
+        appendMethod(source, "Class<? extends " + VIEW + "> getViewType(final int index)",
+                "return (Class<? extends " + VIEW + ">) VIEW_TYPES[index];");
+        appendMethod(source, ANNOTATION + "[] getAnnotations(final int index)",
+                "return ANNOTATIONS[index];");
+
+        // Field access
+        StringBuilder switchBody = new StringBuilder();
+        switchBody.append("switch (index) {\n");
+        for (int i = 0, n = planFields.size(); i < n; i++) {
+            PlanField planField = planFields.get(i);
+            String receiver = planField.declaringType.equals(controllerType)
+                    ? "controller" : "((" + getTypeName(planField.declaringType) + ") controller)";
+            switchBody.append(INDENT).append(INDENT).append(INDENT).append("case ").append(i)
+                    .append(":\n").append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                    .append("return ").append(receiver).append('.').append(planField.getName())
+                    .append(";\n");
+        }
+        switchBody.append(INDENT).append(INDENT).append(INDENT).append("default:\n")
+                .append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                .append("throw new IndexOutOfBoundsException(\"Index: \" + index);\n")
+                .append(INDENT).append(INDENT).append('}');
+        appendMethod(source, VIEW + " getView(final " + controllerName
+                + " controller, final int index)", switchBody.toString());
+
+        for (Map.Entry<TypeElement, String> entry : annotationClasses.entrySet()) {
+            appendAnnotationClass(source, entry.getKey(), entry.getValue());
+        }
+
+        source.setLength(source.length() - 1);
+        source.append("}\n");
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(
+                    (packageName.length() == 0 ? "" : packageName + ".") + planClassName,
+                    controllerType);
+            Writer writer = sourceFile.openWriter();
+            try {
+                writer.write(source.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            String message = String.format("Unable to write validation plan for '%s': %s",
+                    controllerName, e.getMessage());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message,
+                    controllerType);
+        }
+    }
+
+    private void appendMethod(final StringBuilder source, final String signature,
+            final String body) {
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public ").append(signature).append(" {\n")
+                .append(INDENT).append(INDENT).append(body).append('\n')
+                .append(INDENT).append("}\n\n");
+    }
+
+    private void appendAnnotation(final StringBuilder source,
+            final AnnotationMirror annotationMirror,
+            final Map<TypeElement, String> annotationClasses) {
+        TypeElement annotationElement =
+                (TypeElement) annotationMirror.getAnnotationType().asElement();
+        String annotationClassName = annotationClasses.get(annotationElement);
+        if (annotationClassName == null) {
+            String simpleName = annotationElement.getSimpleName() + ANNOTATION_CLASS_SUFFIX;
+            annotationClassName = simpleName;
+            for (int i = 2; annotationClasses.containsValue(annotationClassName); i++) {
+                annotationClassName = simpleName + i;
+            }
+            annotationClasses.put(annotationElement, annotationClassName);
+        }
+
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
+        source.append("new ").append(annotationClassName).append('(');
+        List<ExecutableElement> members = getMembers(annotationElement);
+        for (int i = 0, n = members.size(); i < n; i++) {
+            ExecutableElement member = members.get(i);
+            if (i > 0) {
+                source.append(", ");
+            }
+            appendValue(source, member.getReturnType(), values.get(member).getValue(),
+                    annotationClasses);
+        }
+        source.append(')');
+    }
+
+    @SuppressWarnings("unchecked")
+    private void appendValue(final StringBuilder source, final TypeMirror type,
+            final Object value, final Map<TypeElement, String> annotationClasses) {
+        if (value instanceof List) {
+            TypeMirror componentType = ((ArrayType) type).getComponentType();
+            source.append("new ").append(getReifiableTypeName(componentType)).append("[] {");
+            String separator = " ";
+            for (AnnotationValue element : (List<? extends AnnotationValue>) value) {
+                source.append(separator);
+                appendValue(source, componentType, element.getValue(), annotationClasses);
+                separator = ", ";
+            }
+            source.append(" }");
+        } else if (value instanceof AnnotationMirror) {
+            appendAnnotation(source, (AnnotationMirror) value, annotationClasses);
+        } else if (value instanceof TypeMirror) {
+            source.append(processingEnv.getTypeUtils().erasure((TypeMirror) value))
+                    .append(".class");
+        } else if (value instanceof VariableElement) {
+            VariableElement enumConstant = (VariableElement) value;
+            source.append(((TypeElement) enumConstant.getEnclosingElement()).getQualifiedName())
+                    .append('.').append(enumConstant.getSimpleName());
+        } else if (value instanceof String) {
+            appendStringLiteral(source, (String) value);
+        } else if (value instanceof Character) {
+            source.append('\'');
+            appendEscapedCharacter(source, (Character) value, '\'');
+            source.append('\'');
+        } else if (value instanceof Float) {
+            float floatValue = (Float) value;
+            source.append(Float.isNaN(floatValue) ? "Float.NaN"
+                    : Float.isInfinite(floatValue) ? (floatValue > 0
+                            ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY")
+                    : floatValue + "f");
+        } else if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            source.append(Double.isNaN(doubleValue) ? "Double.NaN"
+                    : Double.isInfinite(doubleValue) ? (doubleValue > 0
+                            ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY")
+                    : doubleValue + "d");
+        } else if (value instanceof Long) {
+            source.append(value).append('L');
+        } else if (value instanceof Byte || value instanceof Short) {
+            source.append('(').append(type).append(") ").append(value);
+        } else {
+            source.append(value);
+        }
+    }
+
+    private void appendAnnotationClass(final StringBuilder source,
+            final TypeElement annotationElement, final String annotationClassName) {
+        String annotationName = annotationElement.getQualifiedName().toString();
+        List<ExecutableElement> members = getMembers(annotationElement);
+        String indent = INDENT + INDENT;
+
+        // Member types are copied from the annotation, which may use raw types
+        for (ExecutableElement member : members) {
+            if (hasRawType(member.getReturnType())) {
+                source.append(INDENT).append("@SuppressWarnings(\"rawtypes\")\n");
+                break;
+            }
+        }
+        source.append(INDENT).append("private static final class ").append(annotationClassName)
+                .append('\n')
+                .append(indent).append(INDENT).append("extends ").append(VALIDATION_PLAN)
+                .append(".GeneratedAnnotation\n")
+                .append(indent).append(INDENT).append("implements ").append(annotationName)
+                .append(" {\n");
+
+        // Member names and values
+        source.append(indent).append("private static final String[] MEMBER_NAMES = {");
+        String separator = " ";
+        for (ExecutableElement member : members) {
+            source.append(separator);
+            appendStringLiteral(source, member.getSimpleName().toString());
+            separator = ", ";
+        }
+        source.append(" };\n\n");
+
+        for (ExecutableElement member : members) {
+            source.append(indent).append("private final ").append(getMemberTypeName(member))
+                    .append(' ').append(getMemberFieldName(member)).append(";\n");
+        }
+        if (!members.isEmpty()) {
+            source.append('\n');
+        }
+
+        // Constructor
+        source.append(indent).append(annotationClassName).append('(');
+        separator = "";
+        for (ExecutableElement member : members) {
+            source.append(separator).append("final ").append(getMemberTypeName(member))
+                    .append(' ').append(member.getSimpleName());
+            separator = ", ";
+        }
+        source.append(") {\n")
+                .append(indent).append(INDENT).append("super(MEMBER_NAMES, new Object[] {");
+        separator = " ";
+        for (ExecutableElement member : members) {
+            source.append(separator).append(member.getSimpleName());
+            separator = ", ";
+        }
+        source.append(" });\n");
+        for (ExecutableElement member : members) {
+            source.append(indent).append(INDENT).append(getMemberFieldName(member))
+                    .append(" = ").append(member.getSimpleName()).append(";\n");
+        }
+        source.append(indent).append("}\n\n");
+
+        // Annotation type
+        source.append(indent).append("@Override\n")
+                .append(indent).append("public Class<? extends ").append(ANNOTATION)
+                .append("> annotationType() {\n")
+                .append(indent).append(INDENT).append("return ").append(annotationName)
+                .append(".class;\n")
+                .append(indent).append("}\n\n");
+
+        // Members, arrays are copied just like the ones returned by reflection
+        for (ExecutableElement member : members) {
+            TypeMirror memberType = member.getReturnType();
+            String memberTypeName = getMemberTypeName(member);
+            String returnValue = getMemberFieldName(member);
+            if (memberType.getKind() == TypeKind.ARRAY) {
+                returnValue += ".clone()";
+                if (!memberTypeName.equals(memberType.toString())) {
+                    source.append(indent).append("@SuppressWarnings(\"unchecked\")\n");
+                    returnValue = "(" + memberType + ") " + returnValue;
+                }
+            }
+            source.append(indent).append("@Override\n")
+                    .append(indent).append("public ").append(memberType).append(' ')
+                    .append(member.getSimpleName()).append("() {\n")
+                    .append(indent).append(INDENT).append("return ").append(returnValue)
+                    .append(";\n")
+                    .append(indent).append("}\n\n");
+        }
+
+        source.setLength(source.length() - 1);
+        source.append(INDENT).append("}\n\n");
+    }
+
+    private List<ExecutableElement> getMembers(final TypeElement annotationElement) {
+        return ElementFilter.methodsIn(annotationElement.getEnclosedElements());
+    }
+
+    private String getMemberTypeName(final ExecutableElement member) {
+        // Arrays of parameterized types cannot be created, use wildcards instead
+        TypeMirror memberType = member.getReturnType();
+        return memberType.getKind() == TypeKind.ARRAY
+                ? getReifiableTypeName(((ArrayType) memberType).getComponentType()) + "[]"
+                : memberType.toString();
+    }
+
+    private String getMemberFieldName(final ExecutableElement member) {
+        String name = member.getSimpleName().toString();
+        return "m" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private boolean hasRawType(final TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return hasRawType(((ArrayType) type).getComponentType());
+        } else if (type.getKind() == TypeKind.WILDCARD) {
+            WildcardType wildcardType = (WildcardType) type;
+            TypeMirror bound = wildcardType.getExtendsBound() != null
+                    ? wildcardType.getExtendsBound() : wildcardType.getSuperBound();
+            return bound != null && hasRawType(bound);
+        } else if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        if (declaredType.getTypeArguments().isEmpty()) {
+            return !((TypeElement) declaredType.asElement()).getTypeParameters().isEmpty();
+        }
+        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+            if (hasRawType(typeArgument)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private String getReifiableTypeName(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                ? getTypeName((TypeElement) ((DeclaredType) type).asElement())
+                : type.toString();
+    }
+
+    private String getTypeName(final TypeElement typeElement) {
+        // Generic types are used with wildcards, so that generated code has no raw types
+        StringBuilder typeName = new StringBuilder(typeElement.getQualifiedName());
+        String separator = "<";
+        for (int i = 0, n = typeElement.getTypeParameters().size(); i < n; i++) {
+            typeName.append(separator).append('?');
+            separator = ", ";
+        }
+
+        return separator.equals("<") ? typeName.toString() : typeName.append('>').toString();
+    }
+
+    private void appendStringLiteral(final StringBuilder source, final String value) {
+        source.append('"');
+        for (int i = 0, n = value.length(); i < n; i++) {
+            appendEscapedCharacter(source, value.charAt(i), '"');
+        }
+        source.append('"');
+    }
+
+    private void appendEscapedCharacter(final StringBuilder source, final char c,
+            final char quote) {
+        // Unicode escapes are translated before literals are parsed, so they cannot be used for
+        // line terminators, quotes or backslashes
+        if (c == quote || c == '\\') {
+            source.append('\\').append(c);
+        } else if (c == '\n') {
+            source.append("\\n");
+        } else if (c == '\r') {
+            source.append("\\r");
+        } else if (c < 0x20 || c > 0x7E) {
+            source.append(String.format("\\u%04x", (int) c));
+        } else {
+            source.append(c);
+        }
+    }
+
+    private static final class PlanField {
+        final TypeElement declaringType;
+        final VariableElement field;
+        final TypeMirror viewType;
+        final List<AnnotationMirror> annotations;
+
+        PlanField(final TypeElement declaringType, final VariableElement field,
+                final TypeMirror viewType, final List<AnnotationMirror> annotations) {
+            this.declaringType = declaringType;
+            this.field = field;
+            this.viewType = viewType;
+            this.annotations = annotations;
+        }
+
+        String getName() {
+            return field.getSimpleName().toString();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import junit.framework.TestCase;
+
+import commons.validator.routines.ISBNValidator;
+import commons.validator.routines.checkdigit.CheckDigitException;
+import commons.validator.routines.checkdigit.EAN13CheckDigit;
+import commons.validator.routines.checkdigit.ISBN10CheckDigit;
+import commons.validator.routines.checkdigit.LuhnCheckDigit;
+import commons.validator.routines.checkdigit.ModulusCheckDigit;
+
+public class CheckDigitTest extends TestCase {
+
+    public void testLuhn() throws CheckDigitException {
+        ModulusCheckDigit luhn = (ModulusCheckDigit) LuhnCheckDigit.LUHN_CHECK_DIGIT;
+        assertTrue(luhn.isValid("79927398713"));
+        assertTrue(luhn.isValid("4111111111111111"));
+        assertFalse(luhn.isValid("79927398710"));
+        assertFalse(luhn.isValid("7992739871a"));
+        assertFalse(luhn.isValid(""));
+        assertFalse(luhn.isValid(null));
+        assertEquals("3", luhn.calculate("7992739871"));
+
+        assertEquals(ModulusCheckDigit.VALID, luhn.validate("79927398713"));
+        assertEquals(ModulusCheckDigit.INVALID_CHECK_DIGIT, luhn.validate("79927398710"));
+        assertEquals(ModulusCheckDigit.INVALID_CHARACTER, luhn.validate("7992 7398713"));
+        assertEquals(ModulusCheckDigit.MISSING_CODE, luhn.validate(""));
+    }
+
+    public void testEan13() throws CheckDigitException {
+        ModulusCheckDigit ean13 = (ModulusCheckDigit) EAN13CheckDigit.EAN13_CHECK_DIGIT;
+        assertTrue(ean13.isValid("9780306406157"));
+        assertTrue(ean13.isValid("4006381333931"));
+        assertFalse(ean13.isValid("9780306406158"));
+        assertFalse(ean13.isValid("978030640615X"));
+        assertEquals("7", ean13.calculate("978030640615"));
+
+        char[] buffer = "EAN 9780306406157.".toCharArray();
+        assertEquals(ModulusCheckDigit.VALID, ean13.validate(buffer, 4, 13));
+        assertEquals(ModulusCheckDigit.INVALID_CHECK_DIGIT, ean13.validate(buffer, 4, 12));
+        assertEquals(ModulusCheckDigit.INVALID_CHARACTER, ean13.validate(buffer, 5, 13));
+        assertEquals(ModulusCheckDigit.MISSING_CODE, ean13.validate(buffer, 4, 0));
+    }
+
+    public void testIsbn10() throws CheckDigitException {
+        ModulusCheckDigit isbn10 = (ModulusCheckDigit) ISBN10CheckDigit.ISBN10_CHECK_DIGIT;
+        assertTrue(isbn10.isValid("0306406152"));
+        assertTrue(isbn10.isValid("080442957X"));
+        assertTrue(isbn10.isValid("123456789X"));
+        assertFalse(isbn10.isValid("080442957x"));
+        assertFalse(isbn10.isValid("0804429570"));
+        assertFalse(isbn10.isValid("08044295X7"));
+        assertEquals("X", isbn10.calculate("080442957"));
+        assertEquals("2", isbn10.calculate("030640615"));
+    }
+
+    public void testZeroSum() {
+        ModulusCheckDigit luhn = (ModulusCheckDigit) LuhnCheckDigit.LUHN_CHECK_DIGIT;
+        ModulusCheckDigit ean13 = (ModulusCheckDigit) EAN13CheckDigit.EAN13_CHECK_DIGIT;
+        ModulusCheckDigit isbn10 = (ModulusCheckDigit) ISBN10CheckDigit.ISBN10_CHECK_DIGIT;
+
+        assertFalse(luhn.isValid("0000000000000000"));
+        assertFalse(ean13.isValid("0000000000000"));
+        assertFalse(isbn10.isValid("0000000000"));
+        assertEquals(ModulusCheckDigit.ZERO_SUM, luhn.validate("0000000000000000"));
+        assertEquals(ModulusCheckDigit.ZERO_SUM, ean13.validate("0000000000000"));
+        assertEquals(ModulusCheckDigit.ZERO_SUM, isbn10.validate("0000000000"));
+        assertTrue(ean13.isValid("9780000000002"));
+
+        try {
+            ean13.calculate("000000000000");
+            fail("Expected a CheckDigitException for a zero sum.");
+        } catch (CheckDigitException expected) {
+            // Expected
+        }
+    }
+
+    public void testNonAsciiDigits() {
+        ModulusCheckDigit luhn = (ModulusCheckDigit) LuhnCheckDigit.LUHN_CHECK_DIGIT;
+        ModulusCheckDigit ean13 = (ModulusCheckDigit) EAN13CheckDigit.EAN13_CHECK_DIGIT;
+        ModulusCheckDigit isbn10 = (ModulusCheckDigit) ISBN10CheckDigit.ISBN10_CHECK_DIGIT;
+
+        // Arabic-Indic, Devanagari and fullwidth digits have numeric values like before
+        assertTrue(luhn.isValid("\u0667\u0669\u0669\u0662\u0667\u0663"
+                + "\u0669\u0668\u0667\u0661\u0663"));
+        assertTrue(ean13.isValid("978\u0966\u0969\u0966\u096C406157"));
+        assertTrue(isbn10.isValid("\uFF10\uFF13\uFF10\uFF16406152"));
+        assertTrue(isbn10.isValid("08044295\uFF17X"));
+        assertFalse(ean13.isValid("978\u0966\u0969\u0966\u096C406158"));
+        assertEquals(ModulusCheckDigit.ZERO_SUM, ean13.validate("\u0660\u0660\u0660\u0660"
+                + "\u0660\u0660\u0660\u0660\u0660\u0660\u0660\u0660\u0660"));
+
+        // Other numeric characters are not digits
+        assertFalse(luhn.isValid("7992739871\u00B3"));
+        assertFalse(isbn10.isValid("030640615\u2161"));
+        assertEquals(ModulusCheckDigit.INVALID_CHARACTER, luhn.validate("7992739871\u00B3"));
+    }
+
+    public void testIsbnValidator() {
+        ISBNValidator validator = ISBNValidator.getInstance();
+        assertTrue(validator.isValidISBN10("080442957X"));
+        assertTrue(validator.isValidISBN10("0-8044-2957-X"));
+        assertTrue(validator.isValidISBN10("0 8044 2957 X"));
+        assertFalse(validator.isValidISBN10("0-8044-2957-x"));
+        assertTrue(validator.isValidISBN13("978-0-306-40615-7"));
+        assertTrue(validator.isValidISBN13("978 0 306 40615 7"));
+        assertFalse(validator.isValidISBN13("978-0-306-40615-8"));
+        assertFalse(validator.isValid("0000000000"));
+
+        assertEquals("080442957X", validator.validateISBN10("0-8044-2957-X"));
+        assertEquals("9780804429573", validator.validate("080442957X"));
+        assertNull(validator.validate("0804429570"));
+    }
+}
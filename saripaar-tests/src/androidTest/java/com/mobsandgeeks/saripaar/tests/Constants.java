@@ -24,6 +24,13 @@ public interface Constants {
     String FIELD_AIRTEL_NUMBER = "AIRTEL_NUMBER";
     String FIELD_MAX = "MAX";
     String FIELD_CONFIRM_PASSWORD = "CONFIRM_PASSWORD";
+    String FIELD_IP_ADDRESS = "IP_ADDRESS";
+    String FIELD_NETWORK = "NETWORK";
+    String FIELD_ALLOWED_HOSTS = "ALLOWED_HOSTS";
+    String FIELD_TEMPERATURE = "TEMPERATURE";
+    String FIELD_POPULATION = "POPULATION";
+    String FIELD_AMOUNT = "AMOUNT";
+    String FIELD_WEIGHT = "WEIGHT";
 
     // Values
     String NAME = "Android";
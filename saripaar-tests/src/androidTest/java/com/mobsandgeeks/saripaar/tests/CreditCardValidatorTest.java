@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import junit.framework.TestCase;
+
+import commons.validator.routines.CreditCardValidator;
+
+public class CreditCardValidatorTest extends TestCase {
+
+    // Attributes
+    private CreditCardValidator mValidator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mValidator = new CreditCardValidator(CreditCardValidator.AMEX + CreditCardValidator.DINERS
+                + CreditCardValidator.DISCOVER + CreditCardValidator.MASTERCARD
+                + CreditCardValidator.VISA);
+    }
+
+    public void testIssuerPrefixes() {
+        assertEquals(CreditCardValidator.AMEX, getCardType("378282246310005"));
+        assertEquals(CreditCardValidator.AMEX, getCardType("371449635398431"));
+        assertEquals(CreditCardValidator.DINERS, getCardType("30569309025904"));
+        assertEquals(CreditCardValidator.DINERS, getCardType("38520000023237"));
+        assertEquals(CreditCardValidator.DISCOVER, getCardType("6011111111111117"));
+        assertEquals(CreditCardValidator.DISCOVER, getCardType("6011000990139424"));
+        assertEquals(CreditCardValidator.MASTERCARD, getCardType("5555555555554444"));
+        assertEquals(CreditCardValidator.MASTERCARD, getCardType("5105105105105100"));
+        assertEquals(CreditCardValidator.VISA, getCardType("4111111111111111"));
+        assertEquals(CreditCardValidator.VISA, getCardType("4222222222222"));
+    }
+
+    public void testInvalidNumbers() {
+        assertEquals(CreditCardValidator.NONE, getCardType("4111111111111112"));
+        assertEquals(CreditCardValidator.NONE, getCardType("41111111111111"));
+        assertEquals(CreditCardValidator.NONE, getCardType("41111111111111111111"));
+        assertEquals(CreditCardValidator.NONE, getCardType("3782822463100050"));
+        assertEquals(CreditCardValidator.NONE, getCardType("1234567812345670"));
+        assertEquals(CreditCardValidator.NONE, getCardType("4111a11111111111"));
+        assertEquals(CreditCardValidator.NONE, getCardType(""));
+        assertEquals(CreditCardValidator.NONE, getCardType(" - "));
+        assertEquals(CreditCardValidator.NONE, getCardType(null));
+    }
+
+    public void testCardTypeOptions() {
+        CreditCardValidator visaValidator = new CreditCardValidator(CreditCardValidator.VISA);
+        assertEquals(CreditCardValidator.VISA, visaValidator.getCardType("4111111111111111"));
+        assertEquals(CreditCardValidator.NONE, visaValidator.getCardType("378282246310005"));
+        assertEquals(CreditCardValidator.NONE, visaValidator.getCardType("5555555555554444"));
+    }
+
+    public void testSeparators() {
+        assertEquals(CreditCardValidator.VISA, getCardType("4111 1111 1111 1111"));
+        assertEquals(CreditCardValidator.VISA, getCardType("4111-1111-1111-1111"));
+        assertEquals(CreditCardValidator.VISA, getCardType("\t4111111111111111\n"));
+        assertEquals(CreditCardValidator.VISA, getCardType("\u001C4111111111111111\u0000"));
+        assertEquals(CreditCardValidator.NONE, getCardType("4111\u001C1111\u001C1111\u001C1111"));
+        assertEquals(CreditCardValidator.AMEX, getCardType("3782 822463 10005"));
+        assertEquals(CreditCardValidator.NONE, getCardType("4111.1111.1111.1111"));
+        assertEquals(CreditCardValidator.NONE, getCardType("4111_1111_1111_1111"));
+    }
+
+    public void testNonAsciiInput() {
+        // White space, like the no-break and figure spaces used by number formatters
+        assertEquals(CreditCardValidator.VISA, getCardType("4111\u00A01111\u00A01111\u00A01111"));
+        assertEquals(CreditCardValidator.VISA, getCardType("4111\u20071111\u20071111\u20071111"));
+        assertEquals(CreditCardValidator.VISA, getCardType("4111\u30001111\u30001111\u30001111"));
+        assertEquals(CreditCardValidator.NONE, getCardType("4111\u200B1111\u200B1111\u200B1111"));
+
+        // Digits of other scripts, but not in the issuer prefix
+        assertEquals(CreditCardValidator.VISA, getCardType("4\u0661\u0661\u0661"
+                + "\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661"));
+        assertEquals(CreditCardValidator.AMEX, getCardType("37\uFF18\uFF12\uFF18\uFF12"
+                + "\uFF12\uFF14\uFF16\uFF13\uFF11\uFF10\uFF10\uFF10\uFF15"));
+        assertEquals(CreditCardValidator.NONE, getCardType("\u0664\u0661\u0661\u0661"
+                + "\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661\u0661"));
+        assertEquals(CreditCardValidator.NONE, getCardType("3\u06678282246310005"));
+        assertEquals(CreditCardValidator.NONE, getCardType("4111111111111111\u00B2"));
+    }
+
+    public void testDetectCardType() {
+        assertEquals(CreditCardValidator.VISA, CreditCardValidator.detectCardType("4"));
+        assertEquals(CreditCardValidator.AMEX, CreditCardValidator.detectCardType("37"));
+        assertEquals(CreditCardValidator.DINERS, CreditCardValidator.detectCardType("3095"));
+        assertEquals(CreditCardValidator.DISCOVER, CreditCardValidator.detectCardType("6011 1"));
+        assertEquals(CreditCardValidator.MASTERCARD, CreditCardValidator.detectCardType("51"));
+        assertEquals(CreditCardValidator.NONE, CreditCardValidator.detectCardType("3"));
+        assertEquals(CreditCardValidator.NONE, CreditCardValidator.detectCardType("601"));
+        assertEquals(CreditCardValidator.NONE, CreditCardValidator.detectCardType("56"));
+        assertEquals(CreditCardValidator.NONE, CreditCardValidator.detectCardType("\u0664"));
+        assertEquals(CreditCardValidator.NONE, CreditCardValidator.detectCardType(""));
+        assertEquals(CreditCardValidator.NONE, CreditCardValidator.detectCardType(null));
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private long getCardType(final String cardNumber) {
+        return mValidator.getCardType(cardNumber);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.AndroidTestCase;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.Clock;
+import com.mobsandgeeks.saripaar.DateFormats;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.Future;
+import com.mobsandgeeks.saripaar.annotation.Past;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+public class DateRulesTest extends AndroidTestCase {
+
+    // Dates that take the fast path and dates that fall back to SimpleDateFormat
+    private static final String[] DATES_24_HOURS = {
+        "01-01-2015 00:00", "31-12-2015 23:59", "01-01-2015 24:00", "29-02-2016 12:30",
+        "29-02-2015 12:30", "32-01-2015 10:00", "01-13-2015 10:00", "00-00-0000 00:00",
+        "1-1-2015 9:05", "01-01-15 10:00", "01-01-2015 10:00 junk", "01/01/2015 10:00",
+        "01-01-2015", "-1-01-2015 10:00", "\u0661\u0662-01-2015 10:00", "ab-cd-efgh ij:kl", ""
+    };
+
+    private static final String[] DATES_12_HOURS = {
+        "01-01-2015 12:00 AM", "01-01-2015 12:00 PM", "01-01-2015 11:59 PM",
+        "01-01-2015 01:00 am", "01-01-2015 13:00 PM", "01-01-2015 00:30 AM",
+        "01-01-2015 10:00 XM", "01-01-2015 10:00", "01-01-2015 10:00AM"
+    };
+
+    // Fields
+    @Future(dateFormat = DateFormats.DMY_TIME_24_HOURS)
+    private EditText mFuture24EditText;
+
+    @Past(dateFormat = DateFormats.DMY_TIME_24_HOURS)
+    private EditText mPast24EditText;
+
+    @Future(dateFormat = DateFormats.DMY_TIME_12_HOURS)
+    private EditText mFuture12EditText;
+
+    // Attributes
+    private TimeZone mDefaultTimeZone;
+    private Validator mValidator;
+    private long mNow;
+    private List<ValidationError> mErrors;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mDefaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+        mFuture24EditText = new EditText(getContext());
+        mPast24EditText = new EditText(getContext());
+        mFuture12EditText = new EditText(getContext());
+
+        mValidator = new Validator(this);
+        mValidator.setClock(new Clock() {
+            @Override
+            public long currentTimeMillis() {
+                return mNow;
+            }
+        });
+        mValidator.setValidationListener(new Validator.ValidationListener() {
+            @Override
+            public void onValidationSucceeded() {
+                mErrors = null;
+            }
+
+            @Override
+            public void onValidationFailed(final List<ValidationError> errors) {
+                mErrors = errors;
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        TimeZone.setDefault(mDefaultTimeZone);
+        super.tearDown();
+    }
+
+    public void testFastPathMatchesSimpleDateFormat() {
+        for (String date : DATES_24_HOURS) {
+            assertParsedLikeSimpleDateFormat(DateFormats.DMY_TIME_24_HOURS, date);
+        }
+        for (String date : DATES_12_HOURS) {
+            assertParsedLikeSimpleDateFormat(DateFormats.DMY_TIME_12_HOURS, date);
+        }
+    }
+
+    public void testDefaultTimeZoneChange() {
+        // 13:00 in UTC
+        mNow = 1420117200000L;
+        String date = "01-01-2015 14:00";
+        assertTrue(validate(mFuture24EditText, date));
+        assertFalse(validate(mPast24EditText, date));
+
+        // 14:00 in GMT+02:00 is 12:00 in UTC
+        TimeZone.setDefault(TimeZone.getTimeZone("GMT+02:00"));
+        assertFalse(validate(mFuture24EditText, date));
+        assertTrue(validate(mPast24EditText, date));
+
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        assertTrue(validate(mFuture24EditText, date));
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private void assertParsedLikeSimpleDateFormat(final String pattern, final String date) {
+        EditText editText = DateFormats.DMY_TIME_12_HOURS.equals(pattern)
+                ? mFuture12EditText : mFuture24EditText;
+        Date expected = new SimpleDateFormat(pattern).parse(date, new ParsePosition(0));
+
+        if (expected == null) {
+            mNow = Long.MIN_VALUE + 1;
+            assertFalse(date, validate(editText, date));
+        } else {
+            mNow = expected.getTime() - 1;
+            assertTrue(date, validate(editText, date));
+            mNow = expected.getTime();
+            assertFalse(date, validate(editText, date));
+        }
+    }
+
+    private boolean validate(final EditText editText, final String text) {
+        mFuture24EditText.setText("01-01-1970 00:00");
+        mPast24EditText.setText("01-01-1970 00:00");
+        mFuture12EditText.setText("01-01-1970 12:00 AM");
+        editText.setText(text);
+        mValidator.validate();
+
+        if (mErrors != null) {
+            for (ValidationError error : mErrors) {
+                if (error.getView() == editText) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import junit.framework.TestCase;
+
+import commons.validator.routines.DomainValidator;
+
+public class DomainValidatorTest extends TestCase {
+
+    // Attributes
+    private DomainValidator mValidator;
+    private DomainValidator mLocalValidator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mValidator = DomainValidator.getInstance();
+        mLocalValidator = DomainValidator.getInstance(true);
+    }
+
+    public void testTldTypes() {
+        assertTrue(mValidator.isValidTld("com"));
+        assertTrue(mValidator.isValidGenericTld("com"));
+        assertFalse(mValidator.isValidCountryCodeTld("com"));
+        assertTrue(mValidator.isValidCountryCodeTld("uk"));
+        assertFalse(mValidator.isValidGenericTld("uk"));
+        assertTrue(mValidator.isValidTld("info"));
+
+        // "arpa" is both an infrastructure and a generic TLD
+        assertTrue(mValidator.isValidInfrastructureTld("arpa"));
+        assertTrue(mValidator.isValidGenericTld("arpa"));
+        assertFalse(mValidator.isValidInfrastructureTld("com"));
+    }
+
+    public void testTldPrefixes() {
+        assertTrue(mValidator.isValidTld("co"));
+        assertFalse(mValidator.isValidTld("c"));
+        assertFalse(mValidator.isValidTld("comm"));
+        assertFalse(mValidator.isValidTld("example"));
+        assertFalse(mValidator.isValidTld("invalid"));
+        assertFalse(mValidator.isValidTld(""));
+    }
+
+    public void testTldCase() {
+        assertTrue(mValidator.isValidTld("COM"));
+        assertTrue(mValidator.isValidTld("Com"));
+        assertTrue(mValidator.isValidCountryCodeTld("XN--P1AI"));
+        assertTrue(mLocalValidator.isValidLocalTld("LOCALHOST"));
+    }
+
+    public void testTldLeadingDot() {
+        assertTrue(mValidator.isValidTld(".com"));
+        assertTrue(mValidator.isValidCountryCodeTld(".uk"));
+        assertTrue(mValidator.isValidLocalTld(".localhost"));
+        assertFalse(mValidator.isValidTld("..com"));
+        assertFalse(mValidator.isValidTld("com."));
+        assertFalse(mValidator.isValidTld(" com"));
+        assertFalse(mValidator.isValidTld("."));
+    }
+
+    public void testIdnTlds() {
+        assertTrue(mValidator.isValidCountryCodeTld("xn--p1ai"));
+        assertTrue(mValidator.isValidCountryCodeTld("\u0440\u0444"));
+        assertTrue(mValidator.isValidCountryCodeTld("xn--fiqs8s"));
+        assertTrue(mValidator.isValidCountryCodeTld("\u4E2D\u56FD"));
+        assertFalse(mValidator.isValidGenericTld("\u0440\u0444"));
+
+        // Converted to ASCII before the lookup
+        assertTrue(mValidator.isValidGenericTld("\uFF43\uFF4F\uFF4D"));
+        assertTrue(mValidator.isValidGenericTld("\u212Aim"));
+        assertFalse(mValidator.isValidTld("\u0130nfo"));
+    }
+
+    public void testLocalTlds() {
+        assertTrue(mValidator.isValidLocalTld("localhost"));
+        assertTrue(mValidator.isValidLocalTld("localdomain"));
+        assertFalse(mValidator.isValidLocalTld("local"));
+        assertFalse(mValidator.isValidLocalTld("com"));
+
+        // Only a validator that allows local names accepts them as TLDs
+        assertFalse(mValidator.isValidTld("localhost"));
+        assertTrue(mLocalValidator.isValidTld("localhost"));
+        assertTrue(mLocalValidator.isValidTld("localdomain"));
+        assertTrue(mLocalValidator.isValidTld("com"));
+    }
+
+    public void testHostnames() {
+        assertTrue(mValidator.isValid("example.com"));
+        assertTrue(mValidator.isValid("WWW.Example.COM"));
+        assertTrue(mValidator.isValid("a.b.c.d.e.example.co.uk"));
+        assertTrue(mValidator.isValid("123.example.com"));
+        assertTrue(mValidator.isValid("example.com."));
+        assertFalse(mValidator.isValid("example.com.."));
+        assertFalse(mValidator.isValid(".example.com"));
+        assertFalse(mValidator.isValid("example..com"));
+        assertFalse(mValidator.isValid("example.123"));
+        assertFalse(mValidator.isValid("example.invalid"));
+        assertFalse(mValidator.isValid("exa mple.com"));
+        assertFalse(mValidator.isValid("exa_mple.com"));
+        assertFalse(mValidator.isValid(""));
+        assertFalse(mValidator.isValid(null));
+    }
+
+    public void testHyphens() {
+        assertTrue(mValidator.isValid("ex-ample.com"));
+        assertTrue(mValidator.isValid("ex--ample.com"));
+        assertTrue(mValidator.isValid("xn--80akhbyknj4f.xn--p1ai"));
+        assertFalse(mValidator.isValid("-example.com"));
+        assertFalse(mValidator.isValid("example-.com"));
+        assertFalse(mValidator.isValid("example.-com"));
+        assertFalse(mValidator.isValid("example.com-"));
+    }
+
+    public void testLabelLength() {
+        assertTrue(mValidator.isValid(repeat('a', 63) + ".com"));
+        assertFalse(mValidator.isValid(repeat('a', 64) + ".com"));
+        assertTrue(mValidator.isValid("a-" + repeat('b', 61) + ".com"));
+        assertFalse(mValidator.isValid("a-" + repeat('b', 62) + ".com"));
+        assertTrue(mLocalValidator.isValid(repeat('a', 63)));
+        assertFalse(mLocalValidator.isValid(repeat('a', 64)));
+    }
+
+    public void testNameLength() {
+        // 62 * 4 + 1 characters, plus ".com"
+        String name253 = repeat('a', 61) + "." + repeat('b', 61) + "." + repeat('c', 61) + "."
+                + repeat('d', 61) + "." + "e.com";
+        assertEquals(253, name253.length());
+        assertTrue(mValidator.isValid(name253));
+        assertFalse(mValidator.isValid("f" + name253));
+
+        // The trailing dot counts towards the limit
+        assertFalse(mValidator.isValid(name253 + "."));
+        assertTrue(mValidator.isValid(name253.substring(1) + "."));
+    }
+
+    public void testLocalNames() {
+        assertFalse(mValidator.isValid("localhost"));
+        assertTrue(mLocalValidator.isValid("localhost"));
+        assertTrue(mLocalValidator.isValid("intranet"));
+        assertTrue(mLocalValidator.isValid("server.localdomain"));
+        assertFalse(mValidator.isValid("server.localdomain"));
+        assertFalse(mLocalValidator.isValid("localhost."));
+        assertFalse(mLocalValidator.isValid("-intranet"));
+    }
+
+    public void testNonAsciiHostnames() {
+        assertTrue(mValidator.isValid("b\u00FCcher.de"));
+        assertTrue(mValidator.isValid(
+                "\u043F\u0440\u0435\u0437\u0438\u0434\u0435\u043D\u0442.\u0440\u0444"));
+        assertTrue(mValidator.isValid("\u4F8B\u3048.\u30C6\u30B9\u30C8.jp"));
+        assertTrue(mValidator.isValid(
+                "\uFF45\uFF58\uFF41\uFF4D\uFF50\uFF4C\uFF45\uFF0E\uFF43\uFF4F\uFF4D"));
+        assertFalse(mValidator.isValid("b\u00FCcher.invalid"));
+        assertFalse(mValidator.isValid("a b.de"));
+
+        // Labels that do not convert to punycode are kept and checked for letters and
+        // digits, like the regexes did on Android
+        assertTrue(mValidator.isValid("a\u05D0.com"));
+        assertTrue(mValidator.isValid("a\u05D0.\u0440\u0444"));
+        assertFalse(mValidator.isValid("a\u05D0.invalid"));
+        assertFalse(mValidator.isValid("a\u05D0-.com"));
+        assertFalse(mValidator.isValid("a\u05D0.\u0660com"));
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
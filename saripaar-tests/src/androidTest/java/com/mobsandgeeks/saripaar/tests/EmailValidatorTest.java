@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import junit.framework.TestCase;
+
+import commons.validator.routines.EmailValidator;
+
+public class EmailValidatorTest extends TestCase {
+
+    // Attributes
+    private EmailValidator mValidator;
+    private EmailValidator mLocalValidator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mValidator = EmailValidator.getInstance();
+        mLocalValidator = EmailValidator.getInstance(true);
+    }
+
+    public void testAddresses() {
+        assertTrue(mValidator.isValid("jane@example.com"));
+        assertTrue(mValidator.isValid("jane.doe@example.co.uk"));
+        assertTrue(mValidator.isValid("jane+news@example.com"));
+        assertTrue(mValidator.isValid("o'neil@example.com"));
+        assertFalse(mValidator.isValid("jane@example.com."));
+        assertFalse(mValidator.isValid("jane@example.invalid"));
+        assertFalse(mValidator.isValid("jane.@example.com"));
+        assertFalse(mValidator.isValid(".jane@example.com"));
+        assertFalse(mValidator.isValid("jane..doe@example.com"));
+        assertFalse(mValidator.isValid("jane@"));
+        assertFalse(mValidator.isValid("@example.com"));
+        assertFalse(mValidator.isValid("jane"));
+        assertFalse(mValidator.isValid(""));
+        assertFalse(mValidator.isValid(null));
+    }
+
+    public void testSpecialCharacters() {
+        assertFalse(mValidator.isValid("jane(doe)@example.com"));
+        assertFalse(mValidator.isValid("jane<doe>@example.com"));
+        assertFalse(mValidator.isValid("jane,doe@example.com"));
+        assertFalse(mValidator.isValid("jane;doe@example.com"));
+        assertFalse(mValidator.isValid("jane:doe@example.com"));
+        assertFalse(mValidator.isValid("jane[doe]@example.com"));
+        assertFalse(mValidator.isValid("jane\\doe@example.com"));
+        assertFalse(mValidator.isValid("jane\u0001doe@example.com"));
+        assertFalse(mValidator.isValid("jane\u007Fdoe@example.com"));
+    }
+
+    public void testQuotedUser() {
+        assertTrue(mValidator.isValid("\"jane doe\"@example.com"));
+        assertTrue(mValidator.isValid("\"jane@doe\"@example.com"));
+        assertTrue(mValidator.isValid("\"jane\".doe@example.com"));
+        assertTrue(mValidator.isValid("\"\"@example.com"));
+        assertFalse(mValidator.isValid("\"jane@example.com"));
+        assertFalse(mValidator.isValid("\"jane\"doe@example.com"));
+    }
+
+    public void testIpDomain() {
+        assertTrue(mValidator.isValid("jane@[192.168.0.1]"));
+        assertTrue(mValidator.isValid("jane@[::1]"));
+        assertFalse(mValidator.isValid("jane@[192.168.0]"));
+        assertFalse(mValidator.isValid("jane@[256.0.0.1]"));
+        assertFalse(mValidator.isValid("jane@[example.com]"));
+        assertFalse(mValidator.isValid("jane@[]"));
+        assertFalse(mValidator.isValid("jane@192.168.0.1"));
+    }
+
+    public void testLocalDomains() {
+        assertFalse(mValidator.isValid("jane@localhost"));
+        assertTrue(mLocalValidator.isValid("jane@localhost"));
+        assertTrue(mLocalValidator.isValid("jane@intranet"));
+        assertTrue(mLocalValidator.isValid("jane@server.localdomain"));
+        assertFalse(mValidator.isValid("jane@server.localdomain"));
+        assertTrue(mLocalValidator.isValid("jane@example.com"));
+    }
+
+    public void testWhitespace() {
+        assertTrue(mValidator.isValid(" jane@example.com"));
+        assertTrue(mValidator.isValid("jane@example.com "));
+        assertTrue(mValidator.isValid("\tjane@example.com\t"));
+        assertTrue(mValidator.isValid("\njane@example.com"));
+        assertTrue(mValidator.isValid("jane@example.com\n"));
+        assertFalse(mValidator.isValid("jane doe@example.com"));
+        assertFalse(mValidator.isValid("jane@exa mple.com"));
+        assertFalse(mValidator.isValid("jane@ example.com"));
+        assertFalse(mValidator.isValid("jane\n@example.com"));
+    }
+
+    public void testNonAsciiInput() {
+        assertTrue(mValidator.isValid("j\u00F6rg@example.com"));
+        assertTrue(mValidator.isValid("\u30E6\u30FC\u30B6\u30FC@\u4F8B\u3048.jp"));
+        assertTrue(mValidator.isValid("jane@b\u00FCcher.de"));
+        assertTrue(mValidator.isValid(
+                "jane@\u043F\u0440\u0435\u0437\u0438\u0434\u0435\u043D\u0442.\u0440\u0444"));
+        assertTrue(mValidator.isValid("jane@a\u05D0.com"));
+        assertFalse(mValidator.isValid("jane@b\u00FCcher.invalid"));
+
+        // Unicode white space is trimmed and separates words, like \s on Android
+        assertTrue(mValidator.isValid("\u00A0jane@example.com\u3000"));
+        assertTrue(mValidator.isValid("\u2028jane@example.com"));
+        assertTrue(mValidator.isValid("jane@example.com\u2028"));
+        assertFalse(mValidator.isValid("jane@exa\u2028mple.com"));
+        assertFalse(mValidator.isValid("jane\u00A0doe@example.com"));
+        assertFalse(mValidator.isValid("jane\u2003doe@example.com"));
+
+        // C1 control characters are not allowed in a user name
+        assertFalse(mValidator.isValid("jane\u0085doe@example.com"));
+        assertFalse(mValidator.isValid("jane\u009Fdoe@example.com"));
+        assertTrue(mValidator.isValid("jane\u00A9doe@example.com"));
+    }
+}
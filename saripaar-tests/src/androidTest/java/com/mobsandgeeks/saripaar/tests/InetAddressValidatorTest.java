@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import junit.framework.TestCase;
+
+import commons.validator.routines.InetAddressValidator;
+
+public class InetAddressValidatorTest extends TestCase {
+
+    // Attributes
+    private InetAddressValidator mValidator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mValidator = InetAddressValidator.getInstance();
+    }
+
+    public void testInet4Address() {
+        assertTrue(mValidator.isValid("0.0.0.0"));
+        assertTrue(mValidator.isValid("192.168.0.1"));
+        assertTrue(mValidator.isValid("255.255.255.255"));
+        assertFalse(mValidator.isValid("256.0.0.1"));
+        assertFalse(mValidator.isValid("192.168.0"));
+        assertFalse(mValidator.isValid("192.168.0.1."));
+        assertFalse(mValidator.isValid(".192.168.0.1"));
+        assertFalse(mValidator.isValid("192.168..1"));
+        assertFalse(mValidator.isValid("192.168.0.1.1"));
+        assertFalse(mValidator.isValid("192.168.00.1"));
+        assertFalse(mValidator.isValid("1921.168.0.1"));
+        assertFalse(mValidator.isValid("192.168.0.-1"));
+        assertFalse(mValidator.isValid(" 192.168.0.1"));
+        assertFalse(mValidator.isValid(""));
+        assertFalse(mValidator.isValid(null));
+    }
+
+    public void testInet6Address() {
+        assertTrue(mValidator.isValid("2001:0db8:85a3:0000:0000:8a2e:0370:7334"));
+        assertTrue(mValidator.isValid("2001:db8:85a3:0:0:8a2e:370:7334"));
+        assertTrue(mValidator.isValid("FE80::0202:B3FF:FE1E:8329"));
+        assertFalse(mValidator.isValid("2001:db8:85a3:0:0:8a2e:370"));
+        assertFalse(mValidator.isValid("2001:db8:85a3:0:0:8a2e:370:7334:1"));
+        assertFalse(mValidator.isValid("2001:db8:85a3:0:0:8a2e:370:7334:"));
+        assertFalse(mValidator.isValid(":2001:db8:85a3:0:0:8a2e:370:7334"));
+        assertFalse(mValidator.isValid("2001:db8:85a3:00000:0:8a2e:370:7334"));
+        assertFalse(mValidator.isValid("2001:db8:85g3:0:0:8a2e:370:7334"));
+    }
+
+    public void testCompressedInet6Address() {
+        assertTrue(mValidator.isValid("::"));
+        assertTrue(mValidator.isValid("::1"));
+        assertTrue(mValidator.isValid("1::"));
+        assertTrue(mValidator.isValid("2001:db8::1"));
+        assertTrue(mValidator.isValid("2001:db8:85a3::8a2e:370:7334"));
+        assertTrue(mValidator.isValid("1:2:3:4:5:6:7::"));
+        assertTrue(mValidator.isValid("::2:3:4:5:6:7:8"));
+        assertFalse(mValidator.isValid(":"));
+        assertFalse(mValidator.isValid(":::"));
+        assertFalse(mValidator.isValid("1:::2"));
+        assertFalse(mValidator.isValid("1::2::3"));
+        assertFalse(mValidator.isValid("::1:2:3:4:5:6:7:8"));
+        assertFalse(mValidator.isValid("1:2:3:4:5:6:7:8::"));
+        assertFalse(mValidator.isValid(":1::2"));
+        assertFalse(mValidator.isValid("1::2:"));
+    }
+
+    public void testEmbeddedInet4Address() {
+        assertTrue(mValidator.isValid("::192.168.0.1"));
+        assertTrue(mValidator.isValid("::ffff:192.168.0.1"));
+        assertTrue(mValidator.isValid("0:0:0:0:0:ffff:192.168.0.1"));
+        assertTrue(mValidator.isValid("64:ff9b::192.0.2.33"));
+        assertFalse(mValidator.isValid("0:0:0:0:0:0:ffff:192.168.0.1"));
+        assertFalse(mValidator.isValid("::ffff:192.168.0.256"));
+        assertFalse(mValidator.isValid("::ffff:192.168.0"));
+        assertFalse(mValidator.isValid("::192.168.0.1:ffff"));
+        assertFalse(mValidator.isValid("::ffff:192.168.0.1::"));
+        assertFalse(mValidator.isValid("192.168.0.1::"));
+    }
+
+    public void testCidrAddress() {
+        assertTrue(mValidator.isValidCidrAddress("192.168.0.0/24"));
+        assertTrue(mValidator.isValidCidrAddress("0.0.0.0/0"));
+        assertTrue(mValidator.isValidCidrAddress("10.0.0.1/32"));
+        assertTrue(mValidator.isValidCidrAddress("2001:db8::/32"));
+        assertTrue(mValidator.isValidCidrAddress("::/0"));
+        assertTrue(mValidator.isValidCidrAddress("::1/128"));
+        assertTrue(mValidator.isValidCidrAddress("::ffff:192.168.0.0/120"));
+        assertFalse(mValidator.isValidCidrAddress("10.0.0.1/33"));
+        assertFalse(mValidator.isValidCidrAddress("::1/129"));
+        assertFalse(mValidator.isValidCidrAddress("192.168.0.0"));
+        assertFalse(mValidator.isValidCidrAddress("192.168.0.0/"));
+        assertFalse(mValidator.isValidCidrAddress("192.168.0.0/-1"));
+        assertFalse(mValidator.isValidCidrAddress("192.168.0.0/+8"));
+        assertFalse(mValidator.isValidCidrAddress("192.168.0.0/24/8"));
+        assertFalse(mValidator.isValidCidrAddress("/24"));
+        assertFalse(mValidator.isValidCidrAddress(null));
+        assertFalse(mValidator.isValid("192.168.0.0/24"));
+    }
+
+    public void testNonAsciiDigits() {
+        assertFalse(mValidator.isValid("\u0661\u0669\u0662.168.0.1"));
+        assertFalse(mValidator.isValid("192.168.0.\uFF11"));
+        assertFalse(mValidator.isValid("::\u0661"));
+        assertFalse(mValidator.isValid("2001:db8::\uFF41"));
+        assertFalse(mValidator.isValidCidrAddress("192.168.0.0/\u0662\u0664"));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.ActivityInstrumentationTestCase2;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.tests.ui.IntegerRangeActivity;
+
+public class IntegerRangeTest extends ActivityInstrumentationTestCase2<IntegerRangeActivity> {
+
+    // UI References
+    private TextView mResultTextView;
+
+    public IntegerRangeTest() {
+        super(IntegerRangeActivity.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mResultTextView = (TextView) getActivity().findViewById(R.id.resultTextView);
+    }
+
+    public void testLimits_success() {
+        EspressoHelper.type(R.id.temperatureEditText, "-40");
+        EspressoHelper.type(R.id.populationEditText, "2147483647");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testNegativeBelowMin() {
+        EspressoHelper.type(R.id.temperatureEditText, "-41");
+        EspressoHelper.type(R.id.populationEditText, "0");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_TEMPERATURE, mResultTextView);
+    }
+
+    public void testOverflowAboveMax() {
+        EspressoHelper.type(R.id.temperatureEditText, "50");
+        EspressoHelper.type(R.id.populationEditText, "2147483648");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_POPULATION, mResultTextView);
+    }
+
+    public void testNegativeOverflow() {
+        EspressoHelper.type(R.id.temperatureEditText, "-2147483649");
+        EspressoHelper.type(R.id.populationEditText, "-2147483648");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_TEMPERATURE, mResultTextView);
+    }
+}
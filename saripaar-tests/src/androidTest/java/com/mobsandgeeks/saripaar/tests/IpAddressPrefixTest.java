@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.ActivityInstrumentationTestCase2;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.tests.ui.IpAddressPrefixActivity;
+
+public class IpAddressPrefixTest extends ActivityInstrumentationTestCase2<IpAddressPrefixActivity> {
+
+    // UI References
+    private TextView mResultTextView;
+
+    public IpAddressPrefixTest() {
+        super(IpAddressPrefixActivity.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mResultTextView = (TextView) getActivity().findViewById(R.id.resultTextView);
+    }
+
+    public void testAddressesWithoutPrefix() {
+        EspressoHelper.type(R.id.ipAddressEditText, "192.168.0.1");
+        EspressoHelper.type(R.id.networkEditText, "192.168.0.0");
+        EspressoHelper.type(R.id.allowedHostsEditText, "::1");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_NETWORK, mResultTextView);
+    }
+
+    public void testAddressesWithPrefix() {
+        EspressoHelper.type(R.id.ipAddressEditText, "192.168.0.1/32");
+        EspressoHelper.type(R.id.networkEditText, "2001:db8::/32");
+        EspressoHelper.type(R.id.allowedHostsEditText, "10.0.0.0/8");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_IP_ADDRESS, mResultTextView);
+    }
+
+    public void testPrefixOutOfRange() {
+        EspressoHelper.type(R.id.ipAddressEditText, "192.168.0.1");
+        EspressoHelper.type(R.id.networkEditText, "192.168.0.0/33");
+        EspressoHelper.type(R.id.allowedHostsEditText, "::/129");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        String text = String.format("%s %s",
+                Constants.FIELD_NETWORK, Constants.FIELD_ALLOWED_HOSTS);
+        EspressoHelper.checkForText(text, mResultTextView);
+    }
+
+    public void testValidAddresses_success() {
+        EspressoHelper.type(R.id.ipAddressEditText, "::ffff:192.168.0.1");
+        EspressoHelper.type(R.id.networkEditText, "192.168.0.0/24");
+        EspressoHelper.type(R.id.allowedHostsEditText, "fe80::1");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.ActivityInstrumentationTestCase2;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.tests.ui.LocaleNumberAdaptersActivity;
+
+public class LocaleNumberAdaptersTest
+        extends ActivityInstrumentationTestCase2<LocaleNumberAdaptersActivity> {
+
+    // UI References
+    private TextView mResultTextView;
+
+    public LocaleNumberAdaptersTest() {
+        super(LocaleNumberAdaptersActivity.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mResultTextView = (TextView) getActivity().findViewById(R.id.resultTextView);
+    }
+
+    public void testGermanNumbers_success() {
+        EspressoHelper.type(R.id.amountEditText, "1.234");
+        EspressoHelper.type(R.id.weightEditText, "1.000,5");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testSurroundingSpaces_success() {
+        EspressoHelper.type(R.id.amountEditText, " 1.000 ");
+        EspressoHelper.type(R.id.weightEditText, " 0,5 ");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
+    }
+
+    public void testOutOfRange() {
+        EspressoHelper.type(R.id.amountEditText, "999");
+        EspressoHelper.type(R.id.weightEditText, "1.000,6");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        String text = String.format("%s %s", Constants.FIELD_AMOUNT, Constants.FIELD_WEIGHT);
+        EspressoHelper.checkForText(text, mResultTextView);
+    }
+
+    public void testNotANumber() {
+        EspressoHelper.type(R.id.amountEditText, "1,5");
+        EspressoHelper.type(R.id.weightEditText, "5");
+        EspressoHelper.clickView(R.id.saripaarButton);
+        EspressoHelper.checkForText(Constants.FIELD_AMOUNT, mResultTextView);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.tests;
+
+import android.test.AndroidTestCase;
+import android.widget.EditText;
+
+import com.mobsandgeeks.saripaar.adapter.ConversionFailure;
+import com.mobsandgeeks.saripaar.adapter.IntViewDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewDoubleAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewFloatAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewIntegerAdapter;
+
+public class NumberAdaptersTest extends AndroidTestCase {
+
+    // Decimals on both sides of the exact fast path, it ends at 18 digits and exponents of 22
+    private static final String[] DECIMALS = {
+        "0", "-0", "+1", "42", " 42 ", "-42.5", ".5", "-.5e+3", "1E3",
+        "9007199254740992", "9007199254740993", "16777216", "16777217",
+        "1234567890123456789", "12345678901234567890", "0.1234567890123456789012",
+        "0.000000000000000000001234567890123456789", "123456789012345678.9",
+        "1e22", "1e23", "1e-22", "1e-23", "123456789e-30", "4.9e-324", "2.5e-324", "1e-400",
+        "1.7976931348623157e308", "1.7976931348623159e308", "1e309",
+        "3.4028235e38", "3.4028236e38", "1.4e-45", "1e10", "1e11", "1e-10", "1e-11",
+        "00000000000000000000000000001", "1e0000000000000000000000000001"
+    };
+
+    // Attributes
+    private EditText mEditText;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mEditText = new EditText(getContext());
+    }
+
+    public void testInteger() {
+        assertEquals(42, convertInteger("42"));
+        assertEquals(42, convertInteger(" 42\t"));
+        assertEquals(-42, convertInteger("-42"));
+        assertEquals(42, convertInteger("+42"));
+        assertEquals(Integer.MAX_VALUE, convertInteger("2147483647"));
+        assertEquals(Integer.MIN_VALUE, convertInteger("-2147483648"));
+        assertEquals(7, convertInteger("0000000000000000000007"));
+    }
+
+    public void testIntegerOutOfRange() {
+        assertEquals(ConversionFailure.INTEGER_OUT_OF_RANGE, convertInteger("2147483648"));
+        assertEquals(ConversionFailure.INTEGER_OUT_OF_RANGE, convertInteger("-2147483649"));
+        assertEquals(ConversionFailure.INTEGER_OUT_OF_RANGE,
+                convertInteger("99999999999999999999999"));
+    }
+
+    public void testNotAnInteger() {
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger(""));
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger("  "));
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger("-"));
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger("4 2"));
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger("--42"));
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger("42.0"));
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger("0x2A"));
+        assertEquals(IntViewDataAdapter.CONVERSION_FAILED, getIntData("abc"));
+    }
+
+    public void testNonAsciiInteger() {
+        assertEquals(42, convertInteger("\u0664\u0662"));
+        assertEquals(-42, convertInteger("-\u06F4\u06F2"));
+        assertEquals(42, convertInteger("\uFF14\uFF12"));
+        assertEquals(42L, getIntData("\u0664\u0662"));
+        assertEquals(ConversionFailure.NOT_AN_INTEGER, convertInteger("\u0664\u0662a"));
+    }
+
+    public void testDouble() {
+        TextViewDoubleAdapter adapter = new TextViewDoubleAdapter();
+        for (String decimal : DECIMALS) {
+            mEditText.setText(decimal);
+            Double expected = Double.parseDouble(decimal.trim());
+            assertEquals(decimal, expected, adapter.convert(mEditText));
+            assertEquals(decimal, expected, adapter.getDoubleData(mEditText), 0);
+        }
+    }
+
+    public void testFloat() {
+        TextViewFloatAdapter adapter = new TextViewFloatAdapter();
+        for (String decimal : DECIMALS) {
+            mEditText.setText(decimal);
+            assertEquals(decimal, Float.parseFloat(decimal.trim()), adapter.convert(mEditText));
+        }
+    }
+
+    public void testNotADecimal() {
+        String[] notDecimals = { "", ".", "-", "+.", "5.", "1e", "e5", "1e+", "1.2.3", "1,5",
+                "\u0664\u0662", "NaN", "Infinity", "0x1p3", "1d", "1f", "1 000" };
+        TextViewDoubleAdapter doubleAdapter = new TextViewDoubleAdapter();
+        TextViewFloatAdapter floatAdapter = new TextViewFloatAdapter();
+        for (String notDecimal : notDecimals) {
+            mEditText.setText(notDecimal);
+            assertEquals(notDecimal, ConversionFailure.NOT_A_DECIMAL,
+                    doubleAdapter.convert(mEditText));
+            assertEquals(notDecimal, ConversionFailure.NOT_A_DECIMAL,
+                    floatAdapter.convert(mEditText));
+            assertTrue(notDecimal, Double.isNaN(doubleAdapter.getDoubleData(mEditText)));
+        }
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private Object convertInteger(final String text) {
+        mEditText.setText(text);
+        return new TextViewIntegerAdapter().convert(mEditText);
+    }
+
+    private long getIntData(final String text) {
+        mEditText.setText(text);
+        return new TextViewIntegerAdapter().getIntData(mEditText);
+    }
+}
@@ -61,6 +61,19 @@ public class OrderedValidateTillTest
         EspressoHelper.checkForText(Constants.STATE_SUCCESS, mResultTextView);
     }
 
+    public void testBurstValidateTillDisabledView() {
+        // A disabled target is skipped, so errors after it are reported too
+        EspressoHelper.clickView(R.id.disableAddressCheckBox);
+        String text = String.format("%s %s %s %s",
+                Constants.FIELD_NAME, Constants.FIELD_EMAIL,
+                Constants.FIELD_PHONE, Constants.FIELD_PHONE);
+        EspressoHelper.checkForText(text, mResultTextView);
+
+        EspressoHelper.type(R.id.nameEditText, Constants.NAME);
+        EspressoHelper.clickView(R.id.disableAddressCheckBox);
+        EspressoHelper.checkForText(Constants.FIELD_ADDRESS, mResultTextView);
+    }
+
     /* ============================================================================
      *  IMMEDIATE Mode
      * ============================================================================
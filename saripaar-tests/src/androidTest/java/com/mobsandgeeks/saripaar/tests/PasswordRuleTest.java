@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.tests;
+
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.rule.PasswordRule;
+
+import junit.framework.TestCase;
+
+import java.lang.reflect.Field;
+
+public class PasswordRuleTest extends TestCase {
+
+    // Passwords typed on non-English keyboards, checked on the device's regular expressions
+    private static final String[] PASSWORDS = {
+        "password", "Password", "Passw0rd", "Passw0rd!", "passw0rd_", "123456", "pass word",
+        "p\u00E4sswort", "P\u00E4ssw0rd", "P\u00E4ssw0rd!", "pa\u0308sswort",
+        "\u0661\u0662\u0663\u0664", "pass\u0661\u0662", "Pass\u0661\u0662",
+        "Pass\u0661\u0662#", "\u043F\u0430\u0440\u043E\u043B\u044C", "\u5BC6\u7801\u5BC6\u7801",
+        "Pass1\u00A7", "Pass1\u2028", "Pass1\uD835\uDC00", "\uD835\uDC00\uD835\uDC01",
+        "\uD83D\uDE00Pass1", "\u24B6\u24B7Pass1"
+    };
+
+    // Fields
+    @Password(min = 1, scheme = Password.Scheme.ANY)
+    private Object mAny;
+
+    @Password(min = 1, scheme = Password.Scheme.ALPHA)
+    private Object mAlpha;
+
+    @Password(min = 1, scheme = Password.Scheme.ALPHA_MIXED_CASE)
+    private Object mAlphaMixedCase;
+
+    @Password(min = 1, scheme = Password.Scheme.NUMERIC)
+    private Object mNumeric;
+
+    @Password(min = 1, scheme = Password.Scheme.ALPHA_NUMERIC)
+    private Object mAlphaNumeric;
+
+    @Password(min = 1, scheme = Password.Scheme.ALPHA_NUMERIC_MIXED_CASE)
+    private Object mAlphaNumericMixedCase;
+
+    @Password(min = 1, scheme = Password.Scheme.ALPHA_NUMERIC_SYMBOLS)
+    private Object mAlphaNumericSymbols;
+
+    @Password(min = 1, scheme = Password.Scheme.ALPHA_NUMERIC_MIXED_CASE_SYMBOLS)
+    private Object mAlphaNumericMixedCaseSymbols;
+
+    public void testNonAsciiLetters() throws Exception {
+        assertTrue(newRule("mAlpha", false).isValid("p\u00E4sswort"));
+        assertTrue(newRule("mAlpha", false).isValid("\u043F\u0430\u0440\u043E\u043B\u044C"));
+        assertTrue(newRule("mAlpha", false).isValid("pa\u0308sswort"));
+        assertFalse(newRule("mAlphaNumericSymbols", false).isValid("p\u00E4ssw0rd"));
+        assertTrue(newRule("mAlphaNumericSymbols", false).isValid("p\u00E4ssw0rd!"));
+    }
+
+    public void testNonAsciiDigits() throws Exception {
+        assertTrue(newRule("mNumeric", false).isValid("\u0661\u0662\u0663\u0664"));
+        assertTrue(newRule("mNumeric", false).isValid("\u06F4\u06F2"));
+        assertTrue(newRule("mAlphaNumeric", false).isValid("pass\u0661\u0662"));
+        assertFalse(newRule("mNumeric", false).isValid("\u0661\u0662a"));
+    }
+
+    public void testScannerMatchesRegex() throws Exception {
+        Field[] fields = getClass().getDeclaredFields();
+        for (Field field : fields) {
+            if (!field.isAnnotationPresent(Password.class)) {
+                continue;
+            }
+
+            PasswordRule scannerRule = newRule(field.getName(), false);
+            PasswordRule regexRule = newRule(field.getName(), true);
+            for (String password : PASSWORDS) {
+                assertEquals(field.getName() + " " + password,
+                        regexRule.isValid(password), scannerRule.isValid(password));
+            }
+        }
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private PasswordRule newRule(final String fieldName, final boolean useRegex)
+            throws NoSuchFieldException {
+        Password password = getClass().getDeclaredField(fieldName).getAnnotation(Password.class);
+        return new PasswordRule(password, useRegex) {};
+    }
+}
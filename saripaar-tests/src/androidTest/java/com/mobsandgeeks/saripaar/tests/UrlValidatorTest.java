@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.tests;
+
+import junit.framework.TestCase;
+
+import commons.validator.routines.UrlValidator;
+
+public class UrlValidatorTest extends TestCase {
+
+    // Attributes
+    private UrlValidator mUrlValidator;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mUrlValidator = new UrlValidator();
+    }
+
+    public void testNonAsciiPath() {
+        assertTrue(mUrlValidator.isValid("http://ja.wikipedia.org/wiki/\u6771\u4EAC"));
+        assertTrue(mUrlValidator.isValid("http://example.com/caf\u00E9"));
+        assertTrue(mUrlValidator.isValid("http://example.com/cafe\u0301"));
+        assertTrue(mUrlValidator.isValid(
+                "http://hi.wikipedia.org/wiki/\u0939\u093F\u0928\u094D\u0926\u0940"));
+        assertTrue(mUrlValidator.isValid("http://example.com/\u0661\u0662\u0663"));
+        assertTrue(mUrlValidator.isValid("http://example.com/\uD835\uDC00"));
+        assertFalse(mUrlValidator.isValid("http://example.com/price/\u20AC"));
+        assertFalse(mUrlValidator.isValid("http://example.com/\uD83D\uDE00"));
+        assertFalse(mUrlValidator.isValid("http://example.com/a\u00A0b"));
+    }
+
+    public void testNonAsciiHost() {
+        assertTrue(mUrlValidator.isValid(
+                "http://\u043F\u0440\u0435\u0437\u0438\u0434\u0435\u043D\u0442.\u0440\u0444/"));
+        assertTrue(mUrlValidator.isValid("http://\u4F8B\u3048.jp/\u30D1\u30B9"));
+        assertFalse(mUrlValidator.isValid("http://\u4F8B\u3048.invalidtld/"));
+
+        // Hosts that do not convert to punycode are checked as they are, like on Android before
+        assertTrue(mUrlValidator.isValid("http://a\u05D0.com/"));
+        assertTrue(mUrlValidator.isValid("http://a\u05D0.\u0440\u0444:8080/caf\u00E9"));
+        assertTrue(mUrlValidator.isValid("http://a\u05D0.com:\u0668\u0660/"));
+        assertFalse(mUrlValidator.isValid("http://a\u05D0.invalidtld/"));
+        assertFalse(mUrlValidator.isValid("http://a\u05D0-.com/"));
+        assertFalse(mUrlValidator.isValid("http://a\u05D0.com:\u20AC/"));
+    }
+
+    public void testPath() {
+        assertTrue(mUrlValidator.isValid("http://www.google.com"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com/"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com/test1/file"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com/t123/$-_.+!*'(),;:@&=~%20"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com/test1/../file"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com/../file"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com/../../file"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com//file"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com/a b"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com/<a>"));
+        assertTrue(new UrlValidator(UrlValidator.ALLOW_2_SLASHES)
+                .isValid("http://www.google.com//file"));
+    }
+
+    public void testAuthority() {
+        assertTrue(mUrlValidator.isValid("http://www.google.com:80/"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com:65535/"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com:123456/"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com:/"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com:-1/"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com:80a/"));
+        assertTrue(mUrlValidator.isValid("http://192.168.0.1/"));
+        assertTrue(mUrlValidator.isValid("http://255.255.255.255:8080/"));
+        assertFalse(mUrlValidator.isValid("http://256.255.255.255/"));
+        assertFalse(mUrlValidator.isValid("http://www..google.com/"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com./"));
+        assertFalse(mUrlValidator.isValid("http:///"));
+        assertFalse(mUrlValidator.isValid("http://localhost/"));
+        assertTrue(new UrlValidator(UrlValidator.ALLOW_LOCAL_URLS).isValid("http://localhost/"));
+    }
+
+    public void testLabelAndNameBoundaries() {
+        String label63 = repeat('a', 63);
+        String label64 = repeat('a', 64);
+        assertTrue(mUrlValidator.isValid("http://" + label63 + ".com/"));
+        assertFalse(mUrlValidator.isValid("http://" + label64 + ".com/"));
+
+        // The trailing dot counts towards the length
+        String name253 = repeat(label63 + ".", 3) + repeat('a', 57) + ".com";
+        assertEquals(253, name253.length());
+        assertTrue(mUrlValidator.isValid("http://" + name253 + "/"));
+        assertFalse(mUrlValidator.isValid("http://" + name253 + "./"));
+        assertFalse(mUrlValidator.isValid("http://a" + name253 + "/"));
+    }
+
+    public void testScheme() {
+        assertTrue(mUrlValidator.isValid("HTTP://www.google.com/"));
+        assertTrue(mUrlValidator.isValid("ftp://www.google.com/"));
+        assertFalse(mUrlValidator.isValid("gopher://www.google.com/"));
+        assertFalse(mUrlValidator.isValid("://www.google.com/"));
+        assertFalse(mUrlValidator.isValid("www.google.com/"));
+        assertTrue(new UrlValidator(UrlValidator.ALLOW_ALL_SCHEMES)
+                .isValid("git+ssh://www.google.com/"));
+        assertFalse(new UrlValidator(UrlValidator.ALLOW_ALL_SCHEMES)
+                .isValid("1http://www.google.com/"));
+        assertTrue(new UrlValidator(new String[] { "file" }).isValid("file:///etc/hosts"));
+    }
+
+    public void testQueryAndFragment() {
+        assertTrue(mUrlValidator.isValid("http://www.google.com/?action=view"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com/?q=\u6771\u4EAC&x= y"));
+        assertTrue(mUrlValidator.isValid("http://www.google.com/#top"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com/?q=a\nb"));
+        assertFalse(mUrlValidator.isValid("http://www.google.com/#a\u2028b"));
+        assertFalse(new UrlValidator(UrlValidator.NO_FRAGMENTS)
+                .isValid("http://www.google.com/#top"));
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static String repeat(final char c, final int count) {
+        return repeat(String.valueOf(c), count);
+    }
+
+    private static String repeat(final String s, final int count) {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            stringBuilder.append(s);
+        }
+        return stringBuilder.toString();
+    }
+}
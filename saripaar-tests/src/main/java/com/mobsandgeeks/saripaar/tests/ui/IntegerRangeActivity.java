@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests.ui;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.tests.R;
+
+import java.util.List;
+
+/**
+ * This {@link android.app.Activity} is used for testing the
+ * {@link com.mobsandgeeks.saripaar.annotation.Min} and
+ * {@link com.mobsandgeeks.saripaar.annotation.Max} annotations with negative integers and
+ * integers that do not fit in an {@code int}.
+ */
+public class IntegerRangeActivity extends Activity
+        implements Validator.ValidationListener, View.OnClickListener {
+
+    // Fields
+    @Min(-40)
+    @Max(50)
+    private EditText mTemperatureEditText;
+
+    @Max(Integer.MAX_VALUE)
+    private EditText mPopulationEditText;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_integer_range);
+
+        // UI References
+        mTemperatureEditText = (EditText) findViewById(R.id.temperatureEditText);
+        mPopulationEditText = (EditText) findViewById(R.id.populationEditText);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+
+        // Validator
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+
+        // Event listeners
+        saripaarButton.setOnClickListener(this);
+    }
+
+    @Override
+    public void onClick(View v) {
+        mValidator.validate();
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        mResultTextView.setText(Common.getFailedFieldNames(errors));
+    }
+}
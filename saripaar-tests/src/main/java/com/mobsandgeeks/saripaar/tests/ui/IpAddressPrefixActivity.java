@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests.ui;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.IpAddress;
+import com.mobsandgeeks.saripaar.tests.R;
+
+import java.util.List;
+
+/**
+ * This {@link android.app.Activity} is used for testing the
+ * {@link com.mobsandgeeks.saripaar.annotation.IpAddress#prefix()} attribute.
+ */
+public class IpAddressPrefixActivity extends Activity
+        implements Validator.ValidationListener, View.OnClickListener {
+
+    // Fields
+    @IpAddress
+    private EditText mIpAddressEditText;
+
+    @IpAddress(prefix = IpAddress.Prefix.REQUIRED)
+    private EditText mNetworkEditText;
+
+    @IpAddress(prefix = IpAddress.Prefix.OPTIONAL)
+    private EditText mAllowedHostsEditText;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_ip_address_prefix);
+
+        // UI References
+        mIpAddressEditText = (EditText) findViewById(R.id.ipAddressEditText);
+        mNetworkEditText = (EditText) findViewById(R.id.networkEditText);
+        mAllowedHostsEditText = (EditText) findViewById(R.id.allowedHostsEditText);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+
+        // Validator
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+
+        // Event listeners
+        saripaarButton.setOnClickListener(this);
+    }
+
+    @Override
+    public void onClick(View v) {
+        mValidator.validate();
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        mResultTextView.setText(Common.getFailedFieldNames(errors));
+    }
+}
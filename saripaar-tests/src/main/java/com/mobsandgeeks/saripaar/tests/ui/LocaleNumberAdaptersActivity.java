@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobsandgeeks.saripaar.tests.ui;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.adapter.TextViewLocaleDoubleAdapter;
+import com.mobsandgeeks.saripaar.adapter.TextViewLocaleIntegerAdapter;
+import com.mobsandgeeks.saripaar.annotation.DecimalMax;
+import com.mobsandgeeks.saripaar.annotation.DecimalMin;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.tests.R;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * This {@link android.app.Activity} is used for testing the
+ * {@link com.mobsandgeeks.saripaar.adapter.TextViewLocaleIntegerAdapter} and
+ * {@link com.mobsandgeeks.saripaar.adapter.TextViewLocaleDoubleAdapter} with numbers written
+ * in German, like "1.234,5".
+ */
+public class LocaleNumberAdaptersActivity extends Activity
+        implements Validator.ValidationListener, View.OnClickListener {
+
+    // Fields
+    @Min(1000)
+    private EditText mAmountEditText;
+
+    @DecimalMin(0.5)
+    @DecimalMax(1000.5)
+    private EditText mWeightEditText;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_locale_number_adapters);
+
+        // UI References
+        mAmountEditText = (EditText) findViewById(R.id.amountEditText);
+        mWeightEditText = (EditText) findViewById(R.id.weightEditText);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+
+        // Validator
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+        mValidator.replaceAdapter(TextView.class,
+                new TextViewLocaleIntegerAdapter(Locale.GERMANY));
+        mValidator.replaceAdapter(TextView.class,
+                new TextViewLocaleDoubleAdapter(Locale.GERMANY));
+
+        // Event listeners
+        saripaarButton.setOnClickListener(this);
+    }
+
+    @Override
+    public void onClick(View v) {
+        mValidator.validate();
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        mResultTextView.setText(Common.getFailedFieldNames(errors));
+    }
+}
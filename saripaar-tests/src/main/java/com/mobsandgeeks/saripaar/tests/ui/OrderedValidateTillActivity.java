@@ -17,6 +17,8 @@ package com.mobsandgeeks.saripaar.tests.ui;
 import android.app.Activity;
 import android.os.Bundle;
 import android.view.View;
+import android.widget.CheckBox;
+import android.widget.CompoundButton;
 import android.widget.EditText;
 import android.widget.RadioGroup;
 import android.widget.TextView;
@@ -34,11 +36,11 @@ import java.util.List;
 /**
  * This {@link android.app.Activity} is used for testing the
  * {@link com.mobsandgeeks.saripaar.Validator#validateTill(android.view.View)} method on
- * 'ordered' fields.
+ * 'ordered' fields, including a target view that is disabled.
  */
 public class OrderedValidateTillActivity extends Activity
         implements Validator.ValidationListener, RadioGroup.OnCheckedChangeListener,
-                View.OnFocusChangeListener {
+                View.OnFocusChangeListener, CompoundButton.OnCheckedChangeListener {
 
     // Fields
     @NotEmpty
@@ -66,7 +68,7 @@ public class OrderedValidateTillActivity extends Activity
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_un_ordered_validate_till_before);
+        setContentView(R.layout.activity_ordered_validate_till);
 
         // UI References
         mNameEditText = (EditText) findViewById(R.id.nameEditText);
@@ -75,6 +77,7 @@ public class OrderedValidateTillActivity extends Activity
         mPhoneEditText = (EditText) findViewById(R.id.phoneEditText);
         mResultTextView = (TextView) findViewById(R.id.resultTextView);
         RadioGroup modeRadioGroup = (RadioGroup) findViewById(R.id.modeRadioGroup);
+        CheckBox disableAddressCheckBox = (CheckBox) findViewById(R.id.disableAddressCheckBox);
 
         // Validator
         mValidator = new Validator(this);
@@ -86,6 +89,7 @@ public class OrderedValidateTillActivity extends Activity
         mEmailEditText.setOnFocusChangeListener(this);
         mPhoneEditText.setOnFocusChangeListener(this);
         modeRadioGroup.setOnCheckedChangeListener(this);
+        disableAddressCheckBox.setOnCheckedChangeListener(this);
     }
 
     @Override
@@ -111,6 +115,13 @@ public class OrderedValidateTillActivity extends Activity
         }
     }
 
+    @Override
+    public void onCheckedChanged(CompoundButton compoundButton, boolean checked) {
+        // Disabled views are skipped, validate till one of them
+        mAddressEditText.setEnabled(!checked);
+        mValidator.validateTill(mAddressEditText);
+    }
+
     @Override
     public void onFocusChange(View v, boolean hasFocus) {
         if (hasFocus) {
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.tests.ui;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.RadioGroup;
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.RuleFactory;
+import com.mobsandgeeks.saripaar.ValidationContext;
+import com.mobsandgeeks.saripaar.ValidationError;
+import com.mobsandgeeks.saripaar.Validator;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Order;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.tests.R;
+import com.mobsandgeeks.saripaar.tests.ui.validation.Traced;
+import com.mobsandgeeks.saripaar.tests.ui.validation.TracedRule;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * This {@link android.app.Activity} is used for testing the
+ * {@link com.mobsandgeeks.saripaar.Validator#validate()} method on 'ordered' fields that are
+ * read by a generated {@link com.mobsandgeeks.saripaar.ValidationPlan}. Fields are package-private,
+ * so that the annotation processor can generate a plan for this controller. The
+ * {@link com.mobsandgeeks.saripaar.tests.ui.validation.Traced} annotation records the annotation
+ * instance the {@link com.mobsandgeeks.saripaar.Validator} creates rules for, so tests can tell
+ * whether it came from the plan.
+ */
+public class ValidationPlanActivity extends Activity
+        implements Validator.ValidationListener, RadioGroup.OnCheckedChangeListener {
+
+    // Fields
+    @NotEmpty
+    @Traced
+    @Order(1)
+    EditText mNameEditText;
+
+    @NotEmpty
+    @Order(2)
+    EditText mAddressEditText;
+
+    @Email
+    @Order(3)
+    EditText mEmailEditText;
+
+    @NotEmpty
+    @Length(min = 10, max = 10)
+    @Order(4)
+    EditText mPhoneEditText;
+
+    private TextView mResultTextView;
+
+    // Attributes
+    private Validator mValidator;
+    private Annotation mTracedAnnotation;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_un_ordered_validate);
+
+        // UI References
+        mNameEditText = (EditText) findViewById(R.id.nameEditText);
+        mAddressEditText = (EditText) findViewById(R.id.addressEditText);
+        mEmailEditText = (EditText) findViewById(R.id.emailEditText);
+        mPhoneEditText = (EditText) findViewById(R.id.phoneEditText);
+        mResultTextView = (TextView) findViewById(R.id.resultTextView);
+        RadioGroup modeRadioGroup = (RadioGroup) findViewById(R.id.modeRadioGroup);
+        Button saripaarButton = (Button) findViewById(R.id.saripaarButton);
+
+        // Validator
+        Validator.registerAnnotation(Traced.class, new RuleFactory<Traced>() {
+
+            @Override
+            public AnnotationRule<Traced, ?> newRule(Traced traced,
+                    ValidationContext validationContext) {
+                mTracedAnnotation = traced;
+                return new TracedRule(traced);
+            }
+        });
+        mValidator = new Validator(this);
+        mValidator.setValidationListener(this);
+
+        // Event listeners
+        modeRadioGroup.setOnCheckedChangeListener(this);
+        saripaarButton.setOnClickListener(new View.OnClickListener() {
+
+            @Override
+            public void onClick(View v) {
+                mValidator.validate();
+            }
+        });
+    }
+
+    public Annotation getTracedAnnotation() {
+        return mTracedAnnotation;
+    }
+
+    @Override
+    public void onValidationSucceeded() {
+        mResultTextView.setText(R.string.success);
+    }
+
+    @Override
+    public void onValidationFailed(List<ValidationError> errors) {
+        mResultTextView.setText(Common.getFailedFieldNames(errors));
+    }
+
+    @Override
+    public void onCheckedChanged(RadioGroup group, int checkedId) {
+        switch (checkedId) {
+            case R.id.burstRadioButton:
+                mValidator.setValidationMode(Validator.Mode.BURST);
+                break;
+
+            case R.id.immediateRadioButton:
+                mValidator.setValidationMode(Validator.Mode.IMMEDIATE);
+                break;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+# Rules applied to apps that use Saripaar.
+
+# Generated validation plans are instantiated using reflection and found using the name of their
+# controller.
+-keep class **_ValidationPlan { <init>(); }
+-if class **_ValidationPlan
+-keepnames class <1>
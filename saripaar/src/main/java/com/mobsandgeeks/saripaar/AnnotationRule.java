@@ -35,6 +35,8 @@ public abstract class AnnotationRule<RULE_ANNOTATION extends Annotation, DATA_TY
         extends Rule<DATA_TYPE> {
 
     protected final RULE_ANNOTATION mRuleAnnotation;
+    private final String mMessage;
+    private final int mMessageResId;
 
     /**
      * Constructor. It is mandatory that all subclasses MUST have a constructor with the same
@@ -50,6 +52,9 @@ public abstract class AnnotationRule<RULE_ANNOTATION extends Annotation, DATA_TY
             throw new IllegalArgumentException("'ruleAnnotation' cannot be null.");
         }
         mRuleAnnotation = ruleAnnotation;
+        mMessage = Reflector.getAttributeValue(ruleAnnotation, "message", String.class);
+        mMessageResId = Reflector.getAttributeValue(ruleAnnotation, "messageResId",
+                Integer.TYPE);
     }
 
     /**
@@ -57,11 +62,7 @@ public abstract class AnnotationRule<RULE_ANNOTATION extends Annotation, DATA_TY
      */
     @Override
     public String getMessage(final Context context) {
-        final int messageResId = Reflector.getAttributeValue(mRuleAnnotation, "messageResId",
-                Integer.class);
-
-        return messageResId != -1
-                ? context.getString(messageResId)
-                : Reflector.getAttributeValue(mRuleAnnotation, "message", String.class);
+        return mMessageResId != -1
+                ? ValidationContext.getString(context, mMessageResId) : mMessage;
     }
 }
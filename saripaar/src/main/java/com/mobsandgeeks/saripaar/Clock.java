@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+/**
+ * Source of the current time for rules that compare against "now", like
+ * {@link com.mobsandgeeks.saripaar.annotation.Future} and
+ * {@link com.mobsandgeeks.saripaar.annotation.Past}. The
+ * {@link com.mobsandgeeks.saripaar.Validator} reads the clock once at the beginning of every
+ * validation pass, set a fixed clock using
+ * {@link com.mobsandgeeks.saripaar.Validator#setClock(Clock)} for deterministic tests.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public interface Clock {
+
+    /**
+     * A {@link Clock} backed by {@link System#currentTimeMillis()}.
+     */
+    Clock SYSTEM = new Clock() {
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+    };
+
+    /**
+     * Gets the current time.
+     *
+     * @return The current time in milliseconds since the epoch.
+     */
+    long currentTimeMillis();
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.annotation.Optional;
+import com.mobsandgeeks.saripaar.annotation.Order;
+import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds everything the {@link com.mobsandgeeks.saripaar.Validator} needs to know about a
+ * controller class, so that it is computed just once per class. Subsequent
+ * {@link com.mobsandgeeks.saripaar.Validator}s for the same controller class (Ex: after a
+ * configuration change) only read the field values from the current controller instance.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+final class ControllerMetadata {
+    // Metadata for all controller classes seen so far
+    private static final ConcurrentHashMap<Class<?>, ControllerMetadata> CACHE =
+            new ConcurrentHashMap<Class<?>, ControllerMetadata>();
+
+    // Attributes
+    private final Set<Class<? extends Annotation>> mRegisteredAnnotations;
+    private final ValidationPlan<Object> mValidationPlan;
+    private final FieldMetadata[] mFields;
+    private final boolean mOrderedFields;
+
+    private ControllerMetadata(final Set<Class<? extends Annotation>> registeredAnnotations,
+            final ValidationPlan<Object> validationPlan, final FieldMetadata[] fields,
+            final boolean orderedFields) {
+        mRegisteredAnnotations = registeredAnnotations;
+        mValidationPlan = validationPlan;
+        mFields = fields;
+        mOrderedFields = orderedFields;
+    }
+
+    /**
+     * Retrieves the metadata for the given controller class, it is computed if the class has not
+     * been seen before. Uses the generated {@link ValidationPlan} if one is available, falls back
+     * to reflection otherwise. Metadata that was computed for a different set of registered
+     * annotations (Ex: by a thread that raced with a registration) is recomputed.
+     *
+     * @param controllerClass  The controller class.
+     * @param registeredAnnotations  Rule annotations that are registered with the
+     *      {@link com.mobsandgeeks.saripaar.Validator}.
+     *
+     * @return The {@link ControllerMetadata} for the controller class.
+     */
+    static ControllerMetadata get(final Class<?> controllerClass,
+            final Set<Class<? extends Annotation>> registeredAnnotations) {
+        ControllerMetadata metadata = CACHE.get(controllerClass);
+        if (metadata == null || metadata.mRegisteredAnnotations != registeredAnnotations) {
+            ValidationPlan<Object> validationPlan = ValidationPlan.find(controllerClass);
+            metadata = validationPlan != null
+                    ? fromValidationPlan(validationPlan, registeredAnnotations)
+                    : fromFields(controllerClass, registeredAnnotations);
+            CACHE.put(controllerClass, metadata);
+        }
+
+        return metadata;
+    }
+
+    /**
+     * Removes the metadata of the given controller class.
+     *
+     * @param controllerClass  The controller class.
+     */
+    static void evict(final Class<?> controllerClass) {
+        CACHE.remove(controllerClass);
+    }
+
+    /**
+     * Removes the metadata of all controller classes.
+     */
+    static void evictAll() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets the number of Saripaar annotated fields, these are sorted in validation order.
+     *
+     * @return The number of fields.
+     */
+    int getFieldCount() {
+        return mFields.length;
+    }
+
+    /**
+     * Gets the metadata for a field.
+     *
+     * @param index  Index of the field in validation order.
+     *
+     * @return The {@link FieldMetadata}.
+     */
+    FieldMetadata getField(final int index) {
+        return mFields[index];
+    }
+
+    /**
+     * Tells if all the fields are ordered using the
+     * {@link com.mobsandgeeks.saripaar.annotation.Order} annotation.
+     *
+     * @return true if all the fields are ordered, false otherwise.
+     */
+    boolean areOrderedFields() {
+        return mOrderedFields;
+    }
+
+    /**
+     * Reads a field from the given controller instance.
+     *
+     * @param controller  The controller instance.
+     * @param index  Index of the field in validation order.
+     *
+     * @return The {@link android.view.View} referenced by the field.
+     */
+    View getView(final Object controller, final int index) {
+        FieldMetadata fieldMetadata = mFields[index];
+        View view = null;
+        try {
+            view = mValidationPlan != null
+                    ? mValidationPlan.getView(controller, fieldMetadata.planIndex)
+                    : (View) fieldMetadata.field.get(controller);
+
+            if (view == null) {
+                String message = String.format("'%s %s' is null.",
+                        fieldMetadata.viewType.getSimpleName(), fieldMetadata.name);
+                throw new IllegalStateException(message);
+            }
+        } catch (IllegalArgumentException e) {
+            e.printStackTrace();
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
+
+        return view;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static ControllerMetadata fromValidationPlan(
+            final ValidationPlan<Object> validationPlan,
+            final Set<Class<? extends Annotation>> registeredAnnotations) {
+        List<Integer> annotatedFields = new ArrayList<Integer>();
+        for (int i = 0, n = validationPlan.getFieldCount(); i < n; i++) {
+            if (isSaripaarAnnotatedField(validationPlan.getAnnotations(i),
+                    registeredAnnotations)) {
+                annotatedFields.add(i);
+            }
+        }
+
+        // Sort, just like the fields found using reflection
+        PlanFieldsComparator comparator = new PlanFieldsComparator(validationPlan);
+        Collections.sort(annotatedFields, comparator);
+        boolean orderedFields = annotatedFields.size() == 1
+                ? getOrderAnnotation(validationPlan.getAnnotations(annotatedFields.get(0))) != null
+                : annotatedFields.size() != 0 && comparator.areOrderedFields();
+
+        FieldMetadata[] fields = new FieldMetadata[annotatedFields.size()];
+        for (int i = 0, n = fields.length; i < n; i++) {
+            int planIndex = annotatedFields.get(i);
+            fields[i] = new FieldMetadata(null, planIndex, validationPlan.getFieldName(planIndex),
+                    validationPlan.getViewType(planIndex),
+                    validationPlan.getAnnotations(planIndex), registeredAnnotations);
+        }
+
+        return new ControllerMetadata(registeredAnnotations, validationPlan, fields,
+                orderedFields);
+    }
+
+    private static ControllerMetadata fromFields(final Class<?> controllerClass,
+            final Set<Class<? extends Annotation>> registeredAnnotations) {
+        List<Field> annotatedFields = new ArrayList<Field>();
+        List<Field> controllerViewFields = getControllerViewFields(controllerClass);
+        for (int i = 0, n = controllerViewFields.size(); i < n; i++) {
+            Field field = controllerViewFields.get(i);
+            if (isSaripaarAnnotatedField(field.getAnnotations(), registeredAnnotations)) {
+                annotatedFields.add(field);
+            }
+        }
+
+        // Sort
+        SaripaarFieldsComparator comparator = new SaripaarFieldsComparator();
+        Collections.sort(annotatedFields, comparator);
+        boolean orderedFields = annotatedFields.size() == 1
+                ? annotatedFields.get(0).getAnnotation(Order.class) != null
+                : annotatedFields.size() != 0 && comparator.areOrderedFields();
+
+        FieldMetadata[] fields = new FieldMetadata[annotatedFields.size()];
+        for (int i = 0, n = fields.length; i < n; i++) {
+            Field field = annotatedFields.get(i);
+            field.setAccessible(true);
+            fields[i] = new FieldMetadata(field, -1, field.getName(), field.getType(),
+                    field.getAnnotations(), registeredAnnotations);
+        }
+
+        return new ControllerMetadata(registeredAnnotations, null, fields, orderedFields);
+    }
+
+    private static List<Field> getControllerViewFields(final Class<?> controllerClass) {
+        List<Field> controllerViewFields = new ArrayList<Field>();
+
+        // Fields declared in the controller
+        controllerViewFields.addAll(getViewFields(controllerClass));
+
+        // Inherited fields
+        Class<?> superClass = controllerClass.getSuperclass();
+        while (!superClass.equals(Object.class)) {
+            List<Field> viewFields = getViewFields(superClass);
+            if (viewFields.size() > 0) {
+                controllerViewFields.addAll(viewFields);
+            }
+            superClass = superClass.getSuperclass();
+        }
+
+        return controllerViewFields;
+    }
+
+    private static List<Field> getViewFields(final Class<?> clazz) {
+        List<Field> viewFields = new ArrayList<Field>();
+        Field[] declaredFields = clazz.getDeclaredFields();
+        for (int i = 0, n = declaredFields.length; i < n; i++) {
+            Field field = declaredFields[i];
+            if (View.class.isAssignableFrom(field.getType())) {
+                viewFields.add(field);
+            }
+        }
+
+        return viewFields;
+    }
+
+    private static boolean isSaripaarAnnotatedField(final Annotation[] annotations,
+            final Set<Class<? extends Annotation>> registeredAnnotations) {
+        for (int i = 0, n = annotations.length; i < n; i++) {
+            Class<? extends Annotation> annotationType = annotations[i].annotationType();
+            if (Order.class.equals(annotationType)
+                    || registeredAnnotations.contains(annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Order getOrderAnnotation(final Annotation[] annotations) {
+        for (int i = 0, n = annotations.length; i < n; i++) {
+            if (Order.class.equals(annotations[i].annotationType())) {
+                return (Order) annotations[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sorts the indices of {@link ValidationPlan} fields based on the
+     * {@link com.mobsandgeeks.saripaar.annotation.Order} annotation, the same way
+     * {@link com.mobsandgeeks.saripaar.SaripaarFieldsComparator} sorts reflected fields.
+     */
+    private static final class PlanFieldsComparator implements Comparator<Integer> {
+        private final ValidationPlan<Object> mValidationPlan;
+        private boolean mOrderedFields = true;
+
+        PlanFieldsComparator(final ValidationPlan<Object> validationPlan) {
+            mValidationPlan = validationPlan;
+        }
+
+        @Override
+        public int compare(final Integer lhsIndex, final Integer rhsIndex) {
+            final Order lhsOrderAnnotation = getOrderAnnotation(
+                    mValidationPlan.getAnnotations(lhsIndex));
+            final Order rhsOrderAnnotation = getOrderAnnotation(
+                    mValidationPlan.getAnnotations(rhsIndex));
+
+            int comparison;
+            if (lhsOrderAnnotation == null || rhsOrderAnnotation == null) {
+                mOrderedFields = false;
+                comparison = 0;
+            } else {
+                int lhsOrder = lhsOrderAnnotation.value();
+                int rhsOrder = rhsOrderAnnotation.value();
+
+                comparison = lhsOrder == rhsOrder
+                        ? 0 : lhsOrder > rhsOrder ? 1 : -1;
+            }
+
+            return comparison;
+        }
+
+        boolean areOrderedFields() {
+            return mOrderedFields;
+        }
+    }
+
+    /**
+     * Metadata for a single Saripaar annotated {@link android.view.View} field.
+     */
+    static final class FieldMetadata {
+        final Field field;
+        final int planIndex;
+        final String name;
+        final Class<?> viewType;
+        final boolean optional;
+        final Annotation[] ruleAnnotations;
+        final Class<? extends AnnotationRule>[] ruleTypes;
+        final Class<?>[] ruleDataTypes;
+        final boolean[] statelessRules;
+
+        @SuppressWarnings("unchecked")
+        FieldMetadata(final Field field, final int planIndex, final String name,
+                final Class<?> viewType, final Annotation[] annotations,
+                final Set<Class<? extends Annotation>> registeredAnnotations) {
+            this.field = field;
+            this.planIndex = planIndex;
+            this.name = name;
+            this.viewType = viewType;
+
+            boolean hasOptionalAnnotation = false;
+            List<Annotation> ruleAnnotationList = new ArrayList<Annotation>();
+            for (int i = 0, n = annotations.length; i < n; i++) {
+                Annotation annotation = annotations[i];
+                Class<? extends Annotation> annotationType = annotation.annotationType();
+                if (Optional.class.equals(annotationType)) {
+                    hasOptionalAnnotation = true;
+                } else if (registeredAnnotations.contains(annotationType)) {
+                    ruleAnnotationList.add(annotation);
+                }
+            }
+
+            int nRuleAnnotations = ruleAnnotationList.size();
+            this.optional = hasOptionalAnnotation;
+            this.ruleAnnotations = ruleAnnotationList.toArray(new Annotation[nRuleAnnotations]);
+            this.ruleTypes = new Class[nRuleAnnotations];
+            this.ruleDataTypes = new Class[nRuleAnnotations];
+            this.statelessRules = new boolean[nRuleAnnotations];
+            for (int i = 0; i < nRuleAnnotations; i++) {
+                Annotation ruleAnnotation = ruleAnnotations[i];
+                ValidateUsing validateUsing = ruleAnnotation.annotationType()
+                        .getAnnotation(ValidateUsing.class);
+                this.ruleTypes[i] = validateUsing != null ? validateUsing.value() : null;
+                this.ruleDataTypes[i] = Reflector.getRuleDataType(ruleAnnotation);
+                this.statelessRules[i] = SharedRules.isStateless(this.ruleTypes[i]);
+            }
+        }
+    }
+}
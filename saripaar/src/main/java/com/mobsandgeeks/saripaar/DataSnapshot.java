@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.adapter.ConversionFailure;
+import com.mobsandgeeks.saripaar.adapter.ConvertingViewDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.DoubleViewDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.IntViewDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import java.util.HashMap;
+
+/**
+ * Remembers the data read from {@link android.view.View}s during a single validation pass, so
+ * that a {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} runs at most once for each
+ * {@link android.view.View}. Conversion failures are remembered as well and are rethrown, or
+ * returned as a {@link com.mobsandgeeks.saripaar.adapter.ConversionFailure} by
+ * {@link com.mobsandgeeks.saripaar.adapter.ConvertingViewDataAdapter}s, to every rule that asks
+ * for the same data. Primitive data is remembered separately, without boxing.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+final class DataSnapshot {
+    // Attributes
+    private final HashMap<View, Entry> mEntries = new HashMap<View, Entry>();
+
+    /**
+     * Retrieves the data from a {@link android.view.View}, the adapter is called only if the
+     * data has not been read during this pass.
+     *
+     * @param view  A {@link android.view.View}.
+     * @param dataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for the
+     *      {@link android.view.View}.
+     *
+     * @return The data that's on the {@link android.view.View} or a
+     *      {@link com.mobsandgeeks.saripaar.adapter.ConversionFailure}.
+     *
+     * @throws ConversionException If the adapter is unable to convert the data, now or earlier
+     *      during this pass.
+     */
+    Object getData(final View view, final ViewDataAdapter dataAdapter)
+            throws ConversionException {
+        Entry entry = getEntry(view, dataAdapter);
+        if (!entry.hasData) {
+            try {
+                entry.data = readData(view, dataAdapter);
+            } catch (ConversionException e) {
+                entry.conversionException = e;
+            }
+            entry.hasData = true;
+        }
+
+        if (entry.conversionException != null) {
+            throw entry.conversionException;
+        }
+        return entry.data;
+    }
+
+    /**
+     * Retrieves the data from a {@link android.view.View} as an {@code int}, the adapter is
+     * called only if the {@code int} has not been read during this pass.
+     *
+     * @param view  A {@link android.view.View}.
+     * @param dataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.IntViewDataAdapter} for
+     *      the {@link android.view.View}.
+     *
+     * @return The data, widened to a {@code long}, or
+     *      {@link com.mobsandgeeks.saripaar.adapter.IntViewDataAdapter#CONVERSION_FAILED}.
+     */
+    @SuppressWarnings("unchecked")
+    long getIntData(final View view, final IntViewDataAdapter dataAdapter) {
+        Entry entry = getEntry(view, dataAdapter);
+        if (!entry.hasIntData) {
+            entry.intData = dataAdapter.getIntData(view);
+            entry.hasIntData = true;
+        }
+        return entry.intData;
+    }
+
+    /**
+     * Retrieves the data from a {@link android.view.View} as a {@code double}, the adapter is
+     * called only if the {@code double} has not been read during this pass.
+     *
+     * @param view  A {@link android.view.View}.
+     * @param dataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.DoubleViewDataAdapter}
+     *      for the {@link android.view.View}.
+     *
+     * @return The data or {@link Double#NaN}, if the adapter is unable to convert the data.
+     */
+    @SuppressWarnings("unchecked")
+    double getDoubleData(final View view, final DoubleViewDataAdapter dataAdapter) {
+        Entry entry = getEntry(view, dataAdapter);
+        if (!entry.hasDoubleData) {
+            entry.doubleData = dataAdapter.getDoubleData(view);
+            entry.hasDoubleData = true;
+        }
+        return entry.doubleData;
+    }
+
+    /**
+     * Reads the data from a {@link android.view.View} without remembering it.
+     * {@link com.mobsandgeeks.saripaar.adapter.ConvertingViewDataAdapter}s are asked to convert
+     * the data, so their failures are returned instead of thrown.
+     *
+     * @param view  A {@link android.view.View}.
+     * @param dataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for the
+     *      {@link android.view.View}.
+     *
+     * @return The data that's on the {@link android.view.View} or a
+     *      {@link com.mobsandgeeks.saripaar.adapter.ConversionFailure}.
+     *
+     * @throws ConversionException If the adapter is unable to convert the data.
+     */
+    @SuppressWarnings("unchecked")
+    static Object readData(final View view, final ViewDataAdapter dataAdapter)
+            throws ConversionException {
+        return dataAdapter instanceof ConvertingViewDataAdapter
+                ? ((ConvertingViewDataAdapter) dataAdapter).convert(view)
+                : dataAdapter.getData(view);
+    }
+
+    /**
+     * Forgets all the data, called at the beginning and the end of every pass.
+     */
+    void clear() {
+        mEntries.clear();
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private Entry getEntry(final View view, final ViewDataAdapter dataAdapter) {
+        Entry head = mEntries.get(view);
+        for (Entry entry = head; entry != null; entry = entry.next) {
+            if (entry.dataAdapter == dataAdapter) {
+                return entry;
+            }
+        }
+
+        Entry entry = new Entry(dataAdapter, head);
+        mEntries.put(view, entry);
+        return entry;
+    }
+
+    private static final class Entry {
+        final ViewDataAdapter dataAdapter;
+        final Entry next;
+        boolean hasData;
+        Object data;
+        ConversionException conversionException;
+        boolean hasIntData;
+        long intData;
+        boolean hasDoubleData;
+        double doubleData;
+
+        Entry(final ViewDataAdapter dataAdapter, final Entry next) {
+            this.dataAdapter = dataAdapter;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2016 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * An {@link com.mobsandgeeks.saripaar.AnnotationRule} that validates {@code int} values. When the
+ * {@link android.view.View}'s adapter is an
+ * {@link com.mobsandgeeks.saripaar.adapter.IntViewDataAdapter}, the
+ * {@link com.mobsandgeeks.saripaar.Validator} passes the value straight to
+ * {@link #isValid(int)}, without boxing it. Subclasses that override {@link #isValid(Integer)}
+ * are always given boxed values.
+ *
+ * @param <RULE_ANNOTATION>  The associated rule {@link java.lang.annotation.Annotation}.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public abstract class IntRule<RULE_ANNOTATION extends Annotation>
+        extends AnnotationRule<RULE_ANNOTATION, Integer> {
+
+    // Attributes
+    private final boolean mValidatesPrimitives;
+
+    /**
+     * Constructor. It is mandatory that all subclasses MUST have a constructor with the same
+     * signature.
+     *
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} instance to which
+     *      this rule is paired.
+     */
+    protected IntRule(final RULE_ANNOTATION ruleAnnotation) {
+        super(ruleAnnotation);
+        mValidatesPrimitives = !Reflector.overridesBoxedIsValid(getClass(), IntRule.class,
+                Integer.class);
+    }
+
+    /**
+     * Checks if the rule is valid.
+     *
+     * @param value  The value to validate.
+     *
+     * @return true if valid, false otherwise.
+     */
+    public abstract boolean isValid(int value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValid(final Integer value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'Integer' cannot be null.");
+        }
+        return isValid(value.intValue());
+    }
+
+    /**
+     * Checks if the {@link com.mobsandgeeks.saripaar.Validator} can call {@link #isValid(int)}
+     * directly, it can unless a subclass overrides {@link #isValid(Integer)}.
+     *
+     * @return true if unboxed values can be validated, false otherwise.
+     */
+    boolean validatesPrimitives() {
+        return mValidatesPrimitives;
+    }
+}
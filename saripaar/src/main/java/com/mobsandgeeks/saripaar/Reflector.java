@@ -25,6 +25,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contains reflection methods that are helpful for introspection and retrieval of frequently used
@@ -34,6 +35,22 @@ import java.lang.reflect.Modifier;
  * @since 2.0
  */
 final class Reflector {
+    // Attribute accessors, keyed by annotation type and attribute name
+    private static final ConcurrentHashMap<Class<? extends Annotation>,
+            ConcurrentHashMap<String, Method>> ATTRIBUTE_METHODS =
+                    new ConcurrentHashMap<Class<? extends Annotation>,
+                            ConcurrentHashMap<String, Method>>();
+
+    // Rule constructors, keyed by rule type and then by annotation type, a rule may be used by
+    // several annotations through different constructors
+    private static final ConcurrentHashMap<Class<? extends AnnotationRule>,
+            ConcurrentHashMap<Class<? extends Annotation>, Constructor<?>>> RULE_CONSTRUCTORS =
+                    new ConcurrentHashMap<Class<? extends AnnotationRule>,
+                            ConcurrentHashMap<Class<? extends Annotation>, Constructor<?>>>();
+
+    // Whether a primitive rule overrides the boxed isValid method, keyed by rule type
+    private static final ConcurrentHashMap<Class<?>, Boolean> BOXED_IS_VALID_OVERRIDES =
+            new ConcurrentHashMap<Class<?>, Boolean>();
 
     /**
      * Retrieves the attribute method of the given {@link java.lang.annotation.Annotation}.
@@ -47,11 +64,25 @@ final class Reflector {
      */
     static Method getAttributeMethod(final Class<? extends Annotation> annotationType,
             final String attributeName) {
-        Method attributeMethod = null;
-        try {
-            attributeMethod = annotationType.getMethod(attributeName);
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
+        ConcurrentHashMap<String, Method> attributeMethods = ATTRIBUTE_METHODS.get(annotationType);
+        if (attributeMethods == null) {
+            attributeMethods = new ConcurrentHashMap<String, Method>();
+            ConcurrentHashMap<String, Method> existingAttributeMethods =
+                    ATTRIBUTE_METHODS.putIfAbsent(annotationType, attributeMethods);
+            if (existingAttributeMethods != null) {
+                attributeMethods = existingAttributeMethods;
+            }
+        }
+
+        Method attributeMethod = attributeMethods.get(attributeName);
+        if (attributeMethod == null) {
+            try {
+                attributeMethod = annotationType.getMethod(attributeName);
+                attributeMethod.setAccessible(true);
+                attributeMethods.put(attributeName, attributeMethod);
+            } catch (NoSuchMethodException e) {
+                e.printStackTrace();
+            }
         }
         return attributeMethod;
     }
@@ -171,15 +202,11 @@ final class Reflector {
         AnnotationRule rule = null;
 
         try {
+            Constructor<?> constructor = getRuleConstructor(ruleType,
+                    ruleAnnotation.annotationType());
             if (ContextualAnnotationRule.class.isAssignableFrom(ruleType)) {
-                Constructor<?> constructor = ruleType.getDeclaredConstructor(
-                        ruleAnnotation.annotationType(), ValidationContext.class);
-                constructor.setAccessible(true);
                 rule = (AnnotationRule) constructor.newInstance(ruleAnnotation, validationContext);
             } else if (AnnotationRule.class.isAssignableFrom(ruleType)) {
-                Constructor<?> constructor = ruleType.getDeclaredConstructor(
-                        ruleAnnotation.annotationType());
-                constructor.setAccessible(true);
                 rule = (AnnotationRule) constructor.newInstance(ruleAnnotation);
             }
         } catch (NoSuchMethodException e) {
@@ -223,10 +250,48 @@ final class Reflector {
      */
     static Class<?> getRuleDataType(final ValidateUsing validateUsing) {
         Class<? extends AnnotationRule> rule = validateUsing.value();
+
+        // Primitive rules declare isValid(int) or isValid(double), but take boxed values too
+        if (IntRule.class.isAssignableFrom(rule)) {
+            return Integer.class;
+        } else if (DoubleRule.class.isAssignableFrom(rule)) {
+            return Double.class;
+        }
+
         Method[] methods = rule.getDeclaredMethods();
         return getRuleTypeFromIsValidMethod(rule, methods);
     }
 
+    /**
+     * Checks if a primitive rule, or one of its superclasses below the primitive base rule,
+     * overrides the boxed {@code isValid} method. Such rules must be given boxed values.
+     *
+     * @param ruleType  The rule {@link java.lang.Class} to check.
+     * @param baseRuleType  {@link com.mobsandgeeks.saripaar.IntRule} or
+     *      {@link com.mobsandgeeks.saripaar.DoubleRule}.
+     * @param boxedType  {@link java.lang.Integer} or {@link java.lang.Double}.
+     *
+     * @return true if the boxed {@code isValid} method is overridden, false otherwise.
+     */
+    static boolean overridesBoxedIsValid(final Class<?> ruleType, final Class<?> baseRuleType,
+            final Class<?> boxedType) {
+        Boolean overrides = BOXED_IS_VALID_OVERRIDES.get(ruleType);
+        if (overrides == null) {
+            overrides = Boolean.FALSE;
+            for (Class<?> type = ruleType; type != baseRuleType; type = type.getSuperclass()) {
+                try {
+                    type.getDeclaredMethod("isValid", boxedType);
+                    overrides = Boolean.TRUE;
+                    break;
+                } catch (NoSuchMethodException e) {
+                    // Not declared by this class, check its superclass
+                }
+            }
+            BOXED_IS_VALID_OVERRIDES.put(ruleType, overrides);
+        }
+        return overrides;
+    }
+
     /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      *  Private Methods
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -245,6 +310,31 @@ final class Reflector {
         return validateUsing;
     }
 
+    private static Constructor<?> getRuleConstructor(
+            final Class<? extends AnnotationRule> ruleType,
+            final Class<? extends Annotation> annotationType) throws NoSuchMethodException {
+        ConcurrentHashMap<Class<? extends Annotation>, Constructor<?>> constructors =
+                RULE_CONSTRUCTORS.get(ruleType);
+        if (constructors == null) {
+            constructors = new ConcurrentHashMap<Class<? extends Annotation>, Constructor<?>>();
+            ConcurrentHashMap<Class<? extends Annotation>, Constructor<?>> existingConstructors =
+                    RULE_CONSTRUCTORS.putIfAbsent(ruleType, constructors);
+            if (existingConstructors != null) {
+                constructors = existingConstructors;
+            }
+        }
+
+        Constructor<?> constructor = constructors.get(annotationType);
+        if (constructor == null) {
+            constructor = ContextualAnnotationRule.class.isAssignableFrom(ruleType)
+                    ? ruleType.getDeclaredConstructor(annotationType, ValidationContext.class)
+                    : ruleType.getDeclaredConstructor(annotationType);
+            constructor.setAccessible(true);
+            constructors.put(annotationType, constructor);
+        }
+        return constructor;
+    }
+
     private static String getMissingConstructorErrorMessage(
             final Class<? extends AnnotationRule> ruleType,
             final Class<? extends Annotation> annotationType) {
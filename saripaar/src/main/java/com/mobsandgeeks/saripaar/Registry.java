@@ -31,14 +31,39 @@ import com.mobsandgeeks.saripaar.adapter.TextViewFloatAdapter;
 import com.mobsandgeeks.saripaar.adapter.TextViewIntegerAdapter;
 import com.mobsandgeeks.saripaar.adapter.TextViewStringAdapter;
 import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+import com.mobsandgeeks.saripaar.annotation.AssertFalse;
+import com.mobsandgeeks.saripaar.annotation.AssertTrue;
+import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
+import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
+import com.mobsandgeeks.saripaar.annotation.CreditCard;
+import com.mobsandgeeks.saripaar.annotation.DecimalMax;
+import com.mobsandgeeks.saripaar.annotation.DecimalMin;
+import com.mobsandgeeks.saripaar.annotation.Digits;
+import com.mobsandgeeks.saripaar.annotation.Domain;
+import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Future;
+import com.mobsandgeeks.saripaar.annotation.IpAddress;
+import com.mobsandgeeks.saripaar.annotation.Isbn;
+import com.mobsandgeeks.saripaar.annotation.Length;
+import com.mobsandgeeks.saripaar.annotation.Max;
+import com.mobsandgeeks.saripaar.annotation.Min;
+import com.mobsandgeeks.saripaar.annotation.NotEmpty;
+import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Past;
+import com.mobsandgeeks.saripaar.annotation.Pattern;
+import com.mobsandgeeks.saripaar.annotation.Select;
+import com.mobsandgeeks.saripaar.annotation.Url;
 import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
 import com.mobsandgeeks.saripaar.exception.SaripaarViolationException;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Maintains a registry of all {@link android.view.View}s and
@@ -57,16 +82,65 @@ final class Registry {
             HashMap<Class<?>, ViewDataAdapter>> STOCK_ADAPTERS =
                     new HashMap<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>>();
 
-    // Attributes
-    private Map<Class<? extends Annotation>,
-            HashMap<Class<? extends View>, ViewDataAdapter>> mMappings;
+    // Marks a memoized lookup that did not find an adapter
+    private static final Object NO_ADAPTER = new Object();
+
+    // Attributes, replaced as a whole on every registration
+    private volatile Snapshot mSnapshot;
 
     /**
      * Good Ol' constructor.
      */
     Registry() {
-        mMappings = new HashMap<Class<? extends Annotation>,
-                HashMap<Class<? extends View>, ViewDataAdapter>>();
+        mSnapshot = new Snapshot(null);
+    }
+
+    /**
+     * Creates a {@link Registry} that contains the stock rule annotations along with their
+     * {@link android.view.View}s and {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s.
+     * The stock mappings are installed from a precomputed table, without the reflective checks
+     * that are performed on annotations registered by users.
+     *
+     * @return A {@link Registry} with stock registrations.
+     */
+    @SuppressWarnings("unchecked")
+    static Registry newStockRegistry() {
+        Registry registry = new Registry();
+        Snapshot snapshot = new Snapshot(null);
+
+        // CheckBoxBooleanAdapter
+        installStock(snapshot, CheckBox.class, Boolean.class,
+                AssertFalse.class, AssertTrue.class, Checked.class);
+
+        // RadioGroupBooleanAdapter
+        installStock(snapshot, RadioGroup.class, Boolean.class,
+                Checked.class);
+
+        // RadioButtonBooleanAdapter
+        installStock(snapshot, RadioButton.class, Boolean.class,
+                AssertFalse.class, AssertTrue.class, Checked.class);
+
+        // SpinnerIndexAdapter
+        installStock(snapshot, Spinner.class, Integer.class,
+                Select.class);
+
+        // TextViewDoubleAdapter
+        installStock(snapshot, TextView.class, Double.class,
+                DecimalMax.class, DecimalMin.class);
+
+        // TextViewIntegerAdapter
+        installStock(snapshot, TextView.class, Integer.class,
+                Max.class, Min.class);
+
+        // TextViewStringAdapter
+        installStock(snapshot, TextView.class, String.class,
+                ConfirmEmail.class, ConfirmPassword.class, CreditCard.class,
+                Digits.class, Domain.class, Email.class, Future.class,
+                IpAddress.class, Isbn.class, Length.class, NotEmpty.class,
+                Password.class, Past.class, Pattern.class, Url.class);
+
+        registry.mSnapshot = snapshot;
+        return registry;
     }
 
     /**
@@ -80,27 +154,32 @@ final class Registry {
      *      on {@link android.widget.TextView}s.
      */
     @SuppressWarnings("unchecked")
-    void register(final Class<? extends Annotation>... ruleAnnotations) {
+    synchronized void register(final Class<? extends Annotation>... ruleAnnotations) {
+        Snapshot snapshot = new Snapshot(mSnapshot);
         for (Class<? extends Annotation> ruleAnnotation : ruleAnnotations) {
-            assertIsValidRuleAnnotation(ruleAnnotation);
-
-            final ValidateUsing validateUsing = ruleAnnotation.getAnnotation(ValidateUsing.class);
-            final Class<?> ruleDataType = Reflector.getRuleDataType(validateUsing);
-
-            HashMap<Class<?>, ViewDataAdapter> viewDataAdapterMap =
-                    STOCK_ADAPTERS.get(TextView.class);
-            if (viewDataAdapterMap != null) {
-                ViewDataAdapter dataAdapter = viewDataAdapterMap.get(ruleDataType);
-                if (dataAdapter != null) {
-                    register(TextView.class, ruleDataType, dataAdapter, ruleAnnotation);
-                } else {
-                    String message = String.format(
-                            "Unable to find a matching adapter for `%s`, that returns a `%s`.",
-                            ruleAnnotation.getName(), ruleDataType.getName());
-                    throw new SaripaarViolationException(message);
-                }
-            }
+            registerForTextView(snapshot, ruleAnnotation);
         }
+        mSnapshot = snapshot;
+    }
+
+    /**
+     * Same as {@link #register(Class[])} for a single rule annotation, along with the
+     * {@link com.mobsandgeeks.saripaar.RuleFactory} that creates its {@link AnnotationRule}s.
+     * Both are published together, so validators never see the annotation without its factory.
+     *
+     * @param ruleAnnotation  A rule {@link java.lang.annotation.Annotation} that operates on
+     *      {@link android.widget.TextView}s.
+     * @param ruleFactory  The {@link com.mobsandgeeks.saripaar.RuleFactory}.
+     *
+     * @param <RULE_ANNOTATION>  The rule {@link java.lang.annotation.Annotation} type.
+     */
+    synchronized <RULE_ANNOTATION extends Annotation> void register(
+            final Class<RULE_ANNOTATION> ruleAnnotation,
+            final RuleFactory<RULE_ANNOTATION> ruleFactory) {
+        Snapshot snapshot = new Snapshot(mSnapshot);
+        registerForTextView(snapshot, ruleAnnotation);
+        snapshot.ruleFactories.put(ruleAnnotation, ruleFactory);
+        mSnapshot = snapshot;
     }
 
     /**
@@ -121,19 +200,66 @@ final class Registry {
      * @param <DATA_TYPE>  Data type expected by the {@link AnnotationRule} and
      *      is returned by the {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}.
      */
-    <VIEW extends View, DATA_TYPE> void register(
+    synchronized <VIEW extends View, DATA_TYPE> void register(
             final Class<VIEW> viewType,
             final Class<DATA_TYPE> ruleDataType,
             final ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter,
             final Class<? extends Annotation>... ruleAnnotations) {
 
         if (ruleAnnotations != null && ruleAnnotations.length > 0) {
+            Snapshot snapshot = new Snapshot(mSnapshot);
             for (Class<? extends Annotation> ruleAnnotation : ruleAnnotations) {
-                register(ruleAnnotation, ruleDataType, viewType, viewDataAdapter);
+                register(snapshot, ruleAnnotation, ruleDataType, viewType, viewDataAdapter);
             }
+            mSnapshot = snapshot;
         }
     }
 
+    /**
+     * Same as {@link #register(Class, Class, ViewDataAdapter, Class[])} for a single rule
+     * annotation, along with the {@link com.mobsandgeeks.saripaar.RuleFactory} that creates its
+     * {@link AnnotationRule}s. Both are published together, so validators never see the
+     * annotation without its factory.
+     *
+     * @param viewType  The {@link android.view.View} type on which the {@link AnnotationRule}
+     *      can be used.
+     * @param ruleDataType  Data type expected by the {@link AnnotationRule}.
+     * @param viewDataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}
+     *      that can get the data for the {@link AnnotationRule} from the
+     *      {@link android.view.View}.
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation}.
+     * @param ruleFactory  The {@link com.mobsandgeeks.saripaar.RuleFactory}.
+     *
+     * @param <VIEW>  Type parameter that is a subclass of {@link android.view.View} class.
+     * @param <DATA_TYPE>  Data type expected by the {@link AnnotationRule} and
+     *      is returned by the {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}.
+     * @param <RULE_ANNOTATION>  The rule {@link java.lang.annotation.Annotation} type.
+     */
+    synchronized <VIEW extends View, DATA_TYPE, RULE_ANNOTATION extends Annotation> void register(
+            final Class<VIEW> viewType,
+            final Class<DATA_TYPE> ruleDataType,
+            final ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter,
+            final Class<RULE_ANNOTATION> ruleAnnotation,
+            final RuleFactory<RULE_ANNOTATION> ruleFactory) {
+        Snapshot snapshot = new Snapshot(mSnapshot);
+        register(snapshot, ruleAnnotation, ruleDataType, viewType, viewDataAdapter);
+        snapshot.ruleFactories.put(ruleAnnotation, ruleFactory);
+        mSnapshot = snapshot;
+    }
+
+    /**
+     * Retrieves the {@link com.mobsandgeeks.saripaar.RuleFactory} registered for a rule
+     * {@link java.lang.annotation.Annotation}.
+     *
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} type.
+     *
+     * @return The {@link com.mobsandgeeks.saripaar.RuleFactory} or null, if rules for the
+     *      annotation are instantiated using reflection.
+     */
+    RuleFactory getRuleFactory(final Class<? extends Annotation> ruleAnnotation) {
+        return mSnapshot.ruleFactories.get(ruleAnnotation);
+    }
+
     /**
      * Retrieve all registered rule annotations.
      *
@@ -141,14 +267,15 @@ final class Registry {
      *      {@link java.lang.annotation.Annotation}s.
      */
     Set<Class<? extends Annotation>> getRegisteredAnnotations() {
-        return mMappings.keySet();
+        return mSnapshot.registeredAnnotations;
     }
 
     /**
      * Retrieves the registered {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} associated
      * with the rule {@link java.lang.annotation.Annotation} and
-     * {@link android.view.View}. If no registered adapter is not found, the method looks for a
-     * compatible adapter instead.
+     * {@link android.view.View}. If no adapter is registered for the {@link android.view.View}
+     * type, the adapter registered for its closest superclass is returned instead. Results,
+     * including misses, are remembered for each rule annotation and view type.
      *
      * @param annotationType  The rule annotation type that requires a data adapter.
      * @param viewType  The {@link android.view.View} whose adapter we are looking for.
@@ -165,29 +292,58 @@ final class Registry {
             final Class< ? extends Annotation> annotationType,
             final Class<VIEW> viewType) {
 
-        HashMap<Class<? extends View>, ViewDataAdapter> viewDataAdapterHashMap =
-            mMappings.get(annotationType);
-
-        // Check for a direct match
-        ViewDataAdapter matchingViewAdapter = null;
-        if (viewDataAdapterHashMap != null) {
-            matchingViewAdapter = viewDataAdapterHashMap.get(viewType);
+        Snapshot snapshot = mSnapshot;
+        ConcurrentHashMap<Class<? extends View>, Object> resolvedAdapters =
+                snapshot.resolvedAdapters.get(annotationType);
+        if (resolvedAdapters == null) {
+            resolvedAdapters = new ConcurrentHashMap<Class<? extends View>, Object>();
+            ConcurrentHashMap<Class<? extends View>, Object> existingResolvedAdapters =
+                    snapshot.resolvedAdapters.putIfAbsent(annotationType, resolvedAdapters);
+            if (existingResolvedAdapters != null) {
+                resolvedAdapters = existingResolvedAdapters;
+            }
+        }
 
-            // If no 'ViewDataAdapter' is registered, check for a compatible one
+        Object matchingViewAdapter = resolvedAdapters.get(viewType);
+        if (matchingViewAdapter == null) {
+            matchingViewAdapter = findClosestAdapter(snapshot.mappings.get(annotationType),
+                    viewType);
             if (matchingViewAdapter == null) {
-                matchingViewAdapter = getCompatibleViewDataAdapter(viewDataAdapterHashMap,
-                        viewType);
+                matchingViewAdapter = NO_ADAPTER;
             }
+            resolvedAdapters.put(viewType, matchingViewAdapter);
         }
 
-        return matchingViewAdapter;
+        return matchingViewAdapter != NO_ADAPTER ? (ViewDataAdapter) matchingViewAdapter : null;
     }
 
     /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      *  Private Methods
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      */
-    private <VIEW extends View, DATA_TYPE> void register(
+    @SuppressWarnings("unchecked")
+    private void registerForTextView(final Snapshot snapshot,
+            final Class<? extends Annotation> ruleAnnotation) {
+        assertIsValidRuleAnnotation(ruleAnnotation);
+
+        final ValidateUsing validateUsing = ruleAnnotation.getAnnotation(ValidateUsing.class);
+        final Class<?> ruleDataType = Reflector.getRuleDataType(validateUsing);
+
+        HashMap<Class<?>, ViewDataAdapter> viewDataAdapterMap = STOCK_ADAPTERS.get(TextView.class);
+        if (viewDataAdapterMap != null) {
+            ViewDataAdapter dataAdapter = viewDataAdapterMap.get(ruleDataType);
+            if (dataAdapter != null) {
+                register(snapshot, ruleAnnotation, ruleDataType, TextView.class, dataAdapter);
+            } else {
+                String message = String.format(
+                        "Unable to find a matching adapter for `%s`, that returns a `%s`.",
+                        ruleAnnotation.getName(), ruleDataType.getName());
+                throw new SaripaarViolationException(message);
+            }
+        }
+    }
+
+    private <VIEW extends View, DATA_TYPE> void register(final Snapshot snapshot,
             final Class<? extends Annotation> ruleAnnotation,
             final Class<DATA_TYPE> ruleDataType,
             final Class<VIEW> view,
@@ -197,11 +353,11 @@ final class Registry {
 
         // Get the view-adapter pairs registered to a rule annotation.
         HashMap<Class<? extends View>, ViewDataAdapter> viewAdapterPairs;
-        if (mMappings.containsKey(ruleAnnotation)) {
-            viewAdapterPairs = mMappings.get(ruleAnnotation);
+        if (snapshot.mappings.containsKey(ruleAnnotation)) {
+            viewAdapterPairs = snapshot.mappings.get(ruleAnnotation);
         } else {
             viewAdapterPairs = new HashMap<Class<? extends View>, ViewDataAdapter>();
-            mMappings.put(ruleAnnotation, viewAdapterPairs);
+            snapshot.mappings.put(ruleAnnotation, viewAdapterPairs);
         }
 
         if (viewAdapterPairs.containsKey(view)) {
@@ -213,6 +369,21 @@ final class Registry {
         }
     }
 
+    private static void installStock(final Snapshot snapshot,
+            final Class<? extends View> viewType, final Class<?> dataType,
+            final Class<? extends Annotation>... ruleAnnotations) {
+        ViewDataAdapter viewDataAdapter = STOCK_ADAPTERS.get(viewType).get(dataType);
+        for (Class<? extends Annotation> ruleAnnotation : ruleAnnotations) {
+            HashMap<Class<? extends View>, ViewDataAdapter> viewAdapterPairs =
+                    snapshot.mappings.get(ruleAnnotation);
+            if (viewAdapterPairs == null) {
+                viewAdapterPairs = new HashMap<Class<? extends View>, ViewDataAdapter>();
+                snapshot.mappings.put(ruleAnnotation, viewAdapterPairs);
+            }
+            viewAdapterPairs.put(viewType, viewDataAdapter);
+        }
+    }
+
     private void assertIsValidRuleAnnotation(final Class<? extends Annotation> ruleAnnotation) {
         // 1. Check for @ValidateUsing annotation
         boolean validRuleAnnotation = Reflector.isAnnotated(ruleAnnotation, ValidateUsing.class);
@@ -266,18 +437,54 @@ final class Registry {
         }
     }
 
-    private <VIEW extends View> ViewDataAdapter getCompatibleViewDataAdapter(
+    private ViewDataAdapter findClosestAdapter(
             final HashMap<Class<? extends View>, ViewDataAdapter> viewDataAdapterHashMap,
-            final Class<VIEW> viewType) {
+            final Class<?> viewType) {
+        if (viewDataAdapterHashMap == null) {
+            return null;
+        }
+
+        // Walk up the view's class hierarchy, the closest registered ancestor wins
+        ViewDataAdapter closestAdapter = null;
+        Class<?> type = viewType;
+        while (closestAdapter == null && type != null && View.class.isAssignableFrom(type)) {
+            closestAdapter = viewDataAdapterHashMap.get(type);
+            type = type.getSuperclass();
+        }
+        return closestAdapter;
+    }
 
-        ViewDataAdapter compatibleViewAdapter = null;
-        Set<Class<? extends View>> registeredViews = viewDataAdapterHashMap.keySet();
-        for (Class<? extends View> registeredView : registeredViews) {
-            if (registeredView.isAssignableFrom(viewType)) {
-                compatibleViewAdapter = viewDataAdapterHashMap.get(registeredView);
+    /**
+     * An immutable view of the registry once it has been published. Registrations copy the
+     * current snapshot, modify the copy and then publish it, so lookups never need a lock.
+     * Adapters resolved from a snapshot are memoized with it and discarded along with it.
+     */
+    private static final class Snapshot {
+        final Map<Class<? extends Annotation>,
+                HashMap<Class<? extends View>, ViewDataAdapter>> mappings;
+        final Map<Class<? extends Annotation>, RuleFactory> ruleFactories;
+        final Set<Class<? extends Annotation>> registeredAnnotations;
+        final ConcurrentHashMap<Class<? extends Annotation>,
+                ConcurrentHashMap<Class<? extends View>, Object>> resolvedAdapters;
+
+        Snapshot(final Snapshot source) {
+            mappings = new HashMap<Class<? extends Annotation>,
+                    HashMap<Class<? extends View>, ViewDataAdapter>>();
+            ruleFactories = new HashMap<Class<? extends Annotation>, RuleFactory>();
+            registeredAnnotations = Collections.unmodifiableSet(mappings.keySet());
+            resolvedAdapters = new ConcurrentHashMap<Class<? extends Annotation>,
+                    ConcurrentHashMap<Class<? extends View>, Object>>();
+
+            if (source != null) {
+                for (Map.Entry<Class<? extends Annotation>,
+                        HashMap<Class<? extends View>, ViewDataAdapter>> entry
+                                : source.mappings.entrySet()) {
+                    mappings.put(entry.getKey(),
+                            new HashMap<Class<? extends View>, ViewDataAdapter>(entry.getValue()));
+                }
+                ruleFactories.putAll(source.ruleFactories);
             }
         }
-        return compatibleViewAdapter;
     }
 
     // Register all views along with their corresponding adapters
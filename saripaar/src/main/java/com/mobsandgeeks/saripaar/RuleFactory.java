@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Creates {@link com.mobsandgeeks.saripaar.AnnotationRule}s for a custom rule
+ * {@link java.lang.annotation.Annotation} without using reflection. Register a factory along with
+ * your annotation using
+ * {@link com.mobsandgeeks.saripaar.Validator#registerAnnotation(Class, RuleFactory)} or
+ * {@link com.mobsandgeeks.saripaar.Validator#registerAnnotation(Class, Class,
+ * com.mobsandgeeks.saripaar.adapter.ViewDataAdapter, RuleFactory)}.
+ *
+ * @param <RULE_ANNOTATION>  The rule {@link java.lang.annotation.Annotation} whose rules are
+ *      created by this factory.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public interface RuleFactory<RULE_ANNOTATION extends Annotation> {
+
+    /**
+     * Creates a new {@link com.mobsandgeeks.saripaar.AnnotationRule} for the given annotation
+     * instance.
+     *
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} instance found on a
+     *      {@link android.view.View} field.
+     * @param validationContext  The {@link com.mobsandgeeks.saripaar.ValidationContext}, pass it
+     *      on to {@link com.mobsandgeeks.saripaar.ContextualAnnotationRule}s.
+     *
+     * @return The {@link com.mobsandgeeks.saripaar.AnnotationRule}, cannot be null.
+     */
+    AnnotationRule<RULE_ANNOTATION, ?> newRule(RULE_ANNOTATION ruleAnnotation,
+            ValidationContext validationContext);
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.view.View;
+
+import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+
+/**
+ * Holds the {@link com.mobsandgeeks.saripaar.Rule}s of a controller in flat arrays, in validation
+ * order. Views are kept in the order they were added, rules for a view are stored next to each
+ * other and sorted by their 'sequence' attribute, along with their
+ * {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter}s and annotations. A view's index is
+ * looked up in constant time, so validating till or before a view does not walk the views.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+final class RuleTable {
+    // Constants
+    private static final int INITIAL_CAPACITY = 8;
+
+    // Attributes
+    private final HashMap<View, Integer> mViewIndices = new HashMap<View, Integer>();
+    private View[] mViews = new View[INITIAL_CAPACITY];
+    private boolean[] mOptionalViews = new boolean[INITIAL_CAPACITY];
+    private int[] mRuleStarts = new int[INITIAL_CAPACITY + 1];
+    private int mViewCount;
+
+    private Rule[] mRules = new Rule[INITIAL_CAPACITY];
+    private ViewDataAdapter[] mDataAdapters = new ViewDataAdapter[INITIAL_CAPACITY];
+    private Annotation[] mAnnotations = new Annotation[INITIAL_CAPACITY];
+    private int mRuleCount;
+
+    int getViewCount() {
+        return mViewCount;
+    }
+
+    View getView(final int viewIndex) {
+        return mViews[viewIndex];
+    }
+
+    /**
+     * Finds the index of a {@link android.view.View}.
+     *
+     * @param view  A {@link android.view.View}.
+     *
+     * @return The index of the {@link android.view.View} or -1, if it has no rules.
+     */
+    int indexOf(final View view) {
+        Integer viewIndex = mViewIndices.get(view);
+        return viewIndex != null ? viewIndex : -1;
+    }
+
+    boolean isOptional(final int viewIndex) {
+        return mOptionalViews[viewIndex];
+    }
+
+    int getRuleStart(final int viewIndex) {
+        return mRuleStarts[viewIndex];
+    }
+
+    int getRuleEnd(final int viewIndex) {
+        return mRuleStarts[viewIndex + 1];
+    }
+
+    Rule getRule(final int ruleIndex) {
+        return mRules[ruleIndex];
+    }
+
+    ViewDataAdapter getDataAdapter(final int ruleIndex) {
+        return mDataAdapters[ruleIndex];
+    }
+
+    /**
+     * Gets the annotation a rule was created for.
+     *
+     * @param ruleIndex  Index of the rule.
+     *
+     * @return The annotation or null, for {@link com.mobsandgeeks.saripaar.QuickRule}s.
+     */
+    Annotation getAnnotation(final int ruleIndex) {
+        return mAnnotations[ruleIndex];
+    }
+
+    /**
+     * Adds a {@link android.view.View} after the views that are already in the table. Views that
+     * are already in the table retain their position.
+     *
+     * @param view  A {@link android.view.View}.
+     *
+     * @return The index of the {@link android.view.View}.
+     */
+    int addView(final View view) {
+        int viewIndex = indexOf(view);
+        if (viewIndex != -1) {
+            return viewIndex;
+        }
+
+        if (mViewCount == mViews.length) {
+            int capacity = mViewCount * 2;
+            mViews = copyOf(mViews, new View[capacity], mViewCount);
+            boolean[] optionalViews = new boolean[capacity];
+            System.arraycopy(mOptionalViews, 0, optionalViews, 0, mViewCount);
+            mOptionalViews = optionalViews;
+            int[] ruleStarts = new int[capacity + 1];
+            System.arraycopy(mRuleStarts, 0, ruleStarts, 0, mViewCount + 1);
+            mRuleStarts = ruleStarts;
+        }
+
+        viewIndex = mViewCount++;
+        mViews[viewIndex] = view;
+        mOptionalViews[viewIndex] = false;
+        mRuleStarts[mViewCount] = mRuleCount;
+        mViewIndices.put(view, viewIndex);
+
+        return viewIndex;
+    }
+
+    void setOptional(final int viewIndex) {
+        mOptionalViews[viewIndex] = true;
+    }
+
+    /**
+     * Adds a rule for a {@link android.view.View}. The rule is placed after the view's rules
+     * that have the same or a lower sequence.
+     *
+     * @param viewIndex  Index of the {@link android.view.View}.
+     * @param rule  The rule.
+     * @param dataAdapter  The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for the
+     *      rule or null, for {@link com.mobsandgeeks.saripaar.QuickRule}s.
+     * @param annotation  The annotation for the rule or null, for
+     *      {@link com.mobsandgeeks.saripaar.QuickRule}s.
+     */
+    void addRule(final int viewIndex, final Rule rule, final ViewDataAdapter dataAdapter,
+            final Annotation annotation) {
+        if (mRuleCount == mRules.length) {
+            int capacity = mRuleCount * 2;
+            mRules = copyOf(mRules, new Rule[capacity], mRuleCount);
+            mDataAdapters = copyOf(mDataAdapters, new ViewDataAdapter[capacity], mRuleCount);
+            mAnnotations = copyOf(mAnnotations, new Annotation[capacity], mRuleCount);
+        }
+
+        int ruleIndex = mRuleStarts[viewIndex + 1];
+        int sequence = rule.getSequence();
+        while (ruleIndex > mRuleStarts[viewIndex]
+                && mRules[ruleIndex - 1].getSequence() > sequence) {
+            ruleIndex--;
+        }
+
+        // Make room, rules for the views that follow move by one
+        int nMovedRules = mRuleCount - ruleIndex;
+        System.arraycopy(mRules, ruleIndex, mRules, ruleIndex + 1, nMovedRules);
+        System.arraycopy(mDataAdapters, ruleIndex, mDataAdapters, ruleIndex + 1, nMovedRules);
+        System.arraycopy(mAnnotations, ruleIndex, mAnnotations, ruleIndex + 1, nMovedRules);
+        for (int i = viewIndex + 1; i <= mViewCount; i++) {
+            mRuleStarts[i]++;
+        }
+
+        mRules[ruleIndex] = rule;
+        mDataAdapters[ruleIndex] = dataAdapter;
+        mAnnotations[ruleIndex] = annotation;
+        mRuleCount++;
+    }
+
+    /**
+     * Removes a {@link android.view.View} along with its rules.
+     *
+     * @param view  A {@link android.view.View}.
+     */
+    void remove(final View view) {
+        int viewIndex = indexOf(view);
+        if (viewIndex == -1) {
+            return;
+        }
+
+        // Rules
+        int ruleStart = mRuleStarts[viewIndex];
+        int nRemovedRules = mRuleStarts[viewIndex + 1] - ruleStart;
+        int nMovedRules = mRuleCount - ruleStart - nRemovedRules;
+        System.arraycopy(mRules, ruleStart + nRemovedRules, mRules, ruleStart, nMovedRules);
+        System.arraycopy(mDataAdapters, ruleStart + nRemovedRules, mDataAdapters, ruleStart,
+                nMovedRules);
+        System.arraycopy(mAnnotations, ruleStart + nRemovedRules, mAnnotations, ruleStart,
+                nMovedRules);
+        for (int i = mRuleCount - nRemovedRules; i < mRuleCount; i++) {
+            mRules[i] = null;
+            mDataAdapters[i] = null;
+            mAnnotations[i] = null;
+        }
+        mRuleCount -= nRemovedRules;
+
+        // Views
+        int nMovedViews = mViewCount - viewIndex - 1;
+        System.arraycopy(mViews, viewIndex + 1, mViews, viewIndex, nMovedViews);
+        System.arraycopy(mOptionalViews, viewIndex + 1, mOptionalViews, viewIndex, nMovedViews);
+        for (int i = viewIndex; i < mViewCount; i++) {
+            mRuleStarts[i] = mRuleStarts[i + 1] - nRemovedRules;
+        }
+        mViews[--mViewCount] = null;
+
+        mViewIndices.remove(view);
+        for (int i = viewIndex; i < mViewCount; i++) {
+            mViewIndices.put(mViews[i], i);
+        }
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static <T> T[] copyOf(final T[] source, final T[] destination, final int length) {
+        System.arraycopy(source, 0, destination, 0, length);
+        return destination;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import com.mobsandgeeks.saripaar.annotation.Stateless;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns {@link com.mobsandgeeks.saripaar.AnnotationRule}s that are marked
+ * {@link com.mobsandgeeks.saripaar.annotation.Stateless}. Annotations are compared by value, so
+ * identical annotations on different fields and controllers share the same rule instance.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+final class SharedRules {
+    // Shared rules, keyed by rule type and annotation
+    private static final ConcurrentHashMap<Class<? extends AnnotationRule>,
+            ConcurrentHashMap<Annotation, AnnotationRule>> RULES =
+                    new ConcurrentHashMap<Class<? extends AnnotationRule>,
+                            ConcurrentHashMap<Annotation, AnnotationRule>>();
+
+    /**
+     * Checks if instances of a rule type can be shared.
+     *
+     * @param ruleType  The {@link com.mobsandgeeks.saripaar.AnnotationRule} type.
+     *
+     * @return true if the rule type is marked
+     *      {@link com.mobsandgeeks.saripaar.annotation.Stateless}, false otherwise.
+     */
+    static boolean isStateless(final Class<? extends AnnotationRule> ruleType) {
+        return ruleType != null && ruleType.isAnnotationPresent(Stateless.class)
+                && !ContextualAnnotationRule.class.isAssignableFrom(ruleType);
+    }
+
+    /**
+     * Retrieves the shared rule for an annotation.
+     *
+     * @param ruleType  The {@link com.mobsandgeeks.saripaar.AnnotationRule} type.
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} instance.
+     *
+     * @return The shared {@link com.mobsandgeeks.saripaar.AnnotationRule} or null, if there is
+     *      none yet.
+     */
+    static AnnotationRule get(final Class<? extends AnnotationRule> ruleType,
+            final Annotation ruleAnnotation) {
+        ConcurrentHashMap<Annotation, AnnotationRule> rules = RULES.get(ruleType);
+        return rules != null ? rules.get(ruleAnnotation) : null;
+    }
+
+    /**
+     * Shares a rule for an annotation, unless another thread has already done so.
+     *
+     * @param ruleType  The {@link com.mobsandgeeks.saripaar.AnnotationRule} type.
+     * @param ruleAnnotation  The rule {@link java.lang.annotation.Annotation} instance.
+     * @param rule  The newly created {@link com.mobsandgeeks.saripaar.AnnotationRule}.
+     *
+     * @return The {@link com.mobsandgeeks.saripaar.AnnotationRule} that should be used.
+     */
+    static AnnotationRule put(final Class<? extends AnnotationRule> ruleType,
+            final Annotation ruleAnnotation, final AnnotationRule rule) {
+        ConcurrentHashMap<Annotation, AnnotationRule> rules = RULES.get(ruleType);
+        if (rules == null) {
+            rules = new ConcurrentHashMap<Annotation, AnnotationRule>();
+            ConcurrentHashMap<Annotation, AnnotationRule> existingRules =
+                    RULES.putIfAbsent(ruleType, rules);
+            if (existingRules != null) {
+                rules = existingRules;
+            }
+        }
+
+        AnnotationRule existingRule = rules.putIfAbsent(ruleAnnotation, rule);
+        return existingRule != null ? existingRule : rule;
+    }
+
+    /**
+     * Removes all shared rules.
+     */
+    static void clear() {
+        RULES.clear();
+    }
+
+    private SharedRules() {
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.util.SparseArray;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Remembers the string resources used by rules, like messages, regular expressions and date
+ * formats, so they are read from {@link android.content.res.Resources} only once. Strings are
+ * kept separately for each {@link android.content.res.Resources} instance, which is only weakly
+ * referenced, and are discarded when its {@link android.content.res.Configuration} changes
+ * (Ex: after a locale change).
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+final class StringResources {
+    // Attributes
+    private final Map<Resources, Strings> mStrings = new WeakHashMap<Resources, Strings>();
+
+    /**
+     * Retrieves a string resource, it is read from the {@link android.content.Context} only if
+     * it has not been read for the current configuration.
+     *
+     * @param context  A {@link android.content.Context}.
+     * @param resId  The string resource id.
+     *
+     * @return The string.
+     */
+    synchronized String getString(final Context context, final int resId) {
+        Resources resources = context.getResources();
+        Configuration configuration = resources != null ? resources.getConfiguration() : null;
+
+        Strings strings = mStrings.get(resources);
+        if (strings == null) {
+            strings = new Strings(configuration);
+            mStrings.put(resources, strings);
+        } else if (strings.isStale(configuration)) {
+            strings.reset(configuration);
+        }
+
+        String string = strings.values.get(resId);
+        if (string == null) {
+            string = context.getString(resId);
+            strings.values.put(resId, string);
+        }
+
+        return string;
+    }
+
+    /**
+     * Strings read from a single {@link android.content.res.Resources} instance and the
+     * {@link android.content.res.Configuration} they were read for.
+     */
+    private static final class Strings {
+        final SparseArray<String> values = new SparseArray<String>();
+        Configuration configuration;
+
+        Strings(final Configuration configuration) {
+            this.configuration = copy(configuration);
+        }
+
+        boolean isStale(final Configuration configuration) {
+            return configuration != null && (this.configuration == null
+                    || configuration.diff(this.configuration) != 0);
+        }
+
+        void reset(final Configuration configuration) {
+            values.clear();
+            this.configuration = copy(configuration);
+        }
+
+        private static Configuration copy(final Configuration configuration) {
+            return configuration != null ? new Configuration(configuration) : null;
+        }
+    }
+}
@@ -15,9 +15,9 @@
 package com.mobsandgeeks.saripaar;
 
 import android.content.Context;
-import android.util.Pair;
 import android.view.View;
 
+import com.mobsandgeeks.saripaar.adapter.ConversionFailure;
 import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
 import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
 import com.mobsandgeeks.saripaar.exception.ConversionException;
@@ -25,8 +25,8 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * Grants access to information about other {@link android.view.View}s in the controller object.
@@ -36,9 +36,18 @@ import java.util.Set;
  */
 public class ValidationContext {
 
+    // String resources shared by all rules
+    private static final StringResources STRING_RESOURCES = new StringResources();
+
     // Attributes
-    private Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> mViewRulesMap;
+    private RuleTable mRuleTable;
     private Context mContext;
+    private DataSnapshot mDataSnapshot;
+    private Clock mClock = Clock.SYSTEM;
+    private boolean mPassInProgress;
+    private long mPassTimeMillis;
+    private Locale mPassLocale;
+    private TimeZone mPassTimeZone;
 
     ValidationContext(final Context context) {
         this.mContext = context;
@@ -61,15 +70,13 @@ public class ValidationContext {
 
         // Find all views with the target rule
         List<View> annotatedViews = new ArrayList<View>();
-        Set<View> views = mViewRulesMap.keySet();
-        for (View view : views) {
-            ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = mViewRulesMap.get(view);
-            for (Pair<Rule, ViewDataAdapter> ruleAdapterPair : ruleAdapterPairs) {
-                boolean uniqueMatchingView =
-                        annotationRuleClass.equals(ruleAdapterPair.first.getClass())
-                                && !annotatedViews.contains(view);
-                if (uniqueMatchingView) {
-                    annotatedViews.add(view);
+        for (int viewIndex = 0, nViews = mRuleTable.getViewCount(); viewIndex < nViews;
+                viewIndex++) {
+            for (int i = mRuleTable.getRuleStart(viewIndex),
+                    end = mRuleTable.getRuleEnd(viewIndex); i < end; i++) {
+                if (annotationRuleClass.equals(mRuleTable.getRule(i).getClass())) {
+                    annotatedViews.add(mRuleTable.getView(viewIndex));
+                    break;
                 }
             }
         }
@@ -91,13 +98,21 @@ public class ValidationContext {
         assertNotNull(saripaarAnnotation, "saripaarAnnotation");
 
         Object data = null;
-        ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = mViewRulesMap.get(view);
+        int viewIndex = mRuleTable.indexOf(view);
+        if (viewIndex == -1) {
+            return data;
+        }
         Class<? extends AnnotationRule> annotationRuleClass = getRuleClass(saripaarAnnotation);
 
-        for (Pair<Rule, ViewDataAdapter> ruleAdapterPair : ruleAdapterPairs) {
-            if (annotationRuleClass.equals(ruleAdapterPair.first.getClass())) {
+        for (int i = mRuleTable.getRuleStart(viewIndex), end = mRuleTable.getRuleEnd(viewIndex);
+                i < end; i++) {
+            if (annotationRuleClass.equals(mRuleTable.getRule(i).getClass())) {
+                ViewDataAdapter dataAdapter = mRuleTable.getDataAdapter(i);
                 try {
-                    data = ruleAdapterPair.second.getData(view);
+                    Object viewData = mDataSnapshot != null
+                            ? mDataSnapshot.getData(view, dataAdapter)
+                            : DataSnapshot.readData(view, dataAdapter);
+                    data = viewData instanceof ConversionFailure ? null : viewData;
                 } catch (ConversionException e) {
                     e.printStackTrace();
                 }
@@ -107,6 +122,50 @@ public class ValidationContext {
         return data;
     }
 
+    /**
+     * Gets the current time. During a validation pass, all rules see the same time that was read
+     * from the {@link com.mobsandgeeks.saripaar.Clock} when the pass began.
+     *
+     * @return The current time in milliseconds since the epoch.
+     */
+    public long getCurrentTimeMillis() {
+        return mPassInProgress ? mPassTimeMillis : mClock.currentTimeMillis();
+    }
+
+    /**
+     * Gets the default {@link java.util.Locale}. During a validation pass, all rules see the
+     * locale that was the default when the pass began.
+     *
+     * @return The default {@link java.util.Locale}.
+     */
+    public Locale getLocale() {
+        return mPassInProgress ? mPassLocale : Locale.getDefault();
+    }
+
+    /**
+     * Gets the default {@link java.util.TimeZone}. During a validation pass, all rules see the
+     * time zone that was the default when the pass began, rules must not modify it.
+     *
+     * @return The default {@link java.util.TimeZone}.
+     */
+    public TimeZone getTimeZone() {
+        // TimeZone.getDefault() returns a new clone on every call
+        return mPassInProgress ? mPassTimeZone : TimeZone.getDefault();
+    }
+
+    /**
+     * Retrieves a string resource. Strings are cached across validation passes and re-read
+     * only after the {@link android.content.res.Configuration} changes (Ex: the locale), rules
+     * should prefer this method over {@link android.content.Context#getString(int)}.
+     *
+     * @param resId  The string resource id.
+     *
+     * @return The string.
+     */
+    public String getString(final int resId) {
+        return STRING_RESOURCES.getString(mContext, resId);
+    }
+
     /**
      * Get a {@link Context}.
      *
@@ -116,8 +175,28 @@ public class ValidationContext {
         return mContext;
     }
 
-    void setViewRulesMap(final Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap) {
-        mViewRulesMap = viewRulesMap;
+    static String getString(final Context context, final int resId) {
+        return STRING_RESOURCES.getString(context, resId);
+    }
+
+    void setRuleTable(final RuleTable ruleTable) {
+        mRuleTable = ruleTable;
+    }
+
+    void setDataSnapshot(final DataSnapshot dataSnapshot) {
+        mDataSnapshot = dataSnapshot;
+    }
+
+    void beginPass(final Clock clock) {
+        mClock = clock;
+        mPassTimeMillis = clock.currentTimeMillis();
+        mPassLocale = Locale.getDefault();
+        mPassTimeZone = TimeZone.getDefault();
+        mPassInProgress = true;
+    }
+
+    void endPass() {
+        mPassInProgress = false;
     }
 
     /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar;
+
+import android.view.View;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * Base class for the {@code <Controller>_ValidationPlan} classes generated by the
+ * {@code saripaar-processor} annotation processor. A plan lists the Saripaar annotated
+ * {@link android.view.View} fields of a controller, reads them directly and carries their
+ * annotations as compiled into the plan, so the {@link com.mobsandgeeks.saripaar.Validator} does
+ * not have to scan the controller's class hierarchy using reflection. Plans do not refer to
+ * fields by name and keep working when the controller is minified. Controllers without a usable
+ * plan are still validated using reflection.
+ *
+ * @param <CONTROLLER>  The controller type, usually an {@link android.app.Activity} or a
+ *      {@link android.app.Fragment}.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public abstract class ValidationPlan<CONTROLLER> {
+    // Constants
+    private static final String PLAN_CLASS_SUFFIX = "_ValidationPlan";
+
+    /**
+     * Gets the number of Saripaar annotated {@link android.view.View} fields in the controller.
+     *
+     * @return The number of fields.
+     */
+    public abstract int getFieldCount();
+
+    /**
+     * Gets the name of a field, used for reporting errors.
+     *
+     * @param index  Index of the field in the plan.
+     *
+     * @return The field name.
+     */
+    public abstract String getFieldName(int index);
+
+    /**
+     * Gets the declared {@link android.view.View} type of a field.
+     *
+     * @param index  Index of the field in the plan.
+     *
+     * @return The declared type of the field.
+     */
+    public abstract Class<? extends View> getViewType(int index);
+
+    /**
+     * Gets the Saripaar {@link java.lang.annotation.Annotation}s present on a field.
+     *
+     * @param index  Index of the field in the plan.
+     *
+     * @return The field's annotations.
+     */
+    public abstract Annotation[] getAnnotations(int index);
+
+    /**
+     * Reads a field from the given controller instance.
+     *
+     * @param controller  The controller instance.
+     * @param index  Index of the field in the plan.
+     *
+     * @return The {@link android.view.View} referenced by the field.
+     */
+    public abstract View getView(CONTROLLER controller, int index);
+
+    /**
+     * Finds and instantiates the generated plan for the given controller class.
+     *
+     * @param controllerClass  The controller class.
+     *
+     * @return The generated {@link ValidationPlan} or null, if there is none or it cannot be
+     *      used.
+     */
+    @SuppressWarnings("unchecked")
+    static ValidationPlan<Object> find(final Class<?> controllerClass) {
+        ValidationPlan<Object> plan = null;
+        String planClassName = controllerClass.getName() + PLAN_CLASS_SUFFIX;
+
+        try {
+            Class<?> planClass = Class.forName(planClassName, true,
+                    controllerClass.getClassLoader());
+            if (ValidationPlan.class.isAssignableFrom(planClass)) {
+                plan = (ValidationPlan<Object>) planClass.newInstance();
+            }
+        } catch (ClassNotFoundException ignored) {
+            // No generated plan, the Validator falls back to reflection.
+        } catch (InstantiationException e) {
+            e.printStackTrace();
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        } catch (RuntimeException e) {
+            // A plan that fails to initialize (Ex: stale or shrunk) must not break validation.
+            e.printStackTrace();
+        } catch (LinkageError e) {
+            e.printStackTrace();
+        }
+
+        return plan;
+    }
+
+    /**
+     * Base class for the {@link java.lang.annotation.Annotation} implementations in generated
+     * plans. A generated subclass implements one annotation type and holds the values of its
+     * members, in the order they are declared. Equality and hash codes follow the
+     * {@link java.lang.annotation.Annotation} contract, so instances are interchangeable with
+     * the annotations returned by reflection.
+     */
+    protected abstract static class GeneratedAnnotation implements Annotation {
+        // Attributes
+        private final String[] mMemberNames;
+        private final Object[] mMemberValues;
+
+        /**
+         * Constructor.
+         *
+         * @param memberNames  Names of the annotation members, in the order they are declared.
+         * @param memberValues  Values of the annotation members, primitives are boxed.
+         */
+        protected GeneratedAnnotation(final String[] memberNames, final Object[] memberValues) {
+            mMemberNames = memberNames;
+            mMemberValues = memberValues;
+        }
+
+        /**
+         * Gets the value of a member. Generated subclasses clone array values before returning
+         * them.
+         *
+         * @param index  Index of the member.
+         *
+         * @return The member value.
+         */
+        protected final Object getMemberValue(final int index) {
+            return mMemberValues[index];
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            Class<? extends Annotation> annotationType = annotationType();
+            if (!annotationType.isInstance(object)) {
+                return false;
+            }
+
+            GeneratedAnnotation generatedAnnotation = object instanceof GeneratedAnnotation
+                    ? (GeneratedAnnotation) object : null;
+            boolean sameLayout = generatedAnnotation != null
+                    && Arrays.equals(mMemberNames, generatedAnnotation.mMemberNames);
+            for (int i = 0, n = mMemberNames.length; i < n; i++) {
+                Object otherValue = sameLayout
+                        ? generatedAnnotation.mMemberValues[i]
+                        : Reflector.getAttributeValue((Annotation) object, mMemberNames[i],
+                                Object.class);
+                if (!memberValueEquals(mMemberValues[i], otherValue)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 0;
+            for (int i = 0, n = mMemberNames.length; i < n; i++) {
+                hashCode += (127 * mMemberNames[i].hashCode())
+                        ^ memberValueHashCode(mMemberValues[i]);
+            }
+
+            return hashCode;
+        }
+
+        private static boolean memberValueEquals(final Object value, final Object otherValue) {
+            // Wrapped, so that primitive arrays are compared by value too
+            return Arrays.deepEquals(new Object[] { value }, new Object[] { otherValue });
+        }
+
+        private static int memberValueHashCode(final Object value) {
+            // Same as Arrays.hashCode() for arrays and hashCode() otherwise, 31 is the hash code
+            // contributed by the wrapping array
+            return Arrays.deepHashCode(new Object[] { value }) - 31;
+        }
+    }
+}
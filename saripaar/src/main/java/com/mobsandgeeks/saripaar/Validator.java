@@ -16,61 +16,26 @@ package com.mobsandgeeks.saripaar;
 
 import android.app.Activity;
 import android.app.Fragment;
-import android.content.Context;
 import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
 import android.util.Pair;
 import android.view.View;
-import android.widget.CheckBox;
-import android.widget.RadioButton;
-import android.widget.RadioGroup;
-import android.widget.Spinner;
-
-import com.mobsandgeeks.saripaar.adapter.CheckBoxBooleanAdapter;
-import com.mobsandgeeks.saripaar.adapter.RadioButtonBooleanAdapter;
-import com.mobsandgeeks.saripaar.adapter.RadioGroupBooleanAdapter;
-import com.mobsandgeeks.saripaar.adapter.SpinnerIndexAdapter;
+
+import com.mobsandgeeks.saripaar.adapter.ConversionFailure;
+import com.mobsandgeeks.saripaar.adapter.DoubleViewDataAdapter;
+import com.mobsandgeeks.saripaar.adapter.IntViewDataAdapter;
 import com.mobsandgeeks.saripaar.adapter.ViewDataAdapter;
-import com.mobsandgeeks.saripaar.annotation.AssertFalse;
-import com.mobsandgeeks.saripaar.annotation.AssertTrue;
-import com.mobsandgeeks.saripaar.annotation.Checked;
-import com.mobsandgeeks.saripaar.annotation.ConfirmEmail;
-import com.mobsandgeeks.saripaar.annotation.ConfirmPassword;
-import com.mobsandgeeks.saripaar.annotation.CreditCard;
-import com.mobsandgeeks.saripaar.annotation.DecimalMax;
-import com.mobsandgeeks.saripaar.annotation.DecimalMin;
-import com.mobsandgeeks.saripaar.annotation.Digits;
-import com.mobsandgeeks.saripaar.annotation.Domain;
-import com.mobsandgeeks.saripaar.annotation.Email;
-import com.mobsandgeeks.saripaar.annotation.Future;
-import com.mobsandgeeks.saripaar.annotation.IpAddress;
-import com.mobsandgeeks.saripaar.annotation.Isbn;
-import com.mobsandgeeks.saripaar.annotation.Length;
-import com.mobsandgeeks.saripaar.annotation.Max;
-import com.mobsandgeeks.saripaar.annotation.Min;
-import com.mobsandgeeks.saripaar.annotation.NotEmpty;
-import com.mobsandgeeks.saripaar.annotation.Optional;
-import com.mobsandgeeks.saripaar.annotation.Order;
-import com.mobsandgeeks.saripaar.annotation.Password;
-import com.mobsandgeeks.saripaar.annotation.Past;
-import com.mobsandgeeks.saripaar.annotation.Pattern;
-import com.mobsandgeeks.saripaar.annotation.Select;
-import com.mobsandgeeks.saripaar.annotation.Url;
 import com.mobsandgeeks.saripaar.annotation.ValidateUsing;
 import com.mobsandgeeks.saripaar.exception.ConversionException;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * The {@link com.mobsandgeeks.saripaar.Validator} takes care of validating the
@@ -129,27 +94,37 @@ import java.util.Set;
 @SuppressWarnings({ "unchecked", "ForLoopReplaceableByForEach" })
 public class Validator {
 
-    // Entries are registered inside a static block (Placed at the end of source)
-    private static final Registry SARIPAAR_REGISTRY = new Registry();
-
     // Holds adapter entries that are mapped to corresponding views.
     private final
             Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> mRegisteredAdaptersMap =
                     new HashMap<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>>();
 
+    // Adapters resolved from the registered adapters, including misses.
+    private final Map<Class<?>, HashMap<Class<?>, ViewDataAdapter>> mResolvedAdaptersMap =
+            new HashMap<Class<?>, HashMap<Class<?>, ViewDataAdapter>>();
+
+    // Holds adapter entries that replace stock adapters for corresponding views.
+    private final
+            Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> mReplacementAdaptersMap =
+                    new HashMap<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>>();
+
+    // Adapters resolved from the replacement adapters, including misses.
+    private final Map<Class<?>, HashMap<Class<?>, ViewDataAdapter>> mResolvedReplacementsMap =
+            new HashMap<Class<?>, HashMap<Class<?>, ViewDataAdapter>>();
+
     // Attributes
     private Object mController;
     private Mode mValidationMode;
     private ValidationContext mValidationContext;
-    private Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> mViewRulesMap;
-    private Map<View, ArrayList<Pair<Annotation, ViewDataAdapter>>> mOptionalViewsMap;
+    private RuleTable mRuleTable;
     private boolean mOrderedFields;
     private boolean mValidateInvisibleViews;
-    private SequenceComparator mSequenceComparator;
     private ViewValidatedAction mViewValidatedAction;
     private Handler mViewValidatedActionHandler;
     private ValidationListener mValidationListener;
     private AsyncValidationTask mAsyncValidationTask;
+    private final DataSnapshot mDataSnapshot = new DataSnapshot();
+    private Clock mClock = Clock.SYSTEM;
 
     /**
      * Constructor.
@@ -161,7 +136,6 @@ public class Validator {
         assertNotNull(controller, "controller");
         mController = controller;
         mValidationMode = Mode.BURST;
-        mSequenceComparator = new SequenceComparator();
         mViewValidatedAction = new DefaultViewValidatedAction();
 
         // Instantiate a ValidationContext
@@ -172,7 +146,7 @@ public class Validator {
             Activity activity = ((Fragment) controller).getActivity();
             mValidationContext = new ValidationContext(activity);
         }
-        // Else, lazy init ValidationContext in #getRuleAdapterPair(Annotation, Field)
+        // Else, lazy init ValidationContext in #getRuleAdapterPair(Annotation, Class, View)
         // or void #put(VIEW, QuickRule<VIEW>) by obtaining a Context from one of the
         // View instances.
     }
@@ -190,7 +164,8 @@ public class Validator {
      * @param ruleAnnotation  A rule {@link java.lang.annotation.Annotation}.
      */
     public static void registerAnnotation(final Class<? extends Annotation> ruleAnnotation) {
-        SARIPAAR_REGISTRY.register(ruleAnnotation);
+        getRegistry().register(ruleAnnotation);
+        ControllerMetadata.evictAll();
     }
 
     /**
@@ -212,7 +187,79 @@ public class Validator {
 
         ValidateUsing validateUsing = annotation.getAnnotation(ValidateUsing.class);
         Class ruleDataType = Reflector.getRuleDataType(validateUsing);
-        SARIPAAR_REGISTRY.register(viewType, ruleDataType, viewDataAdapter, annotation);
+        getRegistry().register(viewType, ruleDataType, viewDataAdapter, annotation);
+        ControllerMetadata.evictAll();
+    }
+
+    /**
+     * Same as {@link #registerAnnotation(Class)}, rules for the annotation are created using the
+     * given {@link com.mobsandgeeks.saripaar.RuleFactory} instead of reflection.
+     *
+     * @param ruleAnnotation  A rule {@link java.lang.annotation.Annotation}.
+     * @param ruleFactory  A {@link com.mobsandgeeks.saripaar.RuleFactory} that creates rules for
+     *      the annotation.
+     *
+     * @param <RULE_ANNOTATION>  The rule {@link java.lang.annotation.Annotation} type.
+     */
+    public static <RULE_ANNOTATION extends Annotation> void registerAnnotation(
+            final Class<RULE_ANNOTATION> ruleAnnotation,
+            final RuleFactory<RULE_ANNOTATION> ruleFactory) {
+        assertNotNull(ruleFactory, "ruleFactory");
+        getRegistry().register(ruleAnnotation, ruleFactory);
+        ControllerMetadata.evictAll();
+        SharedRules.clear();
+    }
+
+    /**
+     * Same as {@link #registerAnnotation(Class, Class,
+     * com.mobsandgeeks.saripaar.adapter.ViewDataAdapter)}, rules for the annotation are created
+     * using the given {@link com.mobsandgeeks.saripaar.RuleFactory} instead of reflection.
+     *
+     * @param annotation  The annotation that you want to register.
+     * @param viewType  The {@link android.view.View} type.
+     * @param viewDataAdapter  An instance of the
+     *      {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} for your
+     *      {@link android.view.View}.
+     * @param ruleFactory  A {@link com.mobsandgeeks.saripaar.RuleFactory} that creates rules for
+     *      the annotation.
+     *
+     * @param <RULE_ANNOTATION>  The rule {@link java.lang.annotation.Annotation} type.
+     * @param <VIEW>  The {@link android.view.View} for which the
+     *      {@link java.lang.annotation.Annotation} and
+     *      {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} is being registered.
+     */
+    public static <RULE_ANNOTATION extends Annotation, VIEW extends View> void registerAnnotation(
+            final Class<RULE_ANNOTATION> annotation, final Class<VIEW> viewType,
+            final ViewDataAdapter<VIEW, ?> viewDataAdapter,
+            final RuleFactory<RULE_ANNOTATION> ruleFactory) {
+        assertNotNull(ruleFactory, "ruleFactory");
+        ValidateUsing validateUsing = annotation.getAnnotation(ValidateUsing.class);
+        Class ruleDataType = Reflector.getRuleDataType(validateUsing);
+        getRegistry().register(viewType, ruleDataType, viewDataAdapter, annotation, ruleFactory);
+        ControllerMetadata.evictAll();
+        SharedRules.clear();
+    }
+
+    /**
+     * The {@link com.mobsandgeeks.saripaar.Validator} caches the annotated fields, their rule
+     * annotations and rule types for every controller class it has seen. Call this method to
+     * remove the cached entry for a controller class, that is no longer in use. Useful for apps
+     * that load many controller classes dynamically.
+     *
+     * @param controllerClass  The controller class whose cached entry should be removed.
+     */
+    public static void evictControllerMetadata(final Class<?> controllerClass) {
+        assertNotNull(controllerClass, "controllerClass");
+        ControllerMetadata.evict(controllerClass);
+    }
+
+    /**
+     * Removes the cached entries for all controller classes.
+     *
+     * @see #evictControllerMetadata(Class)
+     */
+    public static void evictAllControllerMetadata() {
+        ControllerMetadata.evictAll();
     }
 
     /**
@@ -242,6 +289,44 @@ public class Validator {
         Class<?> adapterDataType = getDataMethod.getReturnType();
 
         dataTypeAdapterMap.put(adapterDataType, viewDataAdapter);
+        mResolvedAdaptersMap.clear();
+    }
+
+    /**
+     * Registers a {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} that replaces
+     * Saripaar's stock adapter for the given {@link android.view.View}, for rules that expect
+     * the adapter's data type. For instance,
+     * {@link com.mobsandgeeks.saripaar.adapter.TextViewLocaleIntegerAdapter} can replace the
+     * stock adapter used for {@link com.mobsandgeeks.saripaar.annotation.Min} and
+     * {@link com.mobsandgeeks.saripaar.annotation.Max} on {@link android.widget.EditText}s.
+     * Adapters registered using {@link #registerAdapter(Class, ViewDataAdapter)} never replace
+     * stock adapters.
+     *
+     * @param viewType  The {@link android.view.View} for which a
+     *      {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} is being registered.
+     * @param viewDataAdapter  A {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} instance.
+     *
+     * @param <VIEW>  The {@link android.view.View} type.
+     * @param <DATA_TYPE>  The {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} type.
+     */
+    public <VIEW extends View, DATA_TYPE> void replaceAdapter(
+            final Class<VIEW> viewType, final ViewDataAdapter<VIEW, DATA_TYPE> viewDataAdapter) {
+        assertNotNull(viewType, "viewType");
+        assertNotNull(viewDataAdapter, "viewDataAdapter");
+
+        HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap =
+                mReplacementAdaptersMap.get(viewType);
+        if (dataTypeAdapterMap == null) {
+            dataTypeAdapterMap = new HashMap<Class<?>, ViewDataAdapter>();
+            mReplacementAdaptersMap.put(viewType, dataTypeAdapterMap);
+        }
+
+        // Find adapter's data type
+        Method getDataMethod = Reflector.findGetDataMethod(viewDataAdapter.getClass());
+        Class<?> adapterDataType = getDataMethod.getReturnType();
+
+        dataTypeAdapterMap.put(adapterDataType, viewDataAdapter);
+        mResolvedReplacementsMap.clear();
     }
 
     /**
@@ -297,6 +382,20 @@ public class Validator {
         this.mValidateInvisibleViews = validate;
     }
 
+    /**
+     * Set the {@link com.mobsandgeeks.saripaar.Clock} that provides the current time to rules
+     * like {@link com.mobsandgeeks.saripaar.annotation.Future} and
+     * {@link com.mobsandgeeks.saripaar.annotation.Past}. The clock is read once at the beginning
+     * of each validation pass.
+     *
+     * @param clock  A {@link com.mobsandgeeks.saripaar.Clock} instance. null throws an
+     *      {@link java.lang.IllegalArgumentException}.
+     */
+    public void setClock(final Clock clock) {
+        assertNotNull(clock, "clock");
+        this.mClock = clock;
+    }
+
     /**
      * Validates all {@link android.view.View}s with {@link com.mobsandgeeks.saripaar.Rule}s.
      * When validating in {@link com.mobsandgeeks.saripaar.Validator.Mode#IMMEDIATE}, all
@@ -432,27 +531,21 @@ public class Validator {
         createRulesSafelyAndLazily(true);
 
         // If all fields are ordered, then this field should be ordered too
-        if (mOrderedFields && !mViewRulesMap.containsKey(view)) {
+        if (mOrderedFields && mRuleTable.indexOf(view) == -1) {
             String message = String.format("All fields are ordered, so this `%s` should be "
                     + "ordered too, declare the view as a field and add the `@Order` "
                     + "annotation.", view.getClass().getName());
             throw new IllegalStateException(message);
         }
 
-        // If there are no rules, create an empty list
-        ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = mViewRulesMap.get(view);
-        ruleAdapterPairs = ruleAdapterPairs == null
-                ? new ArrayList<Pair<Rule, ViewDataAdapter>>() : ruleAdapterPairs;
-
-        // Add the quick rule to existing rules
+        // Add the quick rules to existing rules, if any
+        int viewIndex = mRuleTable.addView(view);
         for (int i = 0, n = quickRules.length; i < n; i++) {
             QuickRule quickRule = quickRules[i];
             if (quickRule != null) {
-                ruleAdapterPairs.add(new Pair(quickRule, null));
+                mRuleTable.addRule(viewIndex, quickRule, null, null);
             }
         }
-        Collections.sort(ruleAdapterPairs, mSequenceComparator);
-        mViewRulesMap.put(view, ruleAdapterPairs);
     }
 
     /**
@@ -462,20 +555,24 @@ public class Validator {
      */
     public void removeRules(final View view) {
         assertNotNull(view, "view");
-        if (mViewRulesMap == null) {
+        if (mRuleTable == null) {
             createRulesSafelyAndLazily(false);
         }
-        mViewRulesMap.remove(view);
+        mRuleTable.remove(view);
     }
 
     static boolean isSaripaarAnnotation(final Class<? extends Annotation> annotation) {
-        return SARIPAAR_REGISTRY.getRegisteredAnnotations().contains(annotation);
+        return getRegistry().getRegisteredAnnotations().contains(annotation);
     }
 
     /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      *  Private Methods
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      */
+    private static Registry getRegistry() {
+        return RegistryHolder.SARIPAAR_REGISTRY;
+    }
+
     private static void assertNotNull(final Object object, final String argumentName) {
         if (object == null) {
             String message = String.format("'%s' cannot be null.", argumentName);
@@ -486,13 +583,14 @@ public class Validator {
     private void createRulesSafelyAndLazily(final boolean addingQuickRules) {
         // Create rules lazily, because we don't have to worry about the order of
         // instantiating the Validator.
-        if (mViewRulesMap == null) {
-            final List<Field> annotatedFields = getSaripaarAnnotatedFields(mController.getClass());
-            mViewRulesMap = createRules(annotatedFields);
-            mValidationContext.setViewRulesMap(mViewRulesMap);
+        if (mRuleTable == null) {
+            final ControllerMetadata controllerMetadata = ControllerMetadata.get(
+                    mController.getClass(), getRegistry().getRegisteredAnnotations());
+            mRuleTable = createRules(controllerMetadata);
+            mValidationContext.setRuleTable(mRuleTable);
         }
 
-        if (!addingQuickRules && mViewRulesMap.size() == 0) {
+        if (!addingQuickRules && mRuleTable.getViewCount() == 0) {
             String message = "No rules found. You must have at least one rule to validate. "
                     + "If you are using custom annotations, make sure that you have registered "
                     + "them using the 'Validator.register()' method.";
@@ -500,144 +598,42 @@ public class Validator {
         }
     }
 
-    private List<Field> getSaripaarAnnotatedFields(final Class<?> controllerClass) {
-        Set<Class<? extends Annotation>> saripaarAnnotations =
-                SARIPAAR_REGISTRY.getRegisteredAnnotations();
+    private RuleTable createRules(final ControllerMetadata controllerMetadata) {
+        final RuleTable ruleTable = new RuleTable();
 
-        List<Field> annotatedFields = new ArrayList<Field>();
-        List<Field> controllerViewFields = getControllerViewFields(controllerClass);
-        for (int i = 0, n = controllerViewFields.size(); i < n; i++) {
-            Field field = controllerViewFields.get(i);
-            if (isSaripaarAnnotatedField(field, saripaarAnnotations)) {
-                annotatedFields.add(field);
-            }
+        for (int i = 0, n = controllerMetadata.getFieldCount(); i < n; i++) {
+            View view = controllerMetadata.getView(mController, i);
+            addRules(ruleTable, view, controllerMetadata.getField(i));
         }
+        mOrderedFields = controllerMetadata.areOrderedFields();
 
-        // Sort
-        SaripaarFieldsComparator comparator = new SaripaarFieldsComparator();
-        Collections.sort(annotatedFields, comparator);
-        mOrderedFields = annotatedFields.size() == 1
-                ? annotatedFields.get(0).getAnnotation(Order.class) != null
-                : annotatedFields.size() != 0 && comparator.areOrderedFields();
-
-        return annotatedFields;
+        return ruleTable;
     }
 
-    private List<Field> getControllerViewFields(final Class<?> controllerClass) {
-        List<Field> controllerViewFields = new ArrayList<Field>();
+    private void addRules(final RuleTable ruleTable, final View view,
+            final ControllerMetadata.FieldMetadata fieldMetadata) {
+        final int viewIndex = ruleTable.addView(view);
 
-        // Fields declared in the controller
-        controllerViewFields.addAll(getViewFields(controllerClass));
-
-        // Inherited fields
-        Class<?> superClass = controllerClass.getSuperclass();
-        while (!superClass.equals(Object.class)) {
-            List<Field> viewFields = getViewFields(superClass);
-            if (viewFields.size() > 0) {
-                controllerViewFields.addAll(viewFields);
-            }
-            superClass = superClass.getSuperclass();
+        // @Optional
+        if (fieldMetadata.optional) {
+            ruleTable.setOptional(viewIndex);
         }
 
-        return controllerViewFields;
-    }
-
-    private List<Field> getViewFields(final Class<?> clazz) {
-        List<Field> viewFields = new ArrayList<Field>();
-        Field[] declaredFields = clazz.getDeclaredFields();
-        for (int i = 0, n = declaredFields.length; i < n; i++) {
-            Field field = declaredFields[i];
-            if (View.class.isAssignableFrom(field.getType())) {
-                viewFields.add(field);
-            }
-        }
-
-        return viewFields;
-    }
-
-    private boolean isSaripaarAnnotatedField(final Field field,
-            final Set<Class<? extends Annotation>> registeredAnnotations) {
-        boolean hasOrderAnnotation = field.getAnnotation(Order.class) != null;
-        boolean hasSaripaarAnnotation = false;
-
-        if (!hasOrderAnnotation) {
-            Annotation[] annotations = field.getAnnotations();
-            for (int i = 0, n = annotations.length; i < n; i++) {
-                Annotation annotation = annotations[i];
-                hasSaripaarAnnotation = registeredAnnotations.contains(annotation.annotationType());
-                if (hasSaripaarAnnotation) {
-                    break;
-                }
-            }
-        }
-
-        return hasOrderAnnotation || hasSaripaarAnnotation;
-    }
-
-    private Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> createRules(
-            final List<Field> annotatedFields) {
-
-        final Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap =
-                new LinkedHashMap<View, ArrayList<Pair<Rule, ViewDataAdapter>>>();
-
-        View view;
-        for (int i = 0, n = annotatedFields.size(); i < n; i++) {
-            Field field = annotatedFields.get(i);
-            final ArrayList<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs =
-                    new ArrayList<Pair<Rule, ViewDataAdapter>>();
-            final Annotation[] fieldAnnotations = field.getAnnotations();
-
-            // @Optional
-            final boolean hasOptionalAnnotation = hasOptionalAnnotation(fieldAnnotations);
-            if (hasOptionalAnnotation && mOptionalViewsMap == null) {
-                mOptionalViewsMap = new HashMap<View,
-                        ArrayList<Pair<Annotation, ViewDataAdapter>>>();
-            }
-
-            view = getView(field);
-            for (int j = 0, nAnnotations = fieldAnnotations.length; j < nAnnotations; j++) {
-                Annotation annotation = fieldAnnotations[j];
-                if (isSaripaarAnnotation(annotation.annotationType())) {
-                    Pair<Rule, ViewDataAdapter> ruleAdapterPair =
-                            getRuleAdapterPair(annotation, field);
-                    ruleAdapterPairs.add(ruleAdapterPair);
-
-                    // @Optional
-                    if (hasOptionalAnnotation) {
-                        ArrayList<Pair<Annotation, ViewDataAdapter>> pairs =
-                                mOptionalViewsMap.get(view);
-                        if (pairs == null) {
-                            pairs = new ArrayList<Pair<Annotation, ViewDataAdapter>>();
-                        }
-                        pairs.add(new Pair(annotation, ruleAdapterPair.second));
-                        mOptionalViewsMap.put(view, pairs);
-                    }
-                }
-            }
-
-            Collections.sort(ruleAdapterPairs, mSequenceComparator);
-            viewRulesMap.put(view, ruleAdapterPairs);
+        final Annotation[] ruleAnnotations = fieldMetadata.ruleAnnotations;
+        for (int j = 0, nAnnotations = ruleAnnotations.length; j < nAnnotations; j++) {
+            Annotation annotation = ruleAnnotations[j];
+            Pair<Rule, ViewDataAdapter> ruleAdapterPair = getRuleAdapterPair(annotation,
+                    fieldMetadata.ruleTypes[j], fieldMetadata.ruleDataTypes[j],
+                    fieldMetadata.statelessRules[j], fieldMetadata.viewType, view);
+            ruleTable.addRule(viewIndex, ruleAdapterPair.first, ruleAdapterPair.second,
+                    annotation);
         }
-
-        return viewRulesMap;
-    }
-
-    private boolean hasOptionalAnnotation(final Annotation[] annotations) {
-        if (annotations != null && annotations.length > 0) {
-            for (int i = 0, n = annotations.length; i < n; i++) {
-                if (Optional.class.equals(annotations[i].annotationType())) {
-                    return true;
-                }
-            }
-        }
-        return false;
     }
 
     private Pair<Rule, ViewDataAdapter> getRuleAdapterPair(final Annotation saripaarAnnotation,
-            final Field viewField) {
+            final Class<? extends AnnotationRule> ruleType, final Class<?> ruleDataType,
+            final boolean statelessRule, final Class<?> viewFieldType, final View view) {
         final Class<? extends Annotation> annotationType = saripaarAnnotation.annotationType();
-        final Class<?> viewFieldType = viewField.getType();
-        final Class<?> ruleDataType = Reflector.getRuleDataType(saripaarAnnotation);
 
         final ViewDataAdapter dataAdapter = getDataAdapter(annotationType, viewFieldType,
                 ruleDataType);
@@ -656,73 +652,92 @@ public class Validator {
         }
 
         if (mValidationContext == null) {
-            mValidationContext = new ValidationContext(getContext(viewField));
+            mValidationContext = new ValidationContext(view.getContext());
         }
 
-        final Class<? extends AnnotationRule> ruleType = getRuleType(saripaarAnnotation);
-        final AnnotationRule rule = Reflector.instantiateRule(ruleType,
-                saripaarAnnotation, mValidationContext);
+        AnnotationRule rule = statelessRule
+                ? SharedRules.get(ruleType, saripaarAnnotation)
+                : null;
+        if (rule == null) {
+            rule = createRule(ruleType, saripaarAnnotation);
+            if (statelessRule) {
+                rule = SharedRules.put(ruleType, saripaarAnnotation, rule);
+            }
+        }
 
         return new Pair<Rule, ViewDataAdapter>(rule, dataAdapter);
     }
 
+    @SuppressWarnings("unchecked")
+    private AnnotationRule createRule(final Class<? extends AnnotationRule> ruleType,
+            final Annotation saripaarAnnotation) {
+        RuleFactory ruleFactory = getRegistry().getRuleFactory(
+                saripaarAnnotation.annotationType());
+        if (ruleFactory == null) {
+            return Reflector.instantiateRule(ruleType, saripaarAnnotation, mValidationContext);
+        }
+
+        AnnotationRule rule = ruleFactory.newRule(saripaarAnnotation, mValidationContext);
+        if (rule == null) {
+            String message = String.format("'%s' returned a null rule for '%s'.",
+                    ruleFactory.getClass().getName(),
+                    saripaarAnnotation.annotationType().getName());
+            throw new IllegalStateException(message);
+        }
+        return rule;
+    }
+
     private ViewDataAdapter getDataAdapter(final Class<? extends Annotation> annotationType,
             final Class<?> viewFieldType, final Class<?> adapterDataType) {
 
+        // Adapters that explicitly replace stock adapters (Ex: locale adapters) come first
+        ViewDataAdapter dataAdapter = resolveAdapter(mReplacementAdaptersMap,
+                mResolvedReplacementsMap, viewFieldType, adapterDataType);
+
         // Get an adapter from the stock registry
-        ViewDataAdapter dataAdapter = SARIPAAR_REGISTRY.getDataAdapter(
-                annotationType, (Class) viewFieldType);
+        if (dataAdapter == null) {
+            dataAdapter = getRegistry().getDataAdapter(annotationType, (Class) viewFieldType);
+        }
 
         // If we are unable to find a Saripaar stock adapter, check the registered adapters
         if (dataAdapter == null) {
-            HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap =
-                    mRegisteredAdaptersMap.get(viewFieldType);
-            dataAdapter = dataTypeAdapterMap != null
-                    ? dataTypeAdapterMap.get(adapterDataType)
-                    : null;
+            dataAdapter = resolveAdapter(mRegisteredAdaptersMap, mResolvedAdaptersMap,
+                    viewFieldType, adapterDataType);
         }
 
         return dataAdapter;
     }
 
-    private Context getContext(final Field viewField) {
-        Context context = null;
-        try {
-            if (!viewField.isAccessible()) {
-                viewField.setAccessible(true);
-            }
-            View view = (View) viewField.get(mController);
-            context = view.getContext();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+    private ViewDataAdapter resolveAdapter(
+            final Map<Class<? extends View>, HashMap<Class<?>, ViewDataAdapter>> adaptersMap,
+            final Map<Class<?>, HashMap<Class<?>, ViewDataAdapter>> resolvedAdaptersMap,
+            final Class<?> viewFieldType, final Class<?> adapterDataType) {
+        if (adaptersMap.isEmpty()) {
+            return null;
         }
-        return context;
-    }
 
-    private Class<? extends AnnotationRule> getRuleType(final Annotation ruleAnnotation) {
-        ValidateUsing validateUsing = ruleAnnotation.annotationType()
-                .getAnnotation(ValidateUsing.class);
-        return validateUsing != null ? validateUsing.value() : null;
-    }
-
-    private View getView(final Field field) {
-        View view = null;
-        try {
-            field.setAccessible(true);
-            view = (View) field.get(mController);
+        HashMap<Class<?>, ViewDataAdapter> resolvedAdapters =
+                resolvedAdaptersMap.get(viewFieldType);
+        if (resolvedAdapters == null) {
+            resolvedAdapters = new HashMap<Class<?>, ViewDataAdapter>();
+            resolvedAdaptersMap.put(viewFieldType, resolvedAdapters);
+        } else if (resolvedAdapters.containsKey(adapterDataType)) {
+            return resolvedAdapters.get(adapterDataType);
+        }
 
-            if (view == null) {
-                String message = String.format("'%s %s' is null.",
-                        field.getType().getSimpleName(), field.getName());
-                throw new IllegalStateException(message);
-            }
-        } catch (IllegalArgumentException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+        // Walk up the view's class hierarchy, the closest registered ancestor wins
+        ViewDataAdapter dataAdapter = null;
+        Class<?> type = viewFieldType;
+        while (dataAdapter == null && type != null && View.class.isAssignableFrom(type)) {
+            HashMap<Class<?>, ViewDataAdapter> dataTypeAdapterMap = adaptersMap.get(type);
+            dataAdapter = dataTypeAdapterMap != null
+                    ? dataTypeAdapterMap.get(adapterDataType)
+                    : null;
+            type = type.getSuperclass();
         }
 
-        return view;
+        resolvedAdapters.put(adapterDataType, dataAdapter);
+        return dataAdapter;
     }
 
     private void validateUnorderedFieldsWithCallbackTill(final View view, final boolean async) {
@@ -759,7 +774,21 @@ public class Validator {
         assertNotNull(mValidationListener, "validationListener");
 
         // Everything good. Bingo! validate ;)
-        return getValidationReport(view, mViewRulesMap, mValidationMode);
+        mDataSnapshot.clear();
+        if (mValidationContext != null) {
+            mValidationContext.setDataSnapshot(mDataSnapshot);
+            mValidationContext.beginPass(mClock);
+        }
+        try {
+            return getValidationReport(view, mRuleTable, mValidationMode);
+        } finally {
+            // Don't hold on to the data after the pass
+            mDataSnapshot.clear();
+            if (mValidationContext != null) {
+                mValidationContext.setDataSnapshot(null);
+                mValidationContext.endPass();
+            }
+        }
     }
 
     private void triggerValidationListenerCallback(final ValidationReport validationReport) {
@@ -781,11 +810,10 @@ public class Validator {
     }
 
     private ValidationReport getValidationReport(final View targetView,
-            final Map<View, ArrayList<Pair<Rule, ViewDataAdapter>>> viewRulesMap,
-                    final Mode validationMode) {
+            final RuleTable ruleTable, final Mode validationMode) {
 
         final List<ValidationError> validationErrors = new ArrayList<ValidationError>();
-        final Set<View> views = viewRulesMap.keySet();
+        final int nViews = ruleTable.getViewCount();
 
         // Don't add errors for views that are placed after the specified view in validateTill()
         boolean addErrorToReport = targetView != null;
@@ -794,30 +822,26 @@ public class Validator {
         boolean hasMoreErrors = false;
 
         validation:
-        for (View view : views) {
-            List<Pair<Rule, ViewDataAdapter>> ruleAdapterPairs = viewRulesMap.get(view);
+        for (int viewIndex = 0; viewIndex < nViews; viewIndex++) {
+            View view = ruleTable.getView(viewIndex);
 
             // @Optional
-            boolean isOptional = mOptionalViewsMap != null && mOptionalViewsMap.containsKey(view);
-            if (isOptional && containsOptionalValue(view)) {
+            if (ruleTable.isOptional(viewIndex) && containsOptionalValue(ruleTable, viewIndex)) {
                 continue;
             }
 
+            // Skip views that are invisible and disabled
+            boolean disabledView = !view.isEnabled();
+            boolean skipView = !view.isShown() && !mValidateInvisibleViews;
+            int ruleStart = ruleTable.getRuleStart(viewIndex);
+            int ruleEnd = disabledView || skipView ? ruleStart : ruleTable.getRuleEnd(viewIndex);
+
             // Validate all the rules for the given view.
             List<Rule> failedRules = null;
-            for (int i = 0, nRules = ruleAdapterPairs.size(); i < nRules; i++) {
-
-                // Skip views that are invisible and disabled
-                boolean disabledView = !view.isEnabled();
-                boolean skipView = !view.isShown() && !mValidateInvisibleViews;
-                if (disabledView || skipView) {
-                    continue;
-                }
-
-                Pair<Rule, ViewDataAdapter> ruleAdapterPair = ruleAdapterPairs.get(i);
+            for (int i = ruleStart; i < ruleEnd; i++) {
                 Rule failedRule = validateViewWithRule(
-                        view, ruleAdapterPair.first, ruleAdapterPair.second);
-                boolean isLastRuleForView = i + 1 == nRules;
+                        view, ruleTable.getRule(i), ruleTable.getDataAdapter(i));
+                boolean isLastRuleForView = i + 1 == ruleEnd;
 
                 if (failedRule != null) {
                     if (addErrorToReport) {
@@ -852,16 +876,14 @@ public class Validator {
         return new ValidationReport(validationErrors, hasMoreErrors);
     }
 
-    private boolean containsOptionalValue(final View view) {
-        ArrayList<Pair<Annotation, ViewDataAdapter>> annotationAdapterPairs
-                = mOptionalViewsMap.get(view);
+    private boolean containsOptionalValue(final RuleTable ruleTable, final int viewIndex) {
+        View view = ruleTable.getView(viewIndex);
 
-        for (int i = 0, n = annotationAdapterPairs.size(); i < n; i++) {
-            Pair<Annotation, ViewDataAdapter> pair = annotationAdapterPairs.get(i);
-            ViewDataAdapter adapter = pair.second;
-            Annotation ruleAnnotation = pair.first;
-
-            if (adapter.containsOptionalValue(view, ruleAnnotation)) {
+        for (int i = ruleTable.getRuleStart(viewIndex), end = ruleTable.getRuleEnd(viewIndex);
+                i < end; i++) {
+            Annotation ruleAnnotation = ruleTable.getAnnotation(i);
+            if (ruleAnnotation != null
+                    && ruleTable.getDataAdapter(i).containsOptionalValue(view, ruleAnnotation)) {
                 return true;
             }
         }
@@ -873,12 +895,21 @@ public class Validator {
             final ViewDataAdapter dataAdapter) {
 
         boolean valid = false;
-        if (rule instanceof AnnotationRule) {
+        if (rule instanceof IntRule && dataAdapter instanceof IntViewDataAdapter
+                && ((IntRule) rule).validatesPrimitives()) {
+            long data = mDataSnapshot.getIntData(view, (IntViewDataAdapter) dataAdapter);
+            valid = data != IntViewDataAdapter.CONVERSION_FAILED
+                    && ((IntRule) rule).isValid((int) data);
+        } else if (rule instanceof DoubleRule && dataAdapter instanceof DoubleViewDataAdapter
+                && ((DoubleRule) rule).validatesPrimitives()) {
+            double data = mDataSnapshot.getDoubleData(view, (DoubleViewDataAdapter) dataAdapter);
+            valid = !Double.isNaN(data) && ((DoubleRule) rule).isValid(data);
+        } else if (rule instanceof AnnotationRule) {
             Object data;
 
             try {
-                data = dataAdapter.getData(view);
-                valid = rule.isValid(data);
+                data = mDataSnapshot.getData(view, dataAdapter);
+                valid = !(data instanceof ConversionFailure) && rule.isValid(data);
             } catch (ConversionException e) {
                 valid = false;
                 e.printStackTrace();
@@ -913,30 +944,13 @@ public class Validator {
     }
 
     private View getLastView() {
-        final Set<View> views = mViewRulesMap.keySet();
-
-        View lastView = null;
-        for (View view : views) {
-            lastView = view;
-        }
-
-        return lastView;
+        int nViews = mRuleTable.getViewCount();
+        return nViews > 0 ? mRuleTable.getView(nViews - 1) : null;
     }
 
     private View getViewBefore(final View view) {
-        ArrayList<View> views = new ArrayList<View>(mViewRulesMap.keySet());
-
-        View currentView;
-        View previousView = null;
-        for (int i = 0, n = views.size(); i < n; i++) {
-            currentView = views.get(i);
-            if (currentView == view) {
-                previousView = i > 0 ? views.get(i - 1) : null;
-                break;
-            }
-        }
-
-        return previousView;
+        int viewIndex = mRuleTable.indexOf(view);
+        return viewIndex > 0 ? mRuleTable.getView(viewIndex - 1) : null;
     }
 
     /**
@@ -1033,38 +1047,11 @@ public class Validator {
         }
     }
 
-    static {
-        // CheckBoxBooleanAdapter
-        SARIPAAR_REGISTRY.register(CheckBox.class, Boolean.class,
-                new CheckBoxBooleanAdapter(),
-                AssertFalse.class, AssertTrue.class, Checked.class);
-
-        // RadioGroupBooleanAdapter
-        SARIPAAR_REGISTRY.register(RadioGroup.class, Boolean.class,
-                new RadioGroupBooleanAdapter(),
-                Checked.class);
-
-        // RadioButtonBooleanAdapter
-        SARIPAAR_REGISTRY.register(RadioButton.class, Boolean.class,
-                new RadioButtonBooleanAdapter(),
-                AssertFalse.class, AssertTrue.class, Checked.class);
-
-        // SpinnerIndexAdapter
-        SARIPAAR_REGISTRY.register(Spinner.class, Integer.class,
-                new SpinnerIndexAdapter(),
-                Select.class);
-
-        // TextViewDoubleAdapter
-        SARIPAAR_REGISTRY.register(DecimalMax.class, DecimalMin.class);
-
-        // TextViewIntegerAdapter
-        SARIPAAR_REGISTRY.register(Max.class, Min.class);
-
-        // TextViewStringAdapter
-        SARIPAAR_REGISTRY.register(
-                ConfirmEmail.class, ConfirmPassword.class, CreditCard.class,
-                Digits.class, Domain.class, Email.class, Future.class,
-                IpAddress.class, Isbn.class, Length.class, NotEmpty.class,
-                Password.class, Past.class, Pattern.class, Url.class);
+    /**
+     * Holds the registry, so that the stock registrations are installed when the registry is
+     * used for the first time and not when the {@link Validator} class is loaded.
+     */
+    private static final class RegistryHolder {
+        static final Registry SARIPAAR_REGISTRY = Registry.newStockRegistry();
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2016 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+/**
+ * A reason for which a {@link android.view.View}'s data could not be converted to the expected
+ * type. Failures carry no per-input state, so adapters can return the same instance every time
+ * instead of throwing a {@link com.mobsandgeeks.saripaar.exception.ConversionException}.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public final class ConversionFailure {
+    // Constants
+    public static final ConversionFailure NOT_AN_INTEGER =
+            new ConversionFailure("Expected an integer");
+    public static final ConversionFailure INTEGER_OUT_OF_RANGE = new ConversionFailure(
+            "Expected an integer between " + Integer.MIN_VALUE + " and " + Integer.MAX_VALUE);
+    public static final ConversionFailure NOT_A_DECIMAL =
+            new ConversionFailure("Expected a floating point number");
+
+    // Attributes
+    private final String mReason;
+
+    /**
+     * Constructor.
+     *
+     * @param reason  Why the conversion failed.
+     */
+    public ConversionFailure(final String reason) {
+        if (reason == null) {
+            throw new IllegalArgumentException("'reason' cannot be null.");
+        }
+        mReason = reason;
+    }
+
+    /**
+     * Gets the reason for the failure.
+     *
+     * @return The reason.
+     */
+    public String getReason() {
+        return mReason;
+    }
+
+    @Override
+    public String toString() {
+        return mReason;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2016 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+import android.view.View;
+
+/**
+ * An opt-in {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} that reports conversion
+ * failures by returning a {@link ConversionFailure} instead of throwing a
+ * {@link com.mobsandgeeks.saripaar.exception.ConversionException}. The
+ * {@link com.mobsandgeeks.saripaar.Validator} calls {@link #convert(View)} on such adapters and
+ * fails the rule straight away when the data cannot be converted, no exception or stack trace is
+ * created. This matters for views that are validated as the user types, like a
+ * {@link com.mobsandgeeks.saripaar.annotation.Min} field that receives letters.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public interface ConvertingViewDataAdapter<VIEW extends View, DATA>
+        extends ViewDataAdapter<VIEW, DATA> {
+
+    /**
+     * Extract and return the appropriate data from a given {@link android.view.View}, without
+     * throwing.
+     *
+     * @param view  The {@link android.view.View} from which contains the data that we are
+     *      interested in.
+     *
+     * @return The interested data, an instance of {@code DATA}, or a {@link ConversionFailure} if
+     *      the adapter is unable to convert the data to the expected data type.
+     */
+    Object convert(VIEW view);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2016 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+import android.view.View;
+
+/**
+ * A {@link com.mobsandgeeks.saripaar.adapter.ViewDataAdapter} that can also return its data as
+ * a primitive {@code int}. The {@link com.mobsandgeeks.saripaar.Validator} uses
+ * {@link #getIntData(View)} for {@link com.mobsandgeeks.saripaar.IntRule}s, so that numeric
+ * fields are validated without boxing, exceptions or other allocations.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public interface IntViewDataAdapter<VIEW extends View> extends ViewDataAdapter<VIEW, Integer> {
+
+    /**
+     * Returned by {@link #getIntData(View)} when the data cannot be converted to an {@code int}.
+     */
+    long CONVERSION_FAILED = Long.MIN_VALUE;
+
+    /**
+     * Extract and return the data from a given {@link android.view.View} as an {@code int}.
+     *
+     * @param view  The {@link android.view.View} from which contains the data that we are
+     *      interested in.
+     *
+     * @return The interested data, widened to a {@code long}, or {@link #CONVERSION_FAILED} if
+     *      the adapter is unable to convert the data.
+     */
+    long getIntData(VIEW view);
+}
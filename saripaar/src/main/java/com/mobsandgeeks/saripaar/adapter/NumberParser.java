@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2016 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+/**
+ * Parses numbers straight from a {@link java.lang.CharSequence}, like the
+ * {@link android.text.Editable} of an {@link android.widget.EditText}, in a single pass. Leading
+ * and trailing whitespace is ignored, just like {@link String#trim()} would.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+final class NumberParser {
+    // Constants
+    static final long INVALID = Long.MIN_VALUE;
+    static final long OUT_OF_RANGE = Long.MAX_VALUE;
+
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final int MAX_EXPONENT = 100000;
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+
+    // Powers of ten that are exact as doubles and floats
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parses an optionally signed decimal integer. Digits from any script are accepted, just
+     * like {@link Integer#parseInt(String)} does (Ex: Arabic-Indic digits).
+     *
+     * @param text  The text to parse.
+     *
+     * @return The integer, {@link #INVALID} if the text is not an integer or
+     *      {@link #OUT_OF_RANGE} if it does not fit in an {@code int}.
+     */
+    static long parseInt(final CharSequence text) {
+        int end = trimmedEnd(text);
+        int start = trimmedStart(text, end);
+        if (start == end) {
+            return INVALID;
+        }
+
+        boolean negative = false;
+        char first = text.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+            if (start == end) {
+                return INVALID;
+            }
+        }
+
+        // The value stops growing once it is out of range, so it never overflows
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+            if (digit == -1) {
+                return INVALID;
+            }
+            if (value <= limit) {
+                value = value * 10 + digit;
+            }
+        }
+
+        if (value > limit) {
+            return OUT_OF_RANGE;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a decimal number of the form {@code [-+]?[0-9]*\.?[0-9]+([eE][-+]?[0-9]+)?}.
+     *
+     * @param text  The text to parse.
+     *
+     * @return The number, rounded just like {@link Double#parseDouble(String)} would, or
+     *      {@link Double#NaN} if the text is not a decimal number.
+     */
+    static double parseDouble(final CharSequence text) {
+        return parseDecimal(text, false);
+    }
+
+    /**
+     * Parses a decimal number of the form {@code [-+]?[0-9]*\.?[0-9]+([eE][-+]?[0-9]+)?}.
+     *
+     * @param text  The text to parse.
+     *
+     * @return The number, rounded just like {@link Float#parseFloat(String)} would, or
+     *      {@link Float#NaN} if the text is not a decimal number.
+     */
+    static float parseFloat(final CharSequence text) {
+        return (float) parseDecimal(text, true);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static double parseDecimal(final CharSequence text, final boolean asFloat) {
+        int end = trimmedEnd(text);
+        int start = trimmedStart(text, end);
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+
+        // Significant digits go into the mantissa, the scale counts fraction digits in it
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int scale = 0;
+        boolean exact = true;
+
+        int digitsStart = i;
+        boolean fraction = false;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                digitsStart = i + 1;
+            } else if (isDigit(c)) {
+                if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) {
+                        mantissaDigits++;
+                    }
+                    if (fraction) {
+                        scale++;
+                    }
+                } else {
+                    exact = false;
+                }
+            } else {
+                break;
+            }
+            i++;
+        }
+        if (i == digitsStart) {
+            // No digits, or none after the decimal point
+            return Double.NaN;
+        }
+
+        int exponent = 0;
+        if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = text.charAt(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            while (i < end && isDigit(text.charAt(i))) {
+                if (exponent < MAX_EXPONENT) {
+                    exponent = exponent * 10 + (text.charAt(i) - '0');
+                }
+                i++;
+            }
+            if (i == exponentStart) {
+                return Double.NaN;
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (i != end) {
+            return Double.NaN;
+        }
+
+        // Both operands are exact, so a single multiplication or division rounds correctly
+        exponent -= scale;
+        if (exact && asFloat && mantissa <= MAX_EXACT_FLOAT_MANTISSA
+                && Math.abs(exponent) < FLOAT_POWERS_OF_TEN.length) {
+            float value = exponent < 0
+                    ? mantissa / FLOAT_POWERS_OF_TEN[-exponent]
+                    : mantissa * FLOAT_POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        } else if (exact && !asFloat && mantissa <= MAX_EXACT_DOUBLE_MANTISSA
+                && Math.abs(exponent) < DOUBLE_POWERS_OF_TEN.length) {
+            double value = exponent < 0
+                    ? mantissa / DOUBLE_POWERS_OF_TEN[-exponent]
+                    : mantissa * DOUBLE_POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+
+        // Too many digits or a large exponent, rare enough to let the platform round it
+        String decimal = text.subSequence(start, end).toString();
+        return asFloat ? Float.parseFloat(decimal) : Double.parseDouble(decimal);
+    }
+
+    private static int trimmedEnd(final CharSequence text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static int trimmedStart(final CharSequence text, final int end) {
+        int start = 0;
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
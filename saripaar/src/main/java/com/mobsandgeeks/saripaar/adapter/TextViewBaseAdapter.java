@@ -31,6 +31,6 @@ abstract class TextViewBaseAdapter<DATA> implements ViewDataAdapter<TextView, DA
     @Override
     public <T extends Annotation> boolean containsOptionalValue(final TextView textView,
             final T annotation) {
-        return "".equals(textView.getText().toString());
+        return textView.getText().length() == 0;
     }
 }
@@ -25,18 +25,42 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class TextViewDoubleAdapter extends TextViewBaseAdapter<Double> {
-    private static final String REGEX_DECIMAL = "[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?";
+public class TextViewDoubleAdapter extends TextViewBaseAdapter<Double>
+        implements ConvertingViewDataAdapter<TextView, Double>, DoubleViewDataAdapter<TextView> {
 
     @Override
     public Double getData(final TextView textView) throws ConversionException {
-        String doubleString = textView.getText().toString().trim();
-        if (!doubleString.matches(REGEX_DECIMAL)) {
-            String message = String.format("Expected a floating point number, but was %s",
-                doubleString);
+        Object data = convert(textView);
+        if (data instanceof ConversionFailure) {
+            String message = String.format("%s, but was %s", data,
+                textView.getText().toString().trim());
             throw new ConversionException(message);
         }
 
-        return Double.parseDouble(doubleString);
+        return (Double) data;
+    }
+
+    /**
+     * Parses the text of a {@link android.widget.TextView} without creating intermediate
+     * strings or throwing exceptions.
+     *
+     * @param textView  The {@link android.widget.TextView}.
+     *
+     * @return A {@link java.lang.Double} or {@link ConversionFailure#NOT_A_DECIMAL} if the text
+     *      cannot be converted.
+     */
+    @Override
+    public Object convert(final TextView textView) {
+        double value = NumberParser.parseDouble(textView.getText());
+        if (Double.isNaN(value)) {
+            return ConversionFailure.NOT_A_DECIMAL;
+        }
+
+        return value;
+    }
+
+    @Override
+    public double getDoubleData(final TextView textView) {
+        return NumberParser.parseDouble(textView.getText());
     }
 }
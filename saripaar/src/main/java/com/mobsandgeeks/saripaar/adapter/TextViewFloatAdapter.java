@@ -25,18 +25,37 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class TextViewFloatAdapter extends TextViewBaseAdapter<Float> {
-    private static final String REGEX_DECIMAL = "[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?";
+public class TextViewFloatAdapter extends TextViewBaseAdapter<Float>
+        implements ConvertingViewDataAdapter<TextView, Float> {
 
     @Override
     public Float getData(final TextView textView) throws ConversionException {
-        String floatString = textView.getText().toString().trim();
-        if (!floatString.matches(REGEX_DECIMAL)) {
-            String message = String.format("Expected a floating point number, but was %s",
-                floatString);
+        Object data = convert(textView);
+        if (data instanceof ConversionFailure) {
+            String message = String.format("%s, but was %s", data,
+                textView.getText().toString().trim());
             throw new ConversionException(message);
         }
 
-        return Float.parseFloat(floatString);
+        return (Float) data;
+    }
+
+    /**
+     * Parses the text of a {@link android.widget.TextView} without creating intermediate
+     * strings or throwing exceptions.
+     *
+     * @param textView  The {@link android.widget.TextView}.
+     *
+     * @return A {@link java.lang.Float} or {@link ConversionFailure#NOT_A_DECIMAL} if the text
+     *      cannot be converted.
+     */
+    @Override
+    public Object convert(final TextView textView) {
+        float value = NumberParser.parseFloat(textView.getText());
+        if (Float.isNaN(value)) {
+            return ConversionFailure.NOT_A_DECIMAL;
+        }
+
+        return value;
     }
 }
@@ -25,17 +25,46 @@ import com.mobsandgeeks.saripaar.exception.ConversionException;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class TextViewIntegerAdapter extends TextViewBaseAdapter<Integer> {
-    private static final String REGEX_INTEGER = "\\d+";
+public class TextViewIntegerAdapter extends TextViewBaseAdapter<Integer>
+        implements ConvertingViewDataAdapter<TextView, Integer>, IntViewDataAdapter<TextView> {
 
     @Override
     public Integer getData(final TextView textView) throws ConversionException {
-        String integerString = textView.getText().toString().trim();
-        if (!integerString.matches(REGEX_INTEGER)) {
-            String message = String.format("Expected an integer, but was %s", integerString);
+        Object data = convert(textView);
+        if (data instanceof ConversionFailure) {
+            String message = String.format("%s, but was %s", data,
+                textView.getText().toString().trim());
             throw new ConversionException(message);
         }
 
-        return Integer.parseInt(integerString);
+        return (Integer) data;
+    }
+
+    /**
+     * Parses the text of a {@link android.widget.TextView} without creating intermediate
+     * strings or throwing exceptions.
+     *
+     * @param textView  The {@link android.widget.TextView}.
+     *
+     * @return An {@link java.lang.Integer}, or {@link ConversionFailure#NOT_AN_INTEGER} or
+     *      {@link ConversionFailure#INTEGER_OUT_OF_RANGE} if the text cannot be converted.
+     */
+    @Override
+    public Object convert(final TextView textView) {
+        long value = NumberParser.parseInt(textView.getText());
+        if (value == NumberParser.INVALID) {
+            return ConversionFailure.NOT_AN_INTEGER;
+        } else if (value == NumberParser.OUT_OF_RANGE) {
+            return ConversionFailure.INTEGER_OUT_OF_RANGE;
+        }
+
+        return (int) value;
+    }
+
+    @Override
+    public long getIntData(final TextView textView) {
+        long value = NumberParser.parseInt(textView.getText());
+        return value == NumberParser.INVALID || value == NumberParser.OUT_OF_RANGE
+                ? CONVERSION_FAILED : value;
     }
 }
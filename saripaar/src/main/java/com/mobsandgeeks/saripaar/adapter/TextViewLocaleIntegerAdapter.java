@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2016 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.adapter;
+
+import android.widget.TextView;
+
+import com.mobsandgeeks.saripaar.exception.ConversionException;
+
+import java.util.Locale;
+
+import commons.validator.routines.IntegerValidator;
+
+/**
+ * Adapter parses and returns an {@link java.lang.Integer} written using the conventions of a
+ * {@link java.util.Locale}, like "1.234" in German, from {@link android.widget.TextView}s or
+ * its subclasses like {@link android.widget.EditText}s. Register it using
+ * {@link com.mobsandgeeks.saripaar.Validator#replaceAdapter(Class, ViewDataAdapter)} for
+ * {@link com.mobsandgeeks.saripaar.annotation.Min} and
+ * {@link com.mobsandgeeks.saripaar.annotation.Max} fields that accept localized input.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+public class TextViewLocaleIntegerAdapter extends TextViewBaseAdapter<Integer>
+        implements ConvertingViewDataAdapter<TextView, Integer>, IntViewDataAdapter<TextView> {
+    // Attributes
+    private final Locale mLocale;
+
+    /**
+     * Constructor, numbers are parsed using the default {@link java.util.Locale} at the time of
+     * validation.
+     */
+    public TextViewLocaleIntegerAdapter() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param locale  The {@link java.util.Locale} used to parse numbers, the default
+     *      {@link java.util.Locale} at the time of validation if {@code null}.
+     */
+    public TextViewLocaleIntegerAdapter(final Locale locale) {
+        mLocale = locale;
+    }
+
+    @Override
+    public Integer getData(final TextView textView) throws ConversionException {
+        Object data = convert(textView);
+        if (data instanceof ConversionFailure) {
+            String message = String.format("%s, but was %s", data,
+                textView.getText().toString().trim());
+            throw new ConversionException(message);
+        }
+
+        return (Integer) data;
+    }
+
+    @Override
+    public Object convert(final TextView textView) {
+        Integer value = parse(textView);
+        return value != null ? value : ConversionFailure.NOT_AN_INTEGER;
+    }
+
+    @Override
+    public long getIntData(final TextView textView) {
+        Integer value = parse(textView);
+        return value != null ? value : CONVERSION_FAILED;
+    }
+
+    private Integer parse(final TextView textView) {
+        String text = textView.getText().toString().trim();
+        return IntegerValidator.getInstance().validate(text, mLocale);
+    }
+}
@@ -31,7 +31,19 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface IpAddress {
+    Prefix prefix()                 default Prefix.NONE;
+
     @StringRes int messageResId()   default -1;
     String message()                default "Invalid IP address";
     int sequence()                  default -1;
+
+    /**
+     * Whether the address is followed by a CIDR prefix length, like 192.168.0.0/24 or
+     * 2001:db8::/32, which is useful for network configuration forms.
+     *
+     * @since 2.1.0
+     */
+    enum Prefix {
+        NONE, OPTIONAL, REQUIRED
+    }
 }
@@ -16,11 +16,13 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.AssertFalse;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class AssertFalseRule extends AnnotationRule<AssertFalse, Boolean> {
 
     protected AssertFalseRule(final AssertFalse assertFalse) {
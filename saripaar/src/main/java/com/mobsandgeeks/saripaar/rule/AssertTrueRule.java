@@ -16,11 +16,13 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.AssertTrue;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class AssertTrueRule extends AnnotationRule<AssertTrue, Boolean> {
 
     protected AssertTrueRule(final AssertTrue assertTrue) {
@@ -16,11 +16,13 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Checked;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class CheckedRule extends AnnotationRule<Checked, Boolean> {
 
     protected CheckedRule(final Checked checked) {
@@ -16,6 +16,7 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.CreditCard;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -28,6 +29,7 @@ import commons.validator.routines.CreditCardValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class CreditCardRule extends AnnotationRule<CreditCard, String> {
     private static final Map<CreditCard.Type, Long> CARD_TYPE_REGISTRY =
             new HashMap<CreditCard.Type, Long>(){{
@@ -38,13 +40,11 @@ public class CreditCardRule extends AnnotationRule<CreditCard, String> {
                 put(CreditCard.Type.VISA, CreditCardValidator.VISA);
             }};
 
+    private final CreditCardValidator mCreditCardValidator;
+
     protected CreditCardRule(final CreditCard creditCard) {
         super(creditCard);
-    }
-
-    @Override
-    public boolean isValid(final String creditCardNumber) {
-        CreditCard.Type[] types = mRuleAnnotation.cardTypes();
+        CreditCard.Type[] types = creditCard.cardTypes();
         HashSet<CreditCard.Type> typesSet = new HashSet<CreditCard.Type>(Arrays.asList(types));
 
         long options = 0;
@@ -55,7 +55,32 @@ public class CreditCardRule extends AnnotationRule<CreditCard, String> {
         } else {
             options = CreditCardValidator.NONE;
         }
+        mCreditCardValidator = new CreditCardValidator(options);
+    }
 
-        return new CreditCardValidator(options).isValid(creditCardNumber.replaceAll("\\s", ""));
+    @Override
+    public boolean isValid(final String creditCardNumber) {
+        return mCreditCardValidator.getCardType(creditCardNumber) != CreditCardValidator.NONE;
+    }
+
+    /**
+     * Detects the card type from the issuer prefix of a complete or partial card number, without
+     * validating the number. Spaces and dashes are ignored. Use it to display the card type while
+     * the number is being typed.
+     *
+     * @param cardNumber  A complete or partial card number.
+     *
+     * @return The {@link com.mobsandgeeks.saripaar.annotation.CreditCard.Type} or
+     *      {@link com.mobsandgeeks.saripaar.annotation.CreditCard.Type#NONE}, if the prefix is not
+     *      recognised.
+     */
+    public static CreditCard.Type detectCardType(final CharSequence cardNumber) {
+        long cardType = CreditCardValidator.detectCardType(cardNumber);
+        for (Map.Entry<CreditCard.Type, Long> entry : CARD_TYPE_REGISTRY.entrySet()) {
+            if (entry.getValue() == cardType) {
+                return entry.getKey();
+            }
+        }
+        return CreditCard.Type.NONE;
     }
 }
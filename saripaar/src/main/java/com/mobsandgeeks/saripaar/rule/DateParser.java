@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2014 Mobs & Geeks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mobsandgeeks.saripaar.rule;
+
+import java.text.DateFormatSymbols;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses date strings for the {@link FutureRule} and the {@link PastRule}. There is one parser
+ * per date format pattern and each thread gets its own {@link java.text.SimpleDateFormat}, so a
+ * parser can be shared by rules that validate concurrently.
+ * <p>
+ * Patterns made of 2-digit day, month, hour and minute fields, a 4-digit year field, an AM/PM
+ * marker and non-digit separators, like the ones in
+ * {@link com.mobsandgeeks.saripaar.DateFormats}, are parsed without allocating when the date
+ * string has exactly that shape. Everything else is handed to the lenient
+ * {@link java.text.SimpleDateFormat}, both paths give identical results.
+ *
+ * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
+ * @since 2.1.0
+ */
+final class DateParser {
+    // Constants
+    static final long INVALID_DATE = Long.MIN_VALUE;
+
+    private static final ConcurrentHashMap<String, DateParser> PARSERS =
+            new ConcurrentHashMap<String, DateParser>();
+
+    // Token types, a literal token holds the literal character
+    private static final int YEAR = -1;
+    private static final int MONTH = -2;
+    private static final int DAY_OF_MONTH = -3;
+    private static final int HOUR_1_12 = -4;
+    private static final int HOUR_1_24 = -5;
+    private static final int HOUR_0_23 = -6;
+    private static final int MINUTE = -7;
+    private static final int AM_PM = -8;
+
+    // Attributes
+    private final String mPattern;
+    private final int[] mTokens;
+    private final ThreadLocal<Formatter> mFormatters = new ThreadLocal<Formatter>();
+
+    private DateParser(final String pattern) {
+        mPattern = pattern;
+        mTokens = compile(pattern);
+    }
+
+    /**
+     * Gets the parser for a date format pattern.
+     *
+     * @param pattern  A {@link java.text.SimpleDateFormat} pattern.
+     *
+     * @return The {@link DateParser} for the pattern.
+     */
+    static DateParser getInstance(final String pattern) {
+        DateParser dateParser = PARSERS.get(pattern);
+        if (dateParser == null) {
+            DateParser newDateParser = new DateParser(pattern);
+            dateParser = PARSERS.putIfAbsent(pattern, newDateParser);
+            if (dateParser == null) {
+                dateParser = newDateParser;
+            }
+        }
+        return dateParser;
+    }
+
+    /**
+     * Parses a date string.
+     *
+     * @param dateString  The date string.
+     * @param locale  The {@link java.util.Locale} for the AM/PM markers.
+     * @param timeZone  The {@link java.util.TimeZone} in which the date is interpreted.
+     *
+     * @return The date in milliseconds since the epoch or {@link #INVALID_DATE}, if the string
+     *      cannot be parsed.
+     */
+    long parse(final String dateString, final Locale locale, final TimeZone timeZone) {
+        if (dateString == null) {
+            return INVALID_DATE;
+        }
+
+        Formatter formatter = getFormatter(locale, timeZone);
+        if (mTokens != null && parseFixed(dateString, formatter)) {
+            return formatter.calendar.getTimeInMillis();
+        }
+
+        Date date = formatter.dateFormat.parse(dateString, new ParsePosition(0));
+        return date != null ? date.getTime() : INVALID_DATE;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    // The time zone changes when the user travels, the formatter is rebuilt only when it does
+    private Formatter getFormatter(final Locale locale, final TimeZone timeZone) {
+        Formatter formatter = mFormatters.get();
+        if (formatter == null || !formatter.locale.equals(locale)
+                || (formatter.timeZone != timeZone && !formatter.timeZone.equals(timeZone))) {
+            formatter = new Formatter(mPattern, locale, timeZone);
+            mFormatters.set(formatter);
+        }
+        return formatter;
+    }
+
+    // Sets the calendar fields just like SimpleDateFormat would, false if the shape differs
+    private boolean parseFixed(final String dateString, final Formatter formatter) {
+        Calendar calendar = formatter.calendar;
+        calendar.clear();
+
+        int index = 0;
+        int length = dateString.length();
+        for (int i = 0, n = mTokens.length; i < n; i++) {
+            int token = mTokens[i];
+            if (token == AM_PM) {
+                int amPm = matchAmPm(dateString, index, formatter.amPmStrings);
+                if (amPm == -1) {
+                    return false;
+                }
+                calendar.set(Calendar.AM_PM, amPm);
+                index += formatter.amPmStrings[amPm].length();
+                continue;
+            }
+
+            if (token >= 0) {
+                if (index >= length || dateString.charAt(index) != token) {
+                    return false;
+                }
+                index++;
+                continue;
+            }
+
+            int digits = token == YEAR ? 4 : 2;
+            int value = parseDigits(dateString, index, digits);
+            if (value == -1) {
+                return false;
+            }
+            index += digits;
+
+            switch (token) {
+                case YEAR:
+                    calendar.set(Calendar.YEAR, value);
+                    break;
+                case MONTH:
+                    calendar.set(Calendar.MONTH, value - 1);
+                    break;
+                case DAY_OF_MONTH:
+                    calendar.set(Calendar.DAY_OF_MONTH, value);
+                    break;
+                case HOUR_1_12:
+                    calendar.set(Calendar.HOUR, value == 12 ? 0 : value);
+                    break;
+                case HOUR_1_24:
+                    calendar.set(Calendar.HOUR_OF_DAY, value == 24 ? 0 : value);
+                    break;
+                case HOUR_0_23:
+                    calendar.set(Calendar.HOUR_OF_DAY, value);
+                    break;
+                default:
+                    calendar.set(Calendar.MINUTE, value);
+                    break;
+            }
+        }
+
+        return index == length;
+    }
+
+    private static int parseDigits(final String dateString, final int index, final int digits) {
+        if (index + digits > dateString.length()) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = index, end = index + digits; i < end; i++) {
+            char c = dateString.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+
+        // A longer run of digits is parsed differently by SimpleDateFormat
+        int next = index + digits;
+        if (next < dateString.length() && Character.isDigit(dateString.charAt(next))) {
+            return -1;
+        }
+        return value;
+    }
+
+    // Longest case insensitive match, like SimpleDateFormat
+    private static int matchAmPm(final String dateString, final int index,
+            final String[] amPmStrings) {
+        int match = -1;
+        int matchLength = 0;
+        for (int i = 0, n = amPmStrings.length; i < n; i++) {
+            String amPm = amPmStrings[i];
+            int amPmLength = amPm.length();
+            if (amPmLength > matchLength
+                    && dateString.regionMatches(true, index, amPm, 0, amPmLength)) {
+                match = i;
+                matchLength = amPmLength;
+            }
+        }
+        return match;
+    }
+
+    // Returns null if the pattern cannot be parsed using parseFixed(String, Formatter)
+    private static int[] compile(final String pattern) {
+        int length = pattern.length();
+        int[] tokens = new int[length];
+        int nTokens = 0;
+
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            int run = 1;
+            while (i + run < length && pattern.charAt(i + run) == c) {
+                run++;
+            }
+
+            int token;
+            if (c == 'a') {
+                token = AM_PM;
+            } else if (c == 'y' && run == 4) {
+                token = YEAR;
+            } else if (c == 'M' && run == 2) {
+                token = MONTH;
+            } else if (c == 'd' && run == 2) {
+                token = DAY_OF_MONTH;
+            } else if (c == 'h' && run == 2) {
+                token = HOUR_1_12;
+            } else if (c == 'k' && run == 2) {
+                token = HOUR_1_24;
+            } else if (c == 'H' && run == 2) {
+                token = HOUR_0_23;
+            } else if (c == 'm' && run == 2) {
+                token = MINUTE;
+            } else if (isLetter(c) || c == '\'' || Character.isDigit(c)) {
+                return null;
+            } else {
+                // Literals are matched one character at a time
+                run = 1;
+                token = c;
+            }
+
+            tokens[nTokens++] = token;
+            i += run;
+        }
+
+        int[] compiledTokens = new int[nTokens];
+        System.arraycopy(tokens, 0, compiledTokens, 0, nTokens);
+        return compiledTokens;
+    }
+
+    private static boolean isLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * A {@link java.text.SimpleDateFormat} that is confined to a single thread, along with the
+     * {@link java.util.Calendar} and the AM/PM strings it uses.
+     */
+    private static final class Formatter {
+        final Locale locale;
+        final TimeZone timeZone;
+        final SimpleDateFormat dateFormat;
+        final Calendar calendar;
+        final String[] amPmStrings;
+
+        Formatter(final String pattern, final Locale locale, final TimeZone timeZone) {
+            this.locale = locale;
+            this.timeZone = timeZone;
+            this.dateFormat = new SimpleDateFormat(pattern, locale);
+            this.dateFormat.setTimeZone(timeZone);
+            this.calendar = dateFormat.getCalendar();
+            this.amPmStrings = DateFormatSymbols.getInstance(locale).getAmPmStrings();
+        }
+    }
+}
@@ -14,27 +14,25 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.DoubleRule;
 import com.mobsandgeeks.saripaar.annotation.DecimalMax;
-
-import commons.validator.routines.DoubleValidator;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class DecimalMaxRule extends AnnotationRule<DecimalMax, Double> {
+@Stateless
+public class DecimalMaxRule extends DoubleRule<DecimalMax> {
+    private final double mMaxValue;
 
     protected DecimalMaxRule(final DecimalMax decimalMax) {
         super(decimalMax);
+        mMaxValue = decimalMax.value();
     }
 
     @Override
-    public boolean isValid(final Double value) {
-        if (value == null) {
-            throw new IllegalArgumentException("'Double' cannot be null.");
-        }
-        double maxValue = mRuleAnnotation.value();
-        return DoubleValidator.getInstance().maxValue(value, maxValue);
+    public boolean isValid(final double value) {
+        return value <= mMaxValue;
     }
 }
@@ -14,27 +14,25 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.DoubleRule;
 import com.mobsandgeeks.saripaar.annotation.DecimalMin;
-
-import commons.validator.routines.DoubleValidator;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class DecimalMinRule extends AnnotationRule<DecimalMin, Double> {
+@Stateless
+public class DecimalMinRule extends DoubleRule<DecimalMin> {
+    private final double mMinValue;
 
     protected DecimalMinRule(final DecimalMin decimalMin) {
         super(decimalMin);
+        mMinValue = decimalMin.value();
     }
 
     @Override
-    public boolean isValid(final Double value) {
-        if (value == null) {
-            throw new IllegalArgumentException("'Double' cannot be null.");
-        }
-        double minValue = mRuleAnnotation.value();
-        return DoubleValidator.getInstance().minValue(value, minValue);
+    public boolean isValid(final double value) {
+        return value >= mMinValue;
     }
 }
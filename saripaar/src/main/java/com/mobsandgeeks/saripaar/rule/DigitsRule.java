@@ -16,25 +16,28 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Digits;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class DigitsRule extends AnnotationRule<Digits, String> {
+    private final Pattern mDigitsPattern;
 
     protected DigitsRule(final Digits digits) {
         super(digits);
+        String digitsRegex = String.format(Locale.US, "(\\d{0,%d})(\\.\\d{1,%d})?",
+                digits.integer(), digits.fraction());
+        mDigitsPattern = Pattern.compile(digitsRegex);
     }
 
     @Override
     public boolean isValid(final String digits) {
-        int integer = mRuleAnnotation.integer();
-        int fraction = mRuleAnnotation.fraction();
-
-        String digitsRegex = String.format(Locale.US, "(\\d{0,%d})(\\.\\d{1,%d})?", integer, fraction);
-        return digits.matches(digitsRegex);
+        return mDigitsPattern.matcher(digits).matches();
     }
 }
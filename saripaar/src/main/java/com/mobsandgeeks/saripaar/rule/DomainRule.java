@@ -16,6 +16,7 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Domain;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import commons.validator.routines.DomainValidator;
 
@@ -23,6 +24,7 @@ import commons.validator.routines.DomainValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class DomainRule extends AnnotationRule<Domain, String> {
 
     protected DomainRule(final Domain domain) {
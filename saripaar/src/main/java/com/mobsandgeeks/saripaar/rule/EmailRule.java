@@ -16,6 +16,7 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Email;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import commons.validator.routines.EmailValidator;
 
@@ -23,6 +24,7 @@ import commons.validator.routines.EmailValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class EmailRule extends AnnotationRule<Email, String> {
 
     protected EmailRule(final Email email) {
@@ -16,6 +16,7 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.IpAddress;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import commons.validator.routines.InetAddressValidator;
 
@@ -23,6 +24,7 @@ import commons.validator.routines.InetAddressValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class IpAddressRule extends AnnotationRule<IpAddress, String> {
 
     protected IpAddressRule(final IpAddress ipAddress) {
@@ -31,6 +33,15 @@ public class IpAddressRule extends AnnotationRule<IpAddress, String> {
 
     @Override
     public boolean isValid(final String ipAddress) {
-        return InetAddressValidator.getInstance().isValid(ipAddress);
+        InetAddressValidator inetAddressValidator = InetAddressValidator.getInstance();
+        switch (mRuleAnnotation.prefix()) {
+            case OPTIONAL:
+                return inetAddressValidator.isValid(ipAddress)
+                        || inetAddressValidator.isValidCidrAddress(ipAddress);
+            case REQUIRED:
+                return inetAddressValidator.isValidCidrAddress(ipAddress);
+            default:
+                return inetAddressValidator.isValid(ipAddress);
+        }
     }
 }
@@ -16,6 +16,7 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Isbn;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import commons.validator.routines.ISBNValidator;
 
@@ -23,6 +24,7 @@ import commons.validator.routines.ISBNValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class IsbnRule extends AnnotationRule<Isbn, String> {
 
     protected IsbnRule(final Isbn isbn) {
@@ -14,27 +14,25 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.IntRule;
 import com.mobsandgeeks.saripaar.annotation.Max;
-
-import commons.validator.routines.IntegerValidator;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class MaxRule extends AnnotationRule<Max, Integer> {
+@Stateless
+public class MaxRule extends IntRule<Max> {
+    private final int mMaxValue;
 
     protected MaxRule(final Max max) {
         super(max);
+        mMaxValue = max.value();
     }
 
     @Override
-    public boolean isValid(final Integer value) {
-        if (value == null) {
-            throw new IllegalArgumentException("'Integer' cannot be null.");
-        }
-        int maxValue = mRuleAnnotation.value();
-        return IntegerValidator.getInstance().maxValue(value, maxValue);
+    public boolean isValid(final int value) {
+        return value <= mMaxValue;
     }
 }
@@ -14,27 +14,25 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import com.mobsandgeeks.saripaar.AnnotationRule;
+import com.mobsandgeeks.saripaar.IntRule;
 import com.mobsandgeeks.saripaar.annotation.Min;
-
-import commons.validator.routines.IntegerValidator;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
-public class MinRule extends AnnotationRule<Min, Integer> {
+@Stateless
+public class MinRule extends IntRule<Min> {
+    private final int mMinValue;
 
     protected MinRule(final Min min) {
         super(min);
+        mMinValue = min.value();
     }
 
     @Override
-    public boolean isValid(final Integer value) {
-        if (value == null) {
-            throw new IllegalArgumentException("'Integer' cannot be null.");
-        }
-        int minValue = mRuleAnnotation.value();
-        return IntegerValidator.getInstance().minValue(value, minValue);
+    public boolean isValid(final int value) {
+        return value >= mMinValue;
     }
 }
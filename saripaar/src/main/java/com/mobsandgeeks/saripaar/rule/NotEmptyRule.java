@@ -14,8 +14,6 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import android.content.Context;
-
 import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
 import com.mobsandgeeks.saripaar.ValidationContext;
 import com.mobsandgeeks.saripaar.annotation.NotEmpty;
@@ -36,9 +34,8 @@ public class NotEmptyRule extends ContextualAnnotationRule<NotEmpty, String> {
         if (data != null) {
             String text = mRuleAnnotation.trim() ? data.trim() : data;
 
-            Context context = mValidationContext.getContext();
             String emptyText = mRuleAnnotation.emptyTextResId() != -1
-                    ? context.getString(mRuleAnnotation.emptyTextResId())
+                    ? mValidationContext.getString(mRuleAnnotation.emptyTextResId())
                     : mRuleAnnotation.emptyText();
 
             isEmpty = emptyText.equals(text) || "".equals(text);
@@ -16,21 +16,24 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Password;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class PasswordRule extends AnnotationRule<Password, String> {
 
     /*
      * http://stackoverflow.com/questions/1559751/
      * regex-to-make-sure-that-the-string-contains-at-least-one-lower-case-char-upper
      */
-    private final Map<Password.Scheme, String> SCHEME_PATTERNS =
+    private static final Map<Password.Scheme, String> SCHEME_PATTERNS =
             new HashMap<Password.Scheme, String>() {{
                 put(Password.Scheme.ANY, ".+");
                 put(Password.Scheme.ALPHA, "\\w+");
@@ -45,14 +48,156 @@ public class PasswordRule extends AnnotationRule<Password, String> {
                     "(?=.*[a-z])(?=.*[A-Z])(?=.*[\\d])(?=.*([^\\w]|_)).+");
             }};
 
+    // Character classes found by the scanner
+    private static final int LOWER_CASE         = 1;
+    private static final int UPPER_CASE         = 1 << 1;
+    private static final int DIGIT              = 1 << 2;
+    private static final int UNDERSCORE         = 1 << 3;
+    private static final int OTHER              = 1 << 4;
+    private static final int LINE_TERMINATOR    = 1 << 5;
+    private static final int OTHER_WORD         = 1 << 6;
+
+    private static final int LETTER = LOWER_CASE | UPPER_CASE;
+    private static final int WORD = LETTER | DIGIT | UNDERSCORE | OTHER_WORD;
+    private static final int SYMBOL = UNDERSCORE | OTHER | LINE_TERMINATOR;
+
+    private final Pattern mSchemePattern;
+
     protected PasswordRule(final Password password) {
+        this(password, false);
+    }
+
+    /**
+     * Constructor for subclasses that match passwords using regular expressions instead of the
+     * built-in scanner.
+     *
+     * @param password  The {@link com.mobsandgeeks.saripaar.annotation.Password} annotation.
+     * @param useRegex  true to match passwords against {@link #getSchemeRegex(Password.Scheme)}.
+     */
+    protected PasswordRule(final Password password, final boolean useRegex) {
         super(password);
+        mSchemePattern = useRegex
+                ? Pattern.compile(getSchemeRegex(password.scheme()))
+                : null;
     }
 
     @Override
     public boolean isValid(final String password) {
         boolean hasMinChars = password.length() >= mRuleAnnotation.min();
-        boolean matchesScheme = password.matches(SCHEME_PATTERNS.get(mRuleAnnotation.scheme()));
+        boolean matchesScheme = mSchemePattern != null
+                ? mSchemePattern.matcher(password).matches()
+                : matchesScheme(password, mRuleAnnotation.scheme());
         return hasMinChars && matchesScheme;
     }
+
+    /**
+     * Returns the regular expression for a scheme, used only when the rule is created with
+     * {@code useRegex} set. Subclasses can override this method to customize schemes, it is called
+     * from the constructor and must not depend on the subclass' state.
+     *
+     * @param scheme  The {@link com.mobsandgeeks.saripaar.annotation.Password.Scheme}.
+     *
+     * @return The regular expression.
+     */
+    protected String getSchemeRegex(final Password.Scheme scheme) {
+        return SCHEME_PATTERNS.get(scheme);
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *  Private Methods
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+    private static boolean matchesScheme(final String password, final Password.Scheme scheme) {
+        if (password.length() == 0) {
+            return false;
+        }
+
+        // Collect the character classes present in the password, in a single pass
+        int found = 0;
+        for (int i = 0, n = password.length(); i < n; ) {
+            int codePoint = password.codePointAt(i);
+            found |= classify(codePoint);
+            i += Character.charCount(codePoint);
+        }
+
+        // Same as the patterns in SCHEME_PATTERNS, '.' does not match line terminators
+        boolean singleLine = (found & LINE_TERMINATOR) == 0;
+        switch (scheme) {
+            case ANY:
+                return singleLine;
+            case ALPHA:
+                return (found & ~WORD) == 0;
+            case ALPHA_MIXED_CASE:
+                return singleLine && has(found, LOWER_CASE) && has(found, UPPER_CASE);
+            case NUMERIC:
+                return found == DIGIT;
+            case ALPHA_NUMERIC:
+                return singleLine && has(found, LETTER) && has(found, DIGIT);
+            case ALPHA_NUMERIC_MIXED_CASE:
+                return singleLine && has(found, LOWER_CASE) && has(found, UPPER_CASE)
+                        && has(found, DIGIT);
+            case ALPHA_NUMERIC_SYMBOLS:
+                return singleLine && has(found, LETTER) && has(found, DIGIT)
+                        && has(found, SYMBOL);
+            case ALPHA_NUMERIC_MIXED_CASE_SYMBOLS:
+                return singleLine && has(found, LOWER_CASE) && has(found, UPPER_CASE)
+                        && has(found, DIGIT) && has(found, SYMBOL);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean has(final int found, final int characterClasses) {
+        return (found & characterClasses) != 0;
+    }
+
+    // Android's regular expressions are Unicode aware, '\w' and '\d' match non-ASCII letters
+    // and digits while '[a-z]' and '[A-Z]' do not
+    private static int classify(final int c) {
+        if (c > 0x7F) {
+            return classifyNonAscii(c);
+        } else if (c >= 'a' && c <= 'z') {
+            return LOWER_CASE;
+        } else if (c >= 'A' && c <= 'Z') {
+            return UPPER_CASE;
+        } else if (c >= '0' && c <= '9') {
+            return DIGIT;
+        } else if (c == '_') {
+            return UNDERSCORE;
+        } else if (c == '\n' || c == '\r') {
+            return LINE_TERMINATOR;
+        }
+        return OTHER;
+    }
+
+    private static int classifyNonAscii(final int c) {
+        if (Character.isDigit(c)) {
+            return DIGIT;
+        } else if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+            return LINE_TERMINATOR;
+        } else if (c == '\u200C' || c == '\u200D') {
+            // Join controls
+            return OTHER_WORD;
+        } else if ((c >= 0x24B6 && c <= 0x24E9) || (c >= 0x1F130 && c <= 0x1F149)
+                || (c >= 0x1F150 && c <= 0x1F169) || (c >= 0x1F170 && c <= 0x1F189)) {
+            // Circled and squared letters are symbols, but they are alphabetic
+            return OTHER_WORD;
+        }
+
+        switch (Character.getType(c)) {
+            case Character.UPPERCASE_LETTER:
+            case Character.LOWERCASE_LETTER:
+            case Character.TITLECASE_LETTER:
+            case Character.MODIFIER_LETTER:
+            case Character.OTHER_LETTER:
+            case Character.LETTER_NUMBER:
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.CONNECTOR_PUNCTUATION:
+                return OTHER_WORD;
+            default:
+                return OTHER;
+        }
+    }
 }
@@ -14,44 +14,33 @@
 
 package com.mobsandgeeks.saripaar.rule;
 
-import android.content.Context;
-
 import com.mobsandgeeks.saripaar.ContextualAnnotationRule;
 import com.mobsandgeeks.saripaar.ValidationContext;
 import com.mobsandgeeks.saripaar.annotation.Past;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
 /**
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
 public class PastRule extends ContextualAnnotationRule<Past, String> {
+    private final DateParser mDateParser;
 
     protected PastRule(final Past past, final ValidationContext validationContext) {
         super(past, validationContext);
+        mDateParser = DateParser.getInstance(getDateFormatString());
     }
 
     @Override
     public boolean isValid(final String dateString) {
-        DateFormat dateFormat = getDateFormat();
-        Date parsedDate = null;
-        try {
-            parsedDate = dateFormat.parse(dateString);
-        } catch (ParseException ignored) {}
-
-        Date now = new Date();
-        return parsedDate != null && parsedDate.before(now);
+        long parsedDate = mDateParser.parse(dateString, mValidationContext.getLocale(),
+                mValidationContext.getTimeZone());
+        return parsedDate != DateParser.INVALID_DATE
+                && parsedDate < mValidationContext.getCurrentTimeMillis();
     }
 
-    private DateFormat getDateFormat() {
-        Context context = mValidationContext.getContext();
+    private String getDateFormatString() {
         int dateFormatResId = mRuleAnnotation.dateFormatResId();
-        String dateFormatString =  dateFormatResId != -1
-                ? context.getString(dateFormatResId) : mRuleAnnotation.dateFormat();
-        return new SimpleDateFormat(dateFormatString);
+        return dateFormatResId != -1
+                ? mValidationContext.getString(dateFormatResId) : mRuleAnnotation.dateFormat();
     }
 }
@@ -25,17 +25,18 @@ import commons.validator.routines.RegexValidator;
  * @since 2.0
  */
 public class PatternRule extends ContextualAnnotationRule<Pattern, String> {
+    private final RegexValidator mRegexValidator;
 
     protected PatternRule(final Pattern pattern, final ValidationContext validationContext) {
         super(pattern, validationContext);
+        int regexResId = pattern.regexResId();
+        String regex = regexResId != -1
+                ? validationContext.getString(regexResId) : pattern.regex();
+        mRegexValidator = new RegexValidator(regex, pattern.caseSensitive());
     }
 
     @Override
     public boolean isValid(final String text) {
-        int regexResId = mRuleAnnotation.regexResId();
-        String regex = regexResId != -1
-                ? mValidationContext.getContext().getString(regexResId) : mRuleAnnotation.regex();
-        boolean caseSensitive = mRuleAnnotation.caseSensitive();
-        return new RegexValidator(regex, caseSensitive).isValid(text);
+        return mRegexValidator.isValid(text);
     }
 }
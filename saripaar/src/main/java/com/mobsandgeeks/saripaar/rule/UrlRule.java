@@ -16,6 +16,7 @@ package com.mobsandgeeks.saripaar.rule;
 
 import com.mobsandgeeks.saripaar.AnnotationRule;
 import com.mobsandgeeks.saripaar.annotation.Url;
+import com.mobsandgeeks.saripaar.annotation.Stateless;
 
 import commons.validator.routines.UrlValidator;
 
@@ -23,21 +24,22 @@ import commons.validator.routines.UrlValidator;
  * @author Ragunath Jawahar {@literal <rj@mobsandgeeks.com>}
  * @since 2.0
  */
+@Stateless
 public class UrlRule extends AnnotationRule<Url, String> {
+    private final UrlValidator mUrlValidator;
 
     protected UrlRule(final Url url) {
         super(url);
-    }
-
-    @Override
-    public boolean isValid(final String url) {
-        String[] schemes = mRuleAnnotation.schemes();
-        long options = mRuleAnnotation.allowFragments()
+        String[] schemes = url.schemes();
+        long options = url.allowFragments()
                 ? 0 : UrlValidator.NO_FRAGMENTS;
 
-        UrlValidator urlValidator = schemes != null && schemes.length > 0
+        mUrlValidator = schemes != null && schemes.length > 0
                 ? new UrlValidator(schemes, options) : UrlValidator.getInstance();
+    }
 
-        return urlValidator.isValid(url);
+    @Override
+    public boolean isValid(final String url) {
+        return mUrlValidator.isValid(url);
     }
 }
@@ -44,9 +44,18 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
     /** Percent <code>NumberFormat</code> type */
     public static final int PERCENT_FORMAT  = 2;
 
+    /** Maximum number of patterns and locales that formats are pooled for */
+    private static final int MAX_POOLED_FORMAT_KEYS = 16;
+
+    /** Maximum number of idle formats pooled for each pattern and locale */
+    private static final int MAX_IDLE_FORMATS = 4;
+
     private final boolean allowFractions;
     private final int     formatType;
 
+    /** Formats created by getFormat(String, Locale), created lazily */
+    private transient FormatPool formatPool;
+
     /**
      * Construct an instance with specified <i>strict</i>
      * and <i>decimal</i> parameters.
@@ -157,11 +166,33 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         if (value == null || value.length() == 0) {
             return null;
         }
-        Format formatter = getFormat(pattern, locale);
-        return parse(value, formatter);
+        Format formatter = acquireFormat(pattern, locale);
+        try {
+            return parse(value, formatter);
+        } finally {
+            releaseFormat(pattern, locale, formatter);
+        }
 
     }
 
+    /**
+     * <p>Format an object using the specified pattern and/or
+     *    <code>Locale</code>.
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to format the value.
+     * @param locale The locale to use for the Format.
+     * @return The value formatted as a <code>String</code>.
+     */
+    public String format(Object value, String pattern, Locale locale) {
+        Format formatter = acquireFormat(pattern, locale);
+        try {
+            return format(value, formatter);
+        } finally {
+            releaseFormat(pattern, locale, formatter);
+        }
+    }
+
     /**
      * <p>Process the parsed value, performing any further validation
      *    and type conversion required.</p>
@@ -177,6 +208,11 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
      * <p>Returns a <code>NumberFormat</code> for the specified <i>pattern</i>
      *    and/or <code>Locale</code>.</p>
      *
+     * <p>Formats returned by this method are pooled and reused for the same
+     *    pattern and <code>Locale</code>, the system default if
+     *    <code>null</code>, by <code>parse()</code> and
+     *    <code>format()</code>.</p>
+     *
      * @param pattern The pattern used to validate the value against or
      *        <code>null</code> to use the default for the <code>Locale</code>.
      * @param locale The locale to use for the currency format, system default if null.
@@ -268,4 +304,42 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         }
         return formatter;
     }
+
+    /*
+     * Takes a pooled format for the pattern and locale, or creates one if
+     * none is idle. It must be given back using releaseFormat().
+     */
+    private Format acquireFormat(String pattern, Locale locale) {
+        Format formatter = getFormatPool().acquire(poolPattern(pattern), poolLocale(locale));
+        if (formatter == null) {
+            formatter = getFormat(pattern, locale);
+        }
+        return formatter;
+    }
+
+    private void releaseFormat(String pattern, Locale locale, Format formatter) {
+        getFormatPool().release(poolPattern(pattern), poolLocale(locale), formatter);
+    }
+
+    private synchronized FormatPool getFormatPool() {
+        if (formatPool == null) {
+            formatPool = new FormatPool(MAX_POOLED_FORMAT_KEYS, MAX_IDLE_FORMATS);
+        }
+        return formatPool;
+    }
+
+    /*
+     * An empty pattern is the same as no pattern.
+     */
+    private static String poolPattern(String pattern) {
+        return pattern != null && pattern.length() > 0 ? pattern : null;
+    }
+
+    /*
+     * Formats for the system default locale are pooled by the actual
+     * locale, so that they are not reused after the default changes.
+     */
+    private static Locale poolLocale(Locale locale) {
+        return locale != null ? locale : Locale.getDefault();
+    }
 }
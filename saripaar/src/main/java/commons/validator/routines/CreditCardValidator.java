@@ -101,6 +101,43 @@ public class CreditCardValidator implements Serializable {
      */
     private final List cardTypes = new ArrayList();
 
+    /**
+     * The stock card types that are allowed to pass {@link #getCardType(CharSequence)}.
+     */
+    private final long options;
+
+    /**
+     * Longest card number supported by the prefix trie.
+     */
+    private static final int MAX_CARD_LENGTH = 19;
+
+    /**
+     * Prefix trie of the issuer identification numbers (IIN) of the stock card types.
+     */
+    private static final CardPrefix CARD_PREFIXES = new CardPrefix();
+
+    static {
+        addCardPrefix("34", AMEX, 15);
+        addCardPrefix("37", AMEX, 15);
+        for (int i = 0; i <= 5; i++) {
+            addCardPrefix("30" + i, DINERS, 14);
+        }
+        addCardPrefix("3095", DINERS, 14);
+        addCardPrefix("36", DINERS, 14);
+        addCardPrefix("38", DINERS, 14);
+        addCardPrefix("39", DINERS, 14);
+        addCardPrefix("6011", DISCOVER, 16);
+        for (int i = 4; i <= 9; i++) {
+            addCardPrefix("64" + i, DISCOVER, 16);
+        }
+        addCardPrefix("65", DISCOVER, 16);
+        for (int i = 1; i <= 5; i++) {
+            addCardPrefix("5" + i, MASTERCARD, 16);
+        }
+        addCardPrefix("4", VISA, 13);
+        addCardPrefix("4", VISA, 16);
+    }
+
     /**
      * Luhn checkdigit validator for the card numbers.
      */
@@ -139,6 +176,7 @@ public class CreditCardValidator implements Serializable {
      */
     public CreditCardValidator(long options) {
         super();
+        this.options = options;
 
         if (isOn(options, VISA)) {
             this.cardTypes.add(VISA_VALIDATOR);
@@ -169,6 +207,7 @@ public class CreditCardValidator implements Serializable {
         if (creditCardValidators == null) {
             throw new IllegalArgumentException("Card validators are missing");
         }
+        this.options = NONE;
         for (int i = 0; i < creditCardValidators.length; i++) {
             cardTypes.add(creditCardValidators[i]);
         }
@@ -213,6 +252,148 @@ public class CreditCardValidator implements Serializable {
         return null;
 
     }
+    /**
+     * Validates a card number of the allowed stock card types in a single scan and returns its
+     * type. The issuer prefix and the length are checked while walking a prefix trie, then the
+     * Luhn check digit is verified. White space and dashes between the digits are ignored.
+     * Like the regular expressions on Android, the issuer prefix must be written with ASCII
+     * digits while the remaining digits may be of any script.
+     * <p>
+     * <b>N.B.</b> Card types added using {@link CodeValidator}s are not recognised by this
+     * method.
+     *
+     * @param card The card number to validate.
+     * @return One of {@link #AMEX}, {@link #DINERS}, {@link #DISCOVER}, {@link #MASTERCARD} or
+     * {@link #VISA} if the card number is valid, {@link #NONE} otherwise.
+     */
+    public long getCardType(CharSequence card) {
+        if (card == null) {
+            return NONE;
+        }
+
+        // Control characters at either end are trimmed, like CodeValidator does
+        int start = 0;
+        int end = card.length();
+        while (start < end && isTrimmed(card.charAt(start))) {
+            start++;
+        }
+        while (end > start && isTrimmed(card.charAt(end - 1))) {
+            end--;
+        }
+
+        CardPrefix prefix = CARD_PREFIXES;
+        int length = 0;
+        int evenSum = 0;
+        int oddSum = 0;
+        for (int i = start; i < end; i++) {
+            char c = card.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            int digit = Character.digit(c, 10);
+            if (digit == -1 || length == MAX_CARD_LENGTH) {
+                return NONE;
+            }
+
+            if (prefix.cardType == NONE) {
+                if (c > '9') {
+                    return NONE;
+                }
+                prefix = prefix.next[digit];
+                if (prefix == null) {
+                    return NONE;
+                }
+            }
+
+            // Luhn sums for both parities, the length decides which one is used
+            int doubled = digit * 2;
+            if (doubled > 9) {
+                doubled -= 9;
+            }
+            if (length % 2 == 0) {
+                evenSum += doubled;
+                oddSum += digit;
+            } else {
+                evenSum += digit;
+                oddSum += doubled;
+            }
+            length++;
+        }
+
+        boolean allowedType = prefix.cardType != NONE && isOn(options, prefix.cardType);
+        boolean allowedLength = (prefix.lengths & (1 << length)) != 0;
+        int sum = length % 2 == 0 ? evenSum : oddSum;
+        return allowedType && allowedLength && sum % 10 == 0 ? prefix.cardType : NONE;
+    }
+
+    /**
+     * Detects the stock card type of a card number from its issuer prefix, without validating
+     * the rest of the number. Useful for displaying the card type while the number is being
+     * typed. White space and dashes between the digits are ignored.
+     *
+     * @param card A complete or partial card number.
+     * @return One of {@link #AMEX}, {@link #DINERS}, {@link #DISCOVER}, {@link #MASTERCARD} or
+     * {@link #VISA} if the prefix is recognised, {@link #NONE} otherwise.
+     */
+    public static long detectCardType(CharSequence card) {
+        if (card == null) {
+            return NONE;
+        }
+
+        CardPrefix prefix = CARD_PREFIXES;
+        for (int i = 0, n = card.length(); i < n && prefix.cardType == NONE; i++) {
+            char c = card.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return NONE;
+            }
+            prefix = prefix.next[c - '0'];
+            if (prefix == null) {
+                return NONE;
+            }
+        }
+        return prefix.cardType;
+    }
+
+    /*
+     * Dashes and the characters matched by "\s" on Android, which are the
+     * White_Space characters of Unicode.
+     */
+    private static boolean isSeparator(char c) {
+        if (c < 0x80) {
+            return c == ' ' || c == '-' || (c >= '\t' && c <= '\r');
+        }
+        return c == '\u0085' || Character.isSpaceChar(c);
+    }
+
+    private static boolean isTrimmed(char c) {
+        return c <= ' ' || isSeparator(c);
+    }
+
+    private static void addCardPrefix(String digits, long cardType, int length) {
+        CardPrefix prefix = CARD_PREFIXES;
+        for (int i = 0; i < digits.length(); i++) {
+            int digit = digits.charAt(i) - '0';
+            if (prefix.next[digit] == null) {
+                prefix.next[digit] = new CardPrefix();
+            }
+            prefix = prefix.next[digit];
+        }
+        prefix.cardType = cardType;
+        prefix.lengths |= 1 << length;
+    }
+
+    /**
+     * A node in the prefix trie, the card type is set on the node that completes a prefix.
+     */
+    private static final class CardPrefix {
+        final CardPrefix[] next = new CardPrefix[10];
+        long cardType = NONE;
+        int lengths;
+    }
+
     /**
      * Tests whether the given flag is on.  If the flag is not a power of 2
      * (ie. 3) this tests whether the combination of flags is on.
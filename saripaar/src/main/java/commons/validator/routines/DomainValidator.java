@@ -19,8 +19,8 @@ package commons.validator.routines;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Locale;
+import java.util.TreeMap;
 
 /**
  * <p><b>Domain name</b> validation routines.</p>
@@ -66,23 +66,29 @@ public class DomainValidator implements Serializable {
 
     private static final long serialVersionUID = -4407125112880174009L;
 
-    // Regular expression strings for hostnames (derived from RFC2396 and RFC 1123)
+    // Hostnames are scanned label by label (derived from RFC2396 and RFC 1123)
 
     // RFC2396: domainlabel   = alphanum | alphanum *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String DOMAIN_LABEL_REGEX = "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
-
     // RFC2396 toplabel = alpha | alpha *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String TOP_LABEL_REGEX = "\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    // RFC1123 sec 2.1 allows hostnames to start with a digit
+    private static final int MAX_LABEL_LENGTH = 63;
 
     // RFC2396 hostname = *( domainlabel "." ) toplabel [ "." ]
-    // Note that the regex currently requires both a domain label and a top level label, whereas
-    // the RFC does not. This is because the regex is used to detect if a TLD is present.
-    // If the match fails, input is checked against DOMAIN_LABEL_REGEX (hostnameRegex)
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private static final String DOMAIN_NAME_REGEX =
-            "^(?:" + DOMAIN_LABEL_REGEX + "\\.)+" + "(" + TOP_LABEL_REGEX + ")\\.?$";
+    // Note that the scanner currently requires both a domain label and a top level label, whereas
+    // the RFC does not. This is because the scanner is used to detect if a TLD is present.
+    // A single domain label, without a trailing dot, is reported as a local hostname.
+    private static final int MAX_DOMAIN_LENGTH = 253;
+
+    // scanHostname() results that are not the offset of a top level label
+    private static final int INVALID_HOSTNAME = -1;
+    private static final int SINGLE_LABEL = -2;
+
+    // TLD types, an infrastructure TLD may also be a generic TLD
+    private static final int INFRASTRUCTURE_TLD = 1;
+    private static final int GENERIC_TLD = 2;
+    private static final int COUNTRY_CODE_TLD = 4;
+    private static final int LOCAL_TLD = 8;
+    private static final int IANA_TLD = INFRASTRUCTURE_TLD | GENERIC_TLD | COUNTRY_CODE_TLD;
 
     private final boolean allowLocal;
 
@@ -98,18 +104,6 @@ public class DomainValidator implements Serializable {
      */
     private static final DomainValidator DOMAIN_VALIDATOR_WITH_LOCAL = new DomainValidator(true);
 
-    /**
-     * RegexValidator for matching domains.
-     */
-    private final RegexValidator domainRegex =
-            new RegexValidator(DOMAIN_NAME_REGEX);
-    /**
-     * RegexValidator for matching a local hostname
-     */
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private final RegexValidator hostnameRegex =
-            new RegexValidator(DOMAIN_LABEL_REGEX);
-
     /**
      * Returns the singleton instance of this validator. It
      *  will not consider local addresses as valid.
@@ -152,15 +146,29 @@ public class DomainValidator implements Serializable {
         // hosts must be equally reachable via punycode and Unicode;
         // Unicode is never shorter than punycode, so check punycode
         // if domain did not convert, then it will be caught by ASCII
-        // checks in the regexes below
-        if (domain.length() > 253) {
+        // checks in the scanner below
+        return isValid(domain, 0, domain.length());
+    }
+
+    /*
+     * Same as isValid(String) for the ASCII domain name between start and end,
+     * without creating substrings.
+     */
+    // Needed by UrlValidator
+    boolean isValid(String domain, int start, int end) {
+        if (end - start > MAX_DOMAIN_LENGTH) {
             return false;
         }
-        String[] groups = domainRegex.match(domain);
-        if (groups != null && groups.length > 0) {
-            return isValidTld(groups[0]);
+        int tldStart = scanHostname(domain, start, end);
+        if (tldStart >= 0) {
+            int tldEnd = domain.charAt(end - 1) == '.' ? end - 1 : end;
+            if (!isOnlyASCII(domain, tldStart, tldEnd)) {
+                // the domain did not convert as a whole, the TLD alone may
+                return isValidTld(domain.substring(tldStart, tldEnd));
+            }
+            return isValidTld(domain, tldStart, tldEnd);
         }
-        return allowLocal && hostnameRegex.isValid(domain);
+        return allowLocal && tldStart == SINGLE_LABEL;
     }
 
     // package protected for unit test access
@@ -173,13 +181,90 @@ public class DomainValidator implements Serializable {
         // hosts must be equally reachable via punycode and Unicode;
         // Unicode is never shorter than punycode, so check punycode
         // if domain did not convert, then it will be caught by ASCII
-        // checks in the regexes below
-        if (domain.length() > 253) {
+        // checks in the scanner below
+        if (domain.length() > MAX_DOMAIN_LENGTH) {
             return false;
         }
-        String[] groups = domainRegex.match(domain);
-        return (groups != null && groups.length > 0)
-                || hostnameRegex.isValid(domain);
+        return scanHostname(domain, 0, domain.length()) != INVALID_HOSTNAME;
+    }
+
+    /*
+     * Scans the hostname between start and end in a single pass.
+     * @return the offset of the top level label, if there are at least two labels and
+     * the top level label starts with a letter, SINGLE_LABEL for a single label
+     * without a trailing dot, INVALID_HOSTNAME otherwise
+     */
+    private static int scanHostname(String domain, int start, int end) {
+        boolean trailingDot = end > start && domain.charAt(end - 1) == '.';
+        if (trailingDot) {
+            end--;
+        }
+
+        int labelStart = start;
+        int labels = 0;
+        for (int i = start; i <= end; i++) {
+            if (i < end && domain.charAt(i) != '.') {
+                continue;
+            }
+            if (!isValidLabel(domain, labelStart, i)) {
+                return INVALID_HOSTNAME;
+            }
+            labels++;
+            if (i < end) {
+                labelStart = i + 1;
+            }
+        }
+
+        if (labels == 1) {
+            return trailingDot ? INVALID_HOSTNAME : SINGLE_LABEL;
+        }
+        return isLetter(domain.codePointAt(labelStart)) ? labelStart : INVALID_HOSTNAME;
+    }
+
+    /*
+     * A label starts and ends with a letter or digit, has only letters, digits and
+     * hyphens in between and is at most 63 code points long. Non-ASCII letters and
+     * digits are only left in labels that did not convert to punycode, the regexes
+     * accepted them on Android, where \p{Alnum} is Unicode aware.
+     */
+    private static boolean isValidLabel(String domain, int start, int end) {
+        if (end == start || !isLetterOrDigit(domain.codePointAt(start))
+                || !isLetterOrDigit(domain.codePointBefore(end))) {
+            return false;
+        }
+        int length = 0;
+        for (int i = start; i < end; length++) {
+            int c = domain.charAt(i);
+            if (c > 0x7F) {
+                c = domain.codePointAt(i);
+            }
+            if (c != '-' && !isLetterOrDigit(c)) {
+                return false;
+            }
+            i += Character.charCount(c);
+        }
+        return length <= MAX_LABEL_LENGTH;
+    }
+
+    // Needed by UrlValidator
+    static boolean isLetterOrDigit(int c) {
+        if (c <= 0x7F) {
+            return isLetter(c) || (c >= '0' && c <= '9');
+        }
+        return isLetter(c) || Character.isDigit(c);
+    }
+
+    /*
+     * Non-ASCII letters are the characters matched by \p{Alpha} on Android, except for
+     * alphabetic marks such as vowel signs, Character.isAlphabetic() needs API level 19.
+     */
+    private static boolean isLetter(int c) {
+        if (c <= 0x7F) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+        return Character.isLetter(c) || Character.getType(c) == Character.LETTER_NUMBER
+                || (c >= 0x24B6 && c <= 0x24E9) || (c >= 0x1F130 && c <= 0x1F149)
+                || (c >= 0x1F150 && c <= 0x1F169) || (c >= 0x1F170 && c <= 0x1F189);
     }
 
     /**
@@ -190,13 +275,18 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is a TLD
      */
     public boolean isValidTld(String tld) {
-        tld = unicodeToASCII(tld);
-        if(allowLocal && isValidLocalTld(tld)) {
-           return true;
-        }
-        return isValidInfrastructureTld(tld)
-                || isValidGenericTld(tld)
-                || isValidCountryCodeTld(tld);
+        int validTypes = allowLocal ? (IANA_TLD | LOCAL_TLD) : IANA_TLD;
+        return (getTldTypes(tld) & validTypes) != 0;
+    }
+
+    /*
+     * Same as isValidTld(String) for the ASCII TLD between start and end,
+     * without creating substrings.
+     */
+    // Needed by EmailValidator
+    boolean isValidTld(String tld, int start, int end) {
+        int validTypes = allowLocal ? (IANA_TLD | LOCAL_TLD) : IANA_TLD;
+        return (getTldTypes(tld, start, end) & validTypes) != 0;
     }
 
     /**
@@ -207,8 +297,7 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is an infrastructure TLD
      */
     public boolean isValidInfrastructureTld(String iTld) {
-        iTld = unicodeToASCII(iTld);
-        return Arrays.binarySearch(INFRASTRUCTURE_TLDS, (chompLeadingDot(iTld.toLowerCase(Locale.ENGLISH)))) >= 0;
+        return (getTldTypes(iTld) & INFRASTRUCTURE_TLD) != 0;
     }
 
     /**
@@ -219,8 +308,7 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is a generic TLD
      */
     public boolean isValidGenericTld(String gTld) {
-        gTld = unicodeToASCII(gTld);
-        return Arrays.binarySearch(GENERIC_TLDS, chompLeadingDot(gTld.toLowerCase(Locale.ENGLISH))) >= 0;
+        return (getTldTypes(gTld) & GENERIC_TLD) != 0;
     }
 
     /**
@@ -231,8 +319,7 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is a country code TLD
      */
     public boolean isValidCountryCodeTld(String ccTld) {
-        ccTld = unicodeToASCII(ccTld);
-        return Arrays.binarySearch(COUNTRY_CODE_TLDS, chompLeadingDot(ccTld.toLowerCase(Locale.ENGLISH))) >= 0;
+        return (getTldTypes(ccTld) & COUNTRY_CODE_TLD) != 0;
     }
 
     /**
@@ -243,15 +330,32 @@ public class DomainValidator implements Serializable {
      * @return true if the parameter is an local TLD
      */
     public boolean isValidLocalTld(String lTld) {
-        lTld = unicodeToASCII(lTld);
-        return Arrays.binarySearch(LOCAL_TLDS, chompLeadingDot(lTld.toLowerCase(Locale.ENGLISH))) >= 0;
+        return (getTldTypes(lTld) & LOCAL_TLD) != 0;
     }
 
-    private String chompLeadingDot(String str) {
-        if (str.startsWith(".")) {
-            return str.substring(1);
+    /*
+     * Converts the TLD to punycode and looks it up in the TLD_INDEX.
+     */
+    private static int getTldTypes(String tld) {
+        tld = unicodeToASCII(tld);
+        if (!isOnlyASCII(tld)) {
+            // conversion failed, some non-ASCII characters lower case to ASCII ones
+            tld = tld.toLowerCase(Locale.ENGLISH);
         }
-        return str;
+        return getTldTypes(tld, 0, tld.length());
+    }
+
+    /*
+     * Looks up the TLD between start and end, ignoring the case of ASCII letters
+     * and a leading dot.
+     * @return the TLD types, a combination of INFRASTRUCTURE_TLD, GENERIC_TLD,
+     * COUNTRY_CODE_TLD and LOCAL_TLD, or 0 if it is not a TLD
+     */
+    static int getTldTypes(String domain, int start, int end) {
+        if (start < end && domain.charAt(start) == '.') {
+            start++;
+        }
+        return TLD_INDEX.lookup(domain, start, end);
     }
 
     // ---------------------------------------------
@@ -269,814 +373,817 @@ public class DomainValidator implements Serializable {
     // .bl  country-code    Not assigned
     // .um  country-code    Not assigned
 
-    // WARNING: this array MUST be sorted, others it cannot be searched reliably using binary search
-    private static final String[] INFRASTRUCTURE_TLDS = new String[] {
-        "arpa",               // internet infrastructure
-    };
+    // One lower case TLD per line, loaded into TLD_INDEX
+    private static final String INFRASTRUCTURE_TLDS =
+        "arpa";               // internet infrastructure
 
-    // WARNING: this array MUST be sorted, others it cannot be searched reliably using binary search
-    private static final String[] GENERIC_TLDS = new String[] {
-        "abogado",
-        "academy",
-        "accountants",
-        "active",
-        "actor",
-        "adult",
-        "aero",
-        "agency",
-        "airforce",
-        "allfinanz",
-        "alsace",
-        "amsterdam",
-        "android",
-        "aquarelle",
-        "archi",
-        "army",
-        "arpa",
-        "asia",
-        "associates",
-        "attorney",
-        "auction",
-        "audio",
-        "autos",
-        "axa",
-        "band",
-        "bar",
-        "bargains",
-        "bayern",
-        "beer",
-        "berlin",
-        "best",
-        "bid",
-        "bike",
-        "bio",
-        "biz",
-        "black",
-        "blackfriday",
-        "bloomberg",
-        "blue",
-        "bmw",
-        "bnpparibas",
-        "boo",
-        "boutique",
-        "brussels",
-        "budapest",
-        "build",
-        "builders",
-        "business",
-        "buzz",
-        "bzh",
-        "cab",
-        "cal",
-        "camera",
-        "camp",
-        "cancerresearch",
-        "capetown",
-        "capital",
-        "caravan",
-        "cards",
-        "care",
-        "career",
-        "careers",
-        "cartier",
-        "casa",
-        "cash",
-        "cat",
-        "catering",
-        "center",
-        "ceo",
-        "cern",
-        "channel",
-        "cheap",
-        "christmas",
-        "chrome",
-        "church",
-        "citic",
-        "city",
-        "claims",
-        "cleaning",
-        "click",
-        "clinic",
-        "clothing",
-        "club",
-        "coach",
-        "codes",
-        "coffee",
-        "college",
-        "cologne",
-        "com",
-        "community",
-        "company",
-        "computer",
-        "condos",
-        "construction",
-        "consulting",
-        "contractors",
-        "cooking",
-        "cool",
-        "coop",
-        "country",
-        "credit",
-        "creditcard",
-        "cricket",
-        "crs",
-        "cruises",
-        "cuisinella",
-        "cymru",
-        "dad",
-        "dance",
-        "dating",
-        "day",
-        "deals",
-        "degree",
-        "delivery",
-        "democrat",
-        "dental",
-        "dentist",
-        "desi",
-        "design",
-        "dev",
-        "diamonds",
-        "diet",
-        "digital",
-        "direct",
-        "directory",
-        "discount",
-        "dnp",
-        "docs",
-        "domains",
-        "doosan",
-        "durban",
-        "dvag",
-        "eat",
-        "edu",
-        "education",
-        "email",
-        "emerck",
-        "energy",
-        "engineer",
-        "engineering",
-        "enterprises",
-        "equipment",
-        "esq",
-        "estate",
-        "eurovision",
-        "eus",
-        "events",
-        "everbank",
-        "exchange",
-        "expert",
-        "exposed",
-        "fail",
-        "farm",
-        "fashion",
-        "feedback",
-        "finance",
-        "financial",
-        "firmdale",
-        "fish",
-        "fishing",
-        "fitness",
-        "flights",
-        "florist",
-        "flowers",
-        "flsmidth",
-        "fly",
-        "foo",
-        "forsale",
-        "foundation",
-        "frl",
-        "frogans",
-        "fund",
-        "furniture",
-        "futbol",
-        "gal",
-        "gallery",
-        "garden",
-        "gbiz",
-        "gent",
-        "ggee",
-        "gift",
-        "gifts",
-        "gives",
-        "glass",
-        "gle",
-        "global",
-        "globo",
-        "gmail",
-        "gmo",
-        "gmx",
-        "google",
-        "gop",
-        "gov",
-        "graphics",
-        "gratis",
-        "green",
-        "gripe",
-        "guide",
-        "guitars",
-        "guru",
-        "hamburg",
-        "haus",
-        "healthcare",
-        "help",
-        "here",
-        "hiphop",
-        "hiv",
-        "holdings",
-        "holiday",
-        "homes",
-        "horse",
-        "host",
-        "hosting",
-        "house",
-        "how",
-        "ibm",
-        "immo",
-        "immobilien",
-        "industries",
-        "info",
-        "ing",
-        "ink",
-        "institute",
-        "insure",
-        "int",
-        "international",
-        "investments",
-        "irish",
-        "iwc",
-        "jetzt",
-        "jobs",
-        "joburg",
-        "juegos",
-        "kaufen",
-        "kim",
-        "kitchen",
-        "kiwi",
-        "koeln",
-        "krd",
-        "kred",
-        "lacaixa",
-        "land",
-        "latrobe",
-        "lawyer",
-        "lds",
-        "lease",
-        "legal",
-        "lgbt",
-        "lidl",
-        "life",
-        "lighting",
-        "limited",
-        "limo",
-        "link",
-        "loans",
-        "london",
-        "lotto",
-        "ltda",
-        "luxe",
-        "luxury",
-        "madrid",
-        "maison",
-        "management",
-        "mango",
-        "market",
-        "marketing",
-        "media",
-        "meet",
-        "melbourne",
-        "meme",
-        "memorial",
-        "menu",
-        "miami",
-        "mil",
-        "mini",
-        "mobi",
-        "moda",
-        "moe",
-        "monash",
-        "money",
-        "mormon",
-        "mortgage",
-        "moscow",
-        "motorcycles",
-        "mov",
-        "museum",
-        "nagoya",
-        "name",
-        "navy",
-        "net",
-        "network",
-        "neustar",
-        "new",
-        "nexus",
-        "ngo",
-        "nhk",
-        "ninja",
-        "nra",
-        "nrw",
-        "nyc",
-        "okinawa",
-        "ong",
-        "onl",
-        "ooo",
-        "org",
-        "organic",
-        "osaka",
-        "otsuka",
-        "ovh",
-        "paris",
-        "partners",
-        "parts",
-        "party",
-        "pharmacy",
-        "photo",
-        "photography",
-        "photos",
-        "physio",
-        "pics",
-        "pictures",
-        "pink",
-        "pizza",
-        "place",
-        "plumbing",
-        "pohl",
-        "poker",
-        "porn",
-        "post",
-        "praxi",
-        "press",
-        "pro",
-        "prod",
-        "productions",
-        "prof",
-        "properties",
-        "property",
-        "pub",
-        "qpon",
-        "quebec",
-        "realtor",
-        "recipes",
-        "red",
-        "rehab",
-        "reise",
-        "reisen",
-        "reit",
-        "ren",
-        "rentals",
-        "repair",
-        "report",
-        "republican",
-        "rest",
-        "restaurant",
-        "reviews",
-        "rich",
-        "rio",
-        "rip",
-        "rocks",
-        "rodeo",
-        "rsvp",
-        "ruhr",
-        "ryukyu",
-        "saarland",
-        "sale",
-        "samsung",
-        "sarl",
-        "sca",
-        "scb",
-        "schmidt",
-        "schule",
-        "schwarz",
-        "science",
-        "scot",
-        "services",
-        "sew",
-        "sexy",
-        "shiksha",
-        "shoes",
-        "shriram",
-        "singles",
-        "sky",
-        "social",
-        "software",
-        "sohu",
-        "solar",
-        "solutions",
-        "soy",
-        "space",
-        "spiegel",
-        "supplies",
-        "supply",
-        "support",
-        "surf",
-        "surgery",
-        "suzuki",
-        "sydney",
-        "systems",
-        "taipei",
-        "tatar",
-        "tattoo",
-        "tax",
-        "technology",
-        "tel",
-        "tienda",
-        "tips",
-        "tires",
-        "tirol",
-        "today",
-        "tokyo",
-        "tools",
-        "top",
-        "town",
-        "toys",
-        "trade",
-        "training",
-        "travel",
-        "trust",
-        "tui",
-        "university",
-        "uno",
-        "uol",
-        "vacations",
-        "vegas",
-        "ventures",
-        "versicherung",
-        "vet",
-        "viajes",
-        "video",
-        "villas",
-        "vision",
-        "vlaanderen",
-        "vodka",
-        "vote",
-        "voting",
-        "voto",
-        "voyage",
-        "wales",
-        "wang",
-        "watch",
-        "webcam",
-        "website",
-        "wed",
-        "wedding",
-        "whoswho",
-        "wien",
-        "wiki",
-        "williamhill",
-        "wme",
-        "work",
-        "works",
-        "world",
-        "wtc",
-        "wtf",
-        "xn--1qqw23a", // 佛山 Guangzhou YU Wei Information Technology Co., Ltd.
-        "xn--3bst00m", // 集团 Eagle Horizon Limited
-        "xn--3ds443g", // 在线 TLD REGISTRY LIMITED
-        "xn--45q11c", // 八卦 Zodiac Scorpio Limited
-        "xn--4gbrim", // موقع Suhub Electronic Establishment
-        "xn--55qw42g", // 公益 China Organizational Name Administration Center
-        "xn--55qx5d", // 公司 Computer Network Information Center of Chinese Academy of Sciences （China Internet Network Information Center）
-        "xn--6frz82g", // 移动 Afilias Limited
-        "xn--6qq986b3xl", // 我爱你 Tycoon Treasure Limited
-        "xn--80adxhks", // москва Foundation for Assistance for Internet Technologies and Infrastructure Development (FAITID)
-        "xn--80asehdb", // онлайн CORE Association
-        "xn--80aswg", // сайт CORE Association
-        "xn--c1avg", // орг Public Interest Registry
-        "xn--cg4bki", // 삼성 SAMSUNG SDS CO., LTD
-        "xn--czr694b", // 商标 HU YI GLOBAL INFORMATION RESOURCES(HOLDING) COMPANY.HONGKONG LIMITED
-        "xn--czrs0t", // 商店 Wild Island, LLC
-        "xn--czru2d", // 商城 Zodiac Aquarius Limited
-        "xn--d1acj3b", // дети The Foundation for Network Initiatives “The Smart Internet”
-        "xn--fiq228c5hs", // 中文网 TLD REGISTRY LIMITED
-        "xn--fiq64b", // 中信 CITIC Group Corporation
-        "xn--flw351e", // 谷歌 Charleston Road Registry Inc.
-        "xn--hxt814e", // 网店 Zodiac Libra Limited
-        "xn--i1b6b1a6a2e", // संगठन Public Interest Registry
-        "xn--io0a7i", // 网络 Computer Network Information Center of Chinese Academy of Sciences （China Internet Network Information Center）
-        "xn--kput3i", // 手机 Beijing RITT-Net Technology Development Co., Ltd
-        "xn--mgbab2bd", // بازار CORE Association
-        "xn--ngbc5azd", // شبكة International Domain Registry Pty. Ltd.
-        "xn--nqv7f", // 机构 Public Interest Registry
-        "xn--nqv7fs00ema", // 组织机构 Public Interest Registry
-        "xn--p1acf", // рус Rusnames Limited
-        "xn--q9jyb4c", // みんな Charleston Road Registry Inc.
-        "xn--qcka1pmc", // グーグル Charleston Road Registry Inc.
-        "xn--rhqv96g", // 世界 Stable Tone Limited
-        "xn--ses554g", // 网址 HU YI GLOBAL INFORMATION RESOURCES (HOLDING) COMPANY. HONGKONG LIMITED
-        "xn--unup4y", // 游戏 Spring Fields, LLC
-        "xn--vermgensberater-ctb", // vermögensberater Deutsche Vermögensberatung Aktiengesellschaft DVAG
-        "xn--vermgensberatung-pwb", // vermögensberatung Deutsche Vermögensberatung Aktiengesellschaft DVAG
-        "xn--vhquv", // 企业 Dash McCook, LLC
-        "xn--xhq521b", // 广东 Guangzhou YU Wei Information Technology Co., Ltd.
-        "xn--zfr164b", // 政务 China Organizational Name Administration Center
-        "xxx",
-        "xyz",
-        "yachts",
-        "yandex",
-        "yoga",
-        "yokohama",
-        "youtube",
-        "zip",
-        "zone",
-        "zuerich",
-   };
+    // One lower case TLD per line, loaded into TLD_INDEX
+    private static final String GENERIC_TLDS =
+        "abogado," +
+        "academy," +
+        "accountants," +
+        "active," +
+        "actor," +
+        "adult," +
+        "aero," +
+        "agency," +
+        "airforce," +
+        "allfinanz," +
+        "alsace," +
+        "amsterdam," +
+        "android," +
+        "aquarelle," +
+        "archi," +
+        "army," +
+        "arpa," +
+        "asia," +
+        "associates," +
+        "attorney," +
+        "auction," +
+        "audio," +
+        "autos," +
+        "axa," +
+        "band," +
+        "bar," +
+        "bargains," +
+        "bayern," +
+        "beer," +
+        "berlin," +
+        "best," +
+        "bid," +
+        "bike," +
+        "bio," +
+        "biz," +
+        "black," +
+        "blackfriday," +
+        "bloomberg," +
+        "blue," +
+        "bmw," +
+        "bnpparibas," +
+        "boo," +
+        "boutique," +
+        "brussels," +
+        "budapest," +
+        "build," +
+        "builders," +
+        "business," +
+        "buzz," +
+        "bzh," +
+        "cab," +
+        "cal," +
+        "camera," +
+        "camp," +
+        "cancerresearch," +
+        "capetown," +
+        "capital," +
+        "caravan," +
+        "cards," +
+        "care," +
+        "career," +
+        "careers," +
+        "cartier," +
+        "casa," +
+        "cash," +
+        "cat," +
+        "catering," +
+        "center," +
+        "ceo," +
+        "cern," +
+        "channel," +
+        "cheap," +
+        "christmas," +
+        "chrome," +
+        "church," +
+        "citic," +
+        "city," +
+        "claims," +
+        "cleaning," +
+        "click," +
+        "clinic," +
+        "clothing," +
+        "club," +
+        "coach," +
+        "codes," +
+        "coffee," +
+        "college," +
+        "cologne," +
+        "com," +
+        "community," +
+        "company," +
+        "computer," +
+        "condos," +
+        "construction," +
+        "consulting," +
+        "contractors," +
+        "cooking," +
+        "cool," +
+        "coop," +
+        "country," +
+        "credit," +
+        "creditcard," +
+        "cricket," +
+        "crs," +
+        "cruises," +
+        "cuisinella," +
+        "cymru," +
+        "dad," +
+        "dance," +
+        "dating," +
+        "day," +
+        "deals," +
+        "degree," +
+        "delivery," +
+        "democrat," +
+        "dental," +
+        "dentist," +
+        "desi," +
+        "design," +
+        "dev," +
+        "diamonds," +
+        "diet," +
+        "digital," +
+        "direct," +
+        "directory," +
+        "discount," +
+        "dnp," +
+        "docs," +
+        "domains," +
+        "doosan," +
+        "durban," +
+        "dvag," +
+        "eat," +
+        "edu," +
+        "education," +
+        "email," +
+        "emerck," +
+        "energy," +
+        "engineer," +
+        "engineering," +
+        "enterprises," +
+        "equipment," +
+        "esq," +
+        "estate," +
+        "eurovision," +
+        "eus," +
+        "events," +
+        "everbank," +
+        "exchange," +
+        "expert," +
+        "exposed," +
+        "fail," +
+        "farm," +
+        "fashion," +
+        "feedback," +
+        "finance," +
+        "financial," +
+        "firmdale," +
+        "fish," +
+        "fishing," +
+        "fitness," +
+        "flights," +
+        "florist," +
+        "flowers," +
+        "flsmidth," +
+        "fly," +
+        "foo," +
+        "forsale," +
+        "foundation," +
+        "frl," +
+        "frogans," +
+        "fund," +
+        "furniture," +
+        "futbol," +
+        "gal," +
+        "gallery," +
+        "garden," +
+        "gbiz," +
+        "gent," +
+        "ggee," +
+        "gift," +
+        "gifts," +
+        "gives," +
+        "glass," +
+        "gle," +
+        "global," +
+        "globo," +
+        "gmail," +
+        "gmo," +
+        "gmx," +
+        "google," +
+        "gop," +
+        "gov," +
+        "graphics," +
+        "gratis," +
+        "green," +
+        "gripe," +
+        "guide," +
+        "guitars," +
+        "guru," +
+        "hamburg," +
+        "haus," +
+        "healthcare," +
+        "help," +
+        "here," +
+        "hiphop," +
+        "hiv," +
+        "holdings," +
+        "holiday," +
+        "homes," +
+        "horse," +
+        "host," +
+        "hosting," +
+        "house," +
+        "how," +
+        "ibm," +
+        "immo," +
+        "immobilien," +
+        "industries," +
+        "info," +
+        "ing," +
+        "ink," +
+        "institute," +
+        "insure," +
+        "int," +
+        "international," +
+        "investments," +
+        "irish," +
+        "iwc," +
+        "jetzt," +
+        "jobs," +
+        "joburg," +
+        "juegos," +
+        "kaufen," +
+        "kim," +
+        "kitchen," +
+        "kiwi," +
+        "koeln," +
+        "krd," +
+        "kred," +
+        "lacaixa," +
+        "land," +
+        "latrobe," +
+        "lawyer," +
+        "lds," +
+        "lease," +
+        "legal," +
+        "lgbt," +
+        "lidl," +
+        "life," +
+        "lighting," +
+        "limited," +
+        "limo," +
+        "link," +
+        "loans," +
+        "london," +
+        "lotto," +
+        "ltda," +
+        "luxe," +
+        "luxury," +
+        "madrid," +
+        "maison," +
+        "management," +
+        "mango," +
+        "market," +
+        "marketing," +
+        "media," +
+        "meet," +
+        "melbourne," +
+        "meme," +
+        "memorial," +
+        "menu," +
+        "miami," +
+        "mil," +
+        "mini," +
+        "mobi," +
+        "moda," +
+        "moe," +
+        "monash," +
+        "money," +
+        "mormon," +
+        "mortgage," +
+        "moscow," +
+        "motorcycles," +
+        "mov," +
+        "museum," +
+        "nagoya," +
+        "name," +
+        "navy," +
+        "net," +
+        "network," +
+        "neustar," +
+        "new," +
+        "nexus," +
+        "ngo," +
+        "nhk," +
+        "ninja," +
+        "nra," +
+        "nrw," +
+        "nyc," +
+        "okinawa," +
+        "ong," +
+        "onl," +
+        "ooo," +
+        "org," +
+        "organic," +
+        "osaka," +
+        "otsuka," +
+        "ovh," +
+        "paris," +
+        "partners," +
+        "parts," +
+        "party," +
+        "pharmacy," +
+        "photo," +
+        "photography," +
+        "photos," +
+        "physio," +
+        "pics," +
+        "pictures," +
+        "pink," +
+        "pizza," +
+        "place," +
+        "plumbing," +
+        "pohl," +
+        "poker," +
+        "porn," +
+        "post," +
+        "praxi," +
+        "press," +
+        "pro," +
+        "prod," +
+        "productions," +
+        "prof," +
+        "properties," +
+        "property," +
+        "pub," +
+        "qpon," +
+        "quebec," +
+        "realtor," +
+        "recipes," +
+        "red," +
+        "rehab," +
+        "reise," +
+        "reisen," +
+        "reit," +
+        "ren," +
+        "rentals," +
+        "repair," +
+        "report," +
+        "republican," +
+        "rest," +
+        "restaurant," +
+        "reviews," +
+        "rich," +
+        "rio," +
+        "rip," +
+        "rocks," +
+        "rodeo," +
+        "rsvp," +
+        "ruhr," +
+        "ryukyu," +
+        "saarland," +
+        "sale," +
+        "samsung," +
+        "sarl," +
+        "sca," +
+        "scb," +
+        "schmidt," +
+        "schule," +
+        "schwarz," +
+        "science," +
+        "scot," +
+        "services," +
+        "sew," +
+        "sexy," +
+        "shiksha," +
+        "shoes," +
+        "shriram," +
+        "singles," +
+        "sky," +
+        "social," +
+        "software," +
+        "sohu," +
+        "solar," +
+        "solutions," +
+        "soy," +
+        "space," +
+        "spiegel," +
+        "supplies," +
+        "supply," +
+        "support," +
+        "surf," +
+        "surgery," +
+        "suzuki," +
+        "sydney," +
+        "systems," +
+        "taipei," +
+        "tatar," +
+        "tattoo," +
+        "tax," +
+        "technology," +
+        "tel," +
+        "tienda," +
+        "tips," +
+        "tires," +
+        "tirol," +
+        "today," +
+        "tokyo," +
+        "tools," +
+        "top," +
+        "town," +
+        "toys," +
+        "trade," +
+        "training," +
+        "travel," +
+        "trust," +
+        "tui," +
+        "university," +
+        "uno," +
+        "uol," +
+        "vacations," +
+        "vegas," +
+        "ventures," +
+        "versicherung," +
+        "vet," +
+        "viajes," +
+        "video," +
+        "villas," +
+        "vision," +
+        "vlaanderen," +
+        "vodka," +
+        "vote," +
+        "voting," +
+        "voto," +
+        "voyage," +
+        "wales," +
+        "wang," +
+        "watch," +
+        "webcam," +
+        "website," +
+        "wed," +
+        "wedding," +
+        "whoswho," +
+        "wien," +
+        "wiki," +
+        "williamhill," +
+        "wme," +
+        "work," +
+        "works," +
+        "world," +
+        "wtc," +
+        "wtf," +
+        "xn--1qqw23a," + // 佛山 Guangzhou YU Wei Information Technology Co., Ltd.
+        "xn--3bst00m," + // 集团 Eagle Horizon Limited
+        "xn--3ds443g," + // 在线 TLD REGISTRY LIMITED
+        "xn--45q11c," + // 八卦 Zodiac Scorpio Limited
+        "xn--4gbrim," + // موقع Suhub Electronic Establishment
+        "xn--55qw42g," + // 公益 China Organizational Name Administration Center
+        "xn--55qx5d," + // 公司 Computer Network Information Center of Chinese Academy of Sciences （China Internet Network Information Center）
+        "xn--6frz82g," + // 移动 Afilias Limited
+        "xn--6qq986b3xl," + // 我爱你 Tycoon Treasure Limited
+        "xn--80adxhks," + // москва Foundation for Assistance for Internet Technologies and Infrastructure Development (FAITID)
+        "xn--80asehdb," + // онлайн CORE Association
+        "xn--80aswg," + // сайт CORE Association
+        "xn--c1avg," + // орг Public Interest Registry
+        "xn--cg4bki," + // 삼성 SAMSUNG SDS CO., LTD
+        "xn--czr694b," + // 商标 HU YI GLOBAL INFORMATION RESOURCES(HOLDING) COMPANY.HONGKONG LIMITED
+        "xn--czrs0t," + // 商店 Wild Island, LLC
+        "xn--czru2d," + // 商城 Zodiac Aquarius Limited
+        "xn--d1acj3b," + // дети The Foundation for Network Initiatives “The Smart Internet”
+        "xn--fiq228c5hs," + // 中文网 TLD REGISTRY LIMITED
+        "xn--fiq64b," + // 中信 CITIC Group Corporation
+        "xn--flw351e," + // 谷歌 Charleston Road Registry Inc.
+        "xn--hxt814e," + // 网店 Zodiac Libra Limited
+        "xn--i1b6b1a6a2e," + // संगठन Public Interest Registry
+        "xn--io0a7i," + // 网络 Computer Network Information Center of Chinese Academy of Sciences （China Internet Network Information Center）
+        "xn--kput3i," + // 手机 Beijing RITT-Net Technology Development Co., Ltd
+        "xn--mgbab2bd," + // بازار CORE Association
+        "xn--ngbc5azd," + // شبكة International Domain Registry Pty. Ltd.
+        "xn--nqv7f," + // 机构 Public Interest Registry
+        "xn--nqv7fs00ema," + // 组织机构 Public Interest Registry
+        "xn--p1acf," + // рус Rusnames Limited
+        "xn--q9jyb4c," + // みんな Charleston Road Registry Inc.
+        "xn--qcka1pmc," + // グーグル Charleston Road Registry Inc.
+        "xn--rhqv96g," + // 世界 Stable Tone Limited
+        "xn--ses554g," + // 网址 HU YI GLOBAL INFORMATION RESOURCES (HOLDING) COMPANY. HONGKONG LIMITED
+        "xn--unup4y," + // 游戏 Spring Fields, LLC
+        "xn--vermgensberater-ctb," + // vermögensberater Deutsche Vermögensberatung Aktiengesellschaft DVAG
+        "xn--vermgensberatung-pwb," + // vermögensberatung Deutsche Vermögensberatung Aktiengesellschaft DVAG
+        "xn--vhquv," + // 企业 Dash McCook, LLC
+        "xn--xhq521b," + // 广东 Guangzhou YU Wei Information Technology Co., Ltd.
+        "xn--zfr164b," + // 政务 China Organizational Name Administration Center
+        "xxx," +
+        "xyz," +
+        "yachts," +
+        "yandex," +
+        "yoga," +
+        "yokohama," +
+        "youtube," +
+        "zip," +
+        "zone," +
+        "zuerich";
 
-    // WARNING: this array MUST be sorted, others it cannot be searched reliably using binary search
-    private static final String[] COUNTRY_CODE_TLDS = new String[] {
-        "ac",                 // Ascension Island
-        "ad",                 // Andorra
-        "ae",                 // United Arab Emirates
-        "af",                 // Afghanistan
-        "ag",                 // Antigua and Barbuda
-        "ai",                 // Anguilla
-        "al",                 // Albania
-        "am",                 // Armenia
-        "an",                 // Netherlands Antilles
-        "ao",                 // Angola
-        "aq",                 // Antarctica
-        "ar",                 // Argentina
-        "as",                 // American Samoa
-        "at",                 // Austria
-        "au",                 // Australia (includes Ashmore and Cartier Islands and Coral Sea Islands)
-        "aw",                 // Aruba
-        "ax",                 // Åland
-        "az",                 // Azerbaijan
-        "ba",                 // Bosnia and Herzegovina
-        "bb",                 // Barbados
-        "bd",                 // Bangladesh
-        "be",                 // Belgium
-        "bf",                 // Burkina Faso
-        "bg",                 // Bulgaria
-        "bh",                 // Bahrain
-        "bi",                 // Burundi
-        "bj",                 // Benin
-        "bm",                 // Bermuda
-        "bn",                 // Brunei Darussalam
-        "bo",                 // Bolivia
-        "br",                 // Brazil
-        "bs",                 // Bahamas
-        "bt",                 // Bhutan
-        "bv",                 // Bouvet Island
-        "bw",                 // Botswana
-        "by",                 // Belarus
-        "bz",                 // Belize
-        "ca",                 // Canada
-        "cc",                 // Cocos (Keeling) Islands
-        "cd",                 // Democratic Republic of the Congo (formerly Zaire)
-        "cf",                 // Central African Republic
-        "cg",                 // Republic of the Congo
-        "ch",                 // Switzerland
-        "ci",                 // Côte d'Ivoire
-        "ck",                 // Cook Islands
-        "cl",                 // Chile
-        "cm",                 // Cameroon
-        "cn",                 // China, mainland
-        "co",                 // Colombia
-        "cr",                 // Costa Rica
-        "cu",                 // Cuba
-        "cv",                 // Cape Verde
-        "cw",                 // Curaçao
-        "cx",                 // Christmas Island
-        "cy",                 // Cyprus
-        "cz",                 // Czech Republic
-        "de",                 // Germany
-        "dj",                 // Djibouti
-        "dk",                 // Denmark
-        "dm",                 // Dominica
-        "do",                 // Dominican Republic
-        "dz",                 // Algeria
-        "ec",                 // Ecuador
-        "ee",                 // Estonia
-        "eg",                 // Egypt
-        "er",                 // Eritrea
-        "es",                 // Spain
-        "et",                 // Ethiopia
-        "eu",                 // European Union
-        "fi",                 // Finland
-        "fj",                 // Fiji
-        "fk",                 // Falkland Islands
-        "fm",                 // Federated States of Micronesia
-        "fo",                 // Faroe Islands
-        "fr",                 // France
-        "ga",                 // Gabon
-        "gb",                 // Great Britain (United Kingdom)
-        "gd",                 // Grenada
-        "ge",                 // Georgia
-        "gf",                 // French Guiana
-        "gg",                 // Guernsey
-        "gh",                 // Ghana
-        "gi",                 // Gibraltar
-        "gl",                 // Greenland
-        "gm",                 // The Gambia
-        "gn",                 // Guinea
-        "gp",                 // Guadeloupe
-        "gq",                 // Equatorial Guinea
-        "gr",                 // Greece
-        "gs",                 // South Georgia and the South Sandwich Islands
-        "gt",                 // Guatemala
-        "gu",                 // Guam
-        "gw",                 // Guinea-Bissau
-        "gy",                 // Guyana
-        "hk",                 // Hong Kong
-        "hm",                 // Heard Island and McDonald Islands
-        "hn",                 // Honduras
-        "hr",                 // Croatia (Hrvatska)
-        "ht",                 // Haiti
-        "hu",                 // Hungary
-        "id",                 // Indonesia
-        "ie",                 // Ireland (Éire)
-        "il",                 // Israel
-        "im",                 // Isle of Man
-        "in",                 // India
-        "io",                 // British Indian Ocean Territory
-        "iq",                 // Iraq
-        "ir",                 // Iran
-        "is",                 // Iceland
-        "it",                 // Italy
-        "je",                 // Jersey
-        "jm",                 // Jamaica
-        "jo",                 // Jordan
-        "jp",                 // Japan
-        "ke",                 // Kenya
-        "kg",                 // Kyrgyzstan
-        "kh",                 // Cambodia (Khmer)
-        "ki",                 // Kiribati
-        "km",                 // Comoros
-        "kn",                 // Saint Kitts and Nevis
-        "kp",                 // North Korea
-        "kr",                 // South Korea
-        "kw",                 // Kuwait
-        "ky",                 // Cayman Islands
-        "kz",                 // Kazakhstan
-        "la",                 // Laos (currently being marketed as the official domain for Los Angeles)
-        "lb",                 // Lebanon
-        "lc",                 // Saint Lucia
-        "li",                 // Liechtenstein
-        "lk",                 // Sri Lanka
-        "lr",                 // Liberia
-        "ls",                 // Lesotho
-        "lt",                 // Lithuania
-        "lu",                 // Luxembourg
-        "lv",                 // Latvia
-        "ly",                 // Libya
-        "ma",                 // Morocco
-        "mc",                 // Monaco
-        "md",                 // Moldova
-        "me",                 // Montenegro
-        "mg",                 // Madagascar
-        "mh",                 // Marshall Islands
-        "mk",                 // Republic of Macedonia
-        "ml",                 // Mali
-        "mm",                 // Myanmar
-        "mn",                 // Mongolia
-        "mo",                 // Macau
-        "mp",                 // Northern Mariana Islands
-        "mq",                 // Martinique
-        "mr",                 // Mauritania
-        "ms",                 // Montserrat
-        "mt",                 // Malta
-        "mu",                 // Mauritius
-        "mv",                 // Maldives
-        "mw",                 // Malawi
-        "mx",                 // Mexico
-        "my",                 // Malaysia
-        "mz",                 // Mozambique
-        "na",                 // Namibia
-        "nc",                 // New Caledonia
-        "ne",                 // Niger
-        "nf",                 // Norfolk Island
-        "ng",                 // Nigeria
-        "ni",                 // Nicaragua
-        "nl",                 // Netherlands
-        "no",                 // Norway
-        "np",                 // Nepal
-        "nr",                 // Nauru
-        "nu",                 // Niue
-        "nz",                 // New Zealand
-        "om",                 // Oman
-        "pa",                 // Panama
-        "pe",                 // Peru
-        "pf",                 // French Polynesia With Clipperton Island
-        "pg",                 // Papua New Guinea
-        "ph",                 // Philippines
-        "pk",                 // Pakistan
-        "pl",                 // Poland
-        "pm",                 // Saint-Pierre and Miquelon
-        "pn",                 // Pitcairn Islands
-        "pr",                 // Puerto Rico
-        "ps",                 // Palestinian territories (PA-controlled West Bank and Gaza Strip)
-        "pt",                 // Portugal
-        "pw",                 // Palau
-        "py",                 // Paraguay
-        "qa",                 // Qatar
-        "re",                 // Réunion
-        "ro",                 // Romania
-        "rs",                 // Serbia
-        "ru",                 // Russia
-        "rw",                 // Rwanda
-        "sa",                 // Saudi Arabia
-        "sb",                 // Solomon Islands
-        "sc",                 // Seychelles
-        "sd",                 // Sudan
-        "se",                 // Sweden
-        "sg",                 // Singapore
-        "sh",                 // Saint Helena
-        "si",                 // Slovenia
-        "sj",                 // Svalbard and Jan Mayen Islands Not in use (Norwegian dependencies; see .no)
-        "sk",                 // Slovakia
-        "sl",                 // Sierra Leone
-        "sm",                 // San Marino
-        "sn",                 // Senegal
-        "so",                 // Somalia
-        "sr",                 // Suriname
-        "st",                 // São Tomé and Príncipe
-        "su",                 // Soviet Union (deprecated)
-        "sv",                 // El Salvador
-        "sx",                 // Sint Maarten
-        "sy",                 // Syria
-        "sz",                 // Swaziland
-        "tc",                 // Turks and Caicos Islands
-        "td",                 // Chad
-        "tf",                 // French Southern and Antarctic Lands
-        "tg",                 // Togo
-        "th",                 // Thailand
-        "tj",                 // Tajikistan
-        "tk",                 // Tokelau
-        "tl",                 // East Timor (deprecated old code)
-        "tm",                 // Turkmenistan
-        "tn",                 // Tunisia
-        "to",                 // Tonga
-        "tp",                 // East Timor
-        "tr",                 // Turkey
-        "tt",                 // Trinidad and Tobago
-        "tv",                 // Tuvalu
-        "tw",                 // Taiwan, Republic of China
-        "tz",                 // Tanzania
-        "ua",                 // Ukraine
-        "ug",                 // Uganda
-        "uk",                 // United Kingdom
-        "us",                 // United States of America
-        "uy",                 // Uruguay
-        "uz",                 // Uzbekistan
-        "va",                 // Vatican City State
-        "vc",                 // Saint Vincent and the Grenadines
-        "ve",                 // Venezuela
-        "vg",                 // British Virgin Islands
-        "vi",                 // U.S. Virgin Islands
-        "vn",                 // Vietnam
-        "vu",                 // Vanuatu
-        "wf",                 // Wallis and Futuna
-        "ws",                 // Samoa (formerly Western Samoa)
-        "xn--3e0b707e", // 한국 KISA (Korea Internet &amp; Security Agency)
-        "xn--45brj9c", // ভারত National Internet Exchange of India
-        "xn--80ao21a", // қаз Association of IT Companies of Kazakhstan
-        "xn--90a3ac", // срб Serbian National Internet Domain Registry (RNIDS)
-        "xn--clchc0ea0b2g2a9gcd", // சிங்கப்பூர் Singapore Network Information Centre (SGNIC) Pte Ltd
-        "xn--d1alf", // мкд Macedonian Academic Research Network Skopje
-        "xn--fiqs8s", // 中国 China Internet Network Information Center
-        "xn--fiqz9s", // 中國 China Internet Network Information Center
-        "xn--fpcrj9c3d", // భారత్ National Internet Exchange of India
-        "xn--fzc2c9e2c", // ලංකා LK Domain Registry
-        "xn--gecrj9c", // ભારત National Internet Exchange of India
-        "xn--h2brj9c", // भारत National Internet Exchange of India
-        "xn--j1amh", // укр Ukrainian Network Information Centre (UANIC), Inc.
-        "xn--j6w193g", // 香港 Hong Kong Internet Registration Corporation Ltd.
-        "xn--kprw13d", // 台湾 Taiwan Network Information Center (TWNIC)
-        "xn--kpry57d", // 台灣 Taiwan Network Information Center (TWNIC)
-        "xn--l1acc", // мон Datacom Co.,Ltd
-        "xn--lgbbat1ad8j", // الجزائر CERIST
-        "xn--mgb9awbf", // عمان Telecommunications Regulatory Authority (TRA)
-        "xn--mgba3a4f16a", // ایران Institute for Research in Fundamental Sciences (IPM)
-        "xn--mgbaam7a8h", // امارات Telecommunications Regulatory Authority (TRA)
-        "xn--mgbayh7gpa", // الاردن National Information Technology Center (NITC)
-        "xn--mgbbh1a71e", // بھارت National Internet Exchange of India
-        "xn--mgbc0a9azcg", // المغرب Agence Nationale de Réglementation des Télécommunications (ANRT)
-        "xn--mgberp4a5d4ar", // السعودية Communications and Information Technology Commission
-        "xn--mgbx4cd0ab", // مليسيا MYNIC Berhad
-        "xn--node", // გე Information Technologies Development Center (ITDC)
-        "xn--o3cw4h", // ไทย Thai Network Information Center Foundation
-        "xn--ogbpf8fl", // سورية National Agency for Network Services (NANS)
-        "xn--p1ai", // рф Coordination Center for TLD RU
-        "xn--pgbs0dh", // تونس Agence Tunisienne d&#39;Internet
-        "xn--s9brj9c", // ਭਾਰਤ National Internet Exchange of India
-        "xn--wgbh1c", // مصر National Telecommunication Regulatory Authority - NTRA
-        "xn--wgbl6a", // قطر Communications Regulatory Authority
-        "xn--xkc2al3hye2a", // இலங்கை LK Domain Registry
-        "xn--xkc2dl3a5ee0h", // இந்தியா National Internet Exchange of India
-        "xn--yfro4i67o", // 新加坡 Singapore Network Information Centre (SGNIC) Pte Ltd
-        "xn--ygbi2ammx", // فلسطين Ministry of Telecom &amp; Information Technology (MTIT)
-        "ye",                 // Yemen
-        "yt",                 // Mayotte
-        "za",                 // South Africa
-        "zm",                 // Zambia
-        "zw",                 // Zimbabwe
-    };
+    // One lower case TLD per line, loaded into TLD_INDEX
+    private static final String COUNTRY_CODE_TLDS =
+        "ac," +               // Ascension Island
+        "ad," +               // Andorra
+        "ae," +               // United Arab Emirates
+        "af," +               // Afghanistan
+        "ag," +               // Antigua and Barbuda
+        "ai," +               // Anguilla
+        "al," +               // Albania
+        "am," +               // Armenia
+        "an," +               // Netherlands Antilles
+        "ao," +               // Angola
+        "aq," +               // Antarctica
+        "ar," +               // Argentina
+        "as," +               // American Samoa
+        "at," +               // Austria
+        "au," +               // Australia (includes Ashmore and Cartier Islands and Coral Sea Islands)
+        "aw," +               // Aruba
+        "ax," +               // Åland
+        "az," +               // Azerbaijan
+        "ba," +               // Bosnia and Herzegovina
+        "bb," +               // Barbados
+        "bd," +               // Bangladesh
+        "be," +               // Belgium
+        "bf," +               // Burkina Faso
+        "bg," +               // Bulgaria
+        "bh," +               // Bahrain
+        "bi," +               // Burundi
+        "bj," +               // Benin
+        "bm," +               // Bermuda
+        "bn," +               // Brunei Darussalam
+        "bo," +               // Bolivia
+        "br," +               // Brazil
+        "bs," +               // Bahamas
+        "bt," +               // Bhutan
+        "bv," +               // Bouvet Island
+        "bw," +               // Botswana
+        "by," +               // Belarus
+        "bz," +               // Belize
+        "ca," +               // Canada
+        "cc," +               // Cocos (Keeling) Islands
+        "cd," +               // Democratic Republic of the Congo (formerly Zaire)
+        "cf," +               // Central African Republic
+        "cg," +               // Republic of the Congo
+        "ch," +               // Switzerland
+        "ci," +               // Côte d'Ivoire
+        "ck," +               // Cook Islands
+        "cl," +               // Chile
+        "cm," +               // Cameroon
+        "cn," +               // China, mainland
+        "co," +               // Colombia
+        "cr," +               // Costa Rica
+        "cu," +               // Cuba
+        "cv," +               // Cape Verde
+        "cw," +               // Curaçao
+        "cx," +               // Christmas Island
+        "cy," +               // Cyprus
+        "cz," +               // Czech Republic
+        "de," +               // Germany
+        "dj," +               // Djibouti
+        "dk," +               // Denmark
+        "dm," +               // Dominica
+        "do," +               // Dominican Republic
+        "dz," +               // Algeria
+        "ec," +               // Ecuador
+        "ee," +               // Estonia
+        "eg," +               // Egypt
+        "er," +               // Eritrea
+        "es," +               // Spain
+        "et," +               // Ethiopia
+        "eu," +               // European Union
+        "fi," +               // Finland
+        "fj," +               // Fiji
+        "fk," +               // Falkland Islands
+        "fm," +               // Federated States of Micronesia
+        "fo," +               // Faroe Islands
+        "fr," +               // France
+        "ga," +               // Gabon
+        "gb," +               // Great Britain (United Kingdom)
+        "gd," +               // Grenada
+        "ge," +               // Georgia
+        "gf," +               // French Guiana
+        "gg," +               // Guernsey
+        "gh," +               // Ghana
+        "gi," +               // Gibraltar
+        "gl," +               // Greenland
+        "gm," +               // The Gambia
+        "gn," +               // Guinea
+        "gp," +               // Guadeloupe
+        "gq," +               // Equatorial Guinea
+        "gr," +               // Greece
+        "gs," +               // South Georgia and the South Sandwich Islands
+        "gt," +               // Guatemala
+        "gu," +               // Guam
+        "gw," +               // Guinea-Bissau
+        "gy," +               // Guyana
+        "hk," +               // Hong Kong
+        "hm," +               // Heard Island and McDonald Islands
+        "hn," +               // Honduras
+        "hr," +               // Croatia (Hrvatska)
+        "ht," +               // Haiti
+        "hu," +               // Hungary
+        "id," +               // Indonesia
+        "ie," +               // Ireland (Éire)
+        "il," +               // Israel
+        "im," +               // Isle of Man
+        "in," +               // India
+        "io," +               // British Indian Ocean Territory
+        "iq," +               // Iraq
+        "ir," +               // Iran
+        "is," +               // Iceland
+        "it," +               // Italy
+        "je," +               // Jersey
+        "jm," +               // Jamaica
+        "jo," +               // Jordan
+        "jp," +               // Japan
+        "ke," +               // Kenya
+        "kg," +               // Kyrgyzstan
+        "kh," +               // Cambodia (Khmer)
+        "ki," +               // Kiribati
+        "km," +               // Comoros
+        "kn," +               // Saint Kitts and Nevis
+        "kp," +               // North Korea
+        "kr," +               // South Korea
+        "kw," +               // Kuwait
+        "ky," +               // Cayman Islands
+        "kz," +               // Kazakhstan
+        "la," +               // Laos (currently being marketed as the official domain for Los Angeles)
+        "lb," +               // Lebanon
+        "lc," +               // Saint Lucia
+        "li," +               // Liechtenstein
+        "lk," +               // Sri Lanka
+        "lr," +               // Liberia
+        "ls," +               // Lesotho
+        "lt," +               // Lithuania
+        "lu," +               // Luxembourg
+        "lv," +               // Latvia
+        "ly," +               // Libya
+        "ma," +               // Morocco
+        "mc," +               // Monaco
+        "md," +               // Moldova
+        "me," +               // Montenegro
+        "mg," +               // Madagascar
+        "mh," +               // Marshall Islands
+        "mk," +               // Republic of Macedonia
+        "ml," +               // Mali
+        "mm," +               // Myanmar
+        "mn," +               // Mongolia
+        "mo," +               // Macau
+        "mp," +               // Northern Mariana Islands
+        "mq," +               // Martinique
+        "mr," +               // Mauritania
+        "ms," +               // Montserrat
+        "mt," +               // Malta
+        "mu," +               // Mauritius
+        "mv," +               // Maldives
+        "mw," +               // Malawi
+        "mx," +               // Mexico
+        "my," +               // Malaysia
+        "mz," +               // Mozambique
+        "na," +               // Namibia
+        "nc," +               // New Caledonia
+        "ne," +               // Niger
+        "nf," +               // Norfolk Island
+        "ng," +               // Nigeria
+        "ni," +               // Nicaragua
+        "nl," +               // Netherlands
+        "no," +               // Norway
+        "np," +               // Nepal
+        "nr," +               // Nauru
+        "nu," +               // Niue
+        "nz," +               // New Zealand
+        "om," +               // Oman
+        "pa," +               // Panama
+        "pe," +               // Peru
+        "pf," +               // French Polynesia With Clipperton Island
+        "pg," +               // Papua New Guinea
+        "ph," +               // Philippines
+        "pk," +               // Pakistan
+        "pl," +               // Poland
+        "pm," +               // Saint-Pierre and Miquelon
+        "pn," +               // Pitcairn Islands
+        "pr," +               // Puerto Rico
+        "ps," +               // Palestinian territories (PA-controlled West Bank and Gaza Strip)
+        "pt," +               // Portugal
+        "pw," +               // Palau
+        "py," +               // Paraguay
+        "qa," +               // Qatar
+        "re," +               // Réunion
+        "ro," +               // Romania
+        "rs," +               // Serbia
+        "ru," +               // Russia
+        "rw," +               // Rwanda
+        "sa," +               // Saudi Arabia
+        "sb," +               // Solomon Islands
+        "sc," +               // Seychelles
+        "sd," +               // Sudan
+        "se," +               // Sweden
+        "sg," +               // Singapore
+        "sh," +               // Saint Helena
+        "si," +               // Slovenia
+        "sj," +               // Svalbard and Jan Mayen Islands Not in use (Norwegian dependencies; see .no)
+        "sk," +               // Slovakia
+        "sl," +               // Sierra Leone
+        "sm," +               // San Marino
+        "sn," +               // Senegal
+        "so," +               // Somalia
+        "sr," +               // Suriname
+        "st," +               // São Tomé and Príncipe
+        "su," +               // Soviet Union (deprecated)
+        "sv," +               // El Salvador
+        "sx," +               // Sint Maarten
+        "sy," +               // Syria
+        "sz," +               // Swaziland
+        "tc," +               // Turks and Caicos Islands
+        "td," +               // Chad
+        "tf," +               // French Southern and Antarctic Lands
+        "tg," +               // Togo
+        "th," +               // Thailand
+        "tj," +               // Tajikistan
+        "tk," +               // Tokelau
+        "tl," +               // East Timor (deprecated old code)
+        "tm," +               // Turkmenistan
+        "tn," +               // Tunisia
+        "to," +               // Tonga
+        "tp," +               // East Timor
+        "tr," +               // Turkey
+        "tt," +               // Trinidad and Tobago
+        "tv," +               // Tuvalu
+        "tw," +               // Taiwan, Republic of China
+        "tz," +               // Tanzania
+        "ua," +               // Ukraine
+        "ug," +               // Uganda
+        "uk," +               // United Kingdom
+        "us," +               // United States of America
+        "uy," +               // Uruguay
+        "uz," +               // Uzbekistan
+        "va," +               // Vatican City State
+        "vc," +               // Saint Vincent and the Grenadines
+        "ve," +               // Venezuela
+        "vg," +               // British Virgin Islands
+        "vi," +               // U.S. Virgin Islands
+        "vn," +               // Vietnam
+        "vu," +               // Vanuatu
+        "wf," +               // Wallis and Futuna
+        "ws," +               // Samoa (formerly Western Samoa)
+        "xn--3e0b707e," + // 한국 KISA (Korea Internet &amp; Security Agency)
+        "xn--45brj9c," + // ভারত National Internet Exchange of India
+        "xn--80ao21a," + // қаз Association of IT Companies of Kazakhstan
+        "xn--90a3ac," + // срб Serbian National Internet Domain Registry (RNIDS)
+        "xn--clchc0ea0b2g2a9gcd," + // சிங்கப்பூர் Singapore Network Information Centre (SGNIC) Pte Ltd
+        "xn--d1alf," + // мкд Macedonian Academic Research Network Skopje
+        "xn--fiqs8s," + // 中国 China Internet Network Information Center
+        "xn--fiqz9s," + // 中國 China Internet Network Information Center
+        "xn--fpcrj9c3d," + // భారత్ National Internet Exchange of India
+        "xn--fzc2c9e2c," + // ලංකා LK Domain Registry
+        "xn--gecrj9c," + // ભારત National Internet Exchange of India
+        "xn--h2brj9c," + // भारत National Internet Exchange of India
+        "xn--j1amh," + // укр Ukrainian Network Information Centre (UANIC), Inc.
+        "xn--j6w193g," + // 香港 Hong Kong Internet Registration Corporation Ltd.
+        "xn--kprw13d," + // 台湾 Taiwan Network Information Center (TWNIC)
+        "xn--kpry57d," + // 台灣 Taiwan Network Information Center (TWNIC)
+        "xn--l1acc," + // мон Datacom Co.,Ltd
+        "xn--lgbbat1ad8j," + // الجزائر CERIST
+        "xn--mgb9awbf," + // عمان Telecommunications Regulatory Authority (TRA)
+        "xn--mgba3a4f16a," + // ایران Institute for Research in Fundamental Sciences (IPM)
+        "xn--mgbaam7a8h," + // امارات Telecommunications Regulatory Authority (TRA)
+        "xn--mgbayh7gpa," + // الاردن National Information Technology Center (NITC)
+        "xn--mgbbh1a71e," + // بھارت National Internet Exchange of India
+        "xn--mgbc0a9azcg," + // المغرب Agence Nationale de Réglementation des Télécommunications (ANRT)
+        "xn--mgberp4a5d4ar," + // السعودية Communications and Information Technology Commission
+        "xn--mgbx4cd0ab," + // مليسيا MYNIC Berhad
+        "xn--node," + // გე Information Technologies Development Center (ITDC)
+        "xn--o3cw4h," + // ไทย Thai Network Information Center Foundation
+        "xn--ogbpf8fl," + // سورية National Agency for Network Services (NANS)
+        "xn--p1ai," + // рф Coordination Center for TLD RU
+        "xn--pgbs0dh," + // تونس Agence Tunisienne d&#39;Internet
+        "xn--s9brj9c," + // ਭਾਰਤ National Internet Exchange of India
+        "xn--wgbh1c," + // مصر National Telecommunication Regulatory Authority - NTRA
+        "xn--wgbl6a," + // قطر Communications Regulatory Authority
+        "xn--xkc2al3hye2a," + // இலங்கை LK Domain Registry
+        "xn--xkc2dl3a5ee0h," + // இந்தியா National Internet Exchange of India
+        "xn--yfro4i67o," + // 新加坡 Singapore Network Information Centre (SGNIC) Pte Ltd
+        "xn--ygbi2ammx," + // فلسطين Ministry of Telecom &amp; Information Technology (MTIT)
+        "ye," +               // Yemen
+        "yt," +               // Mayotte
+        "za," +               // South Africa
+        "zm," +               // Zambia
+        "zw";                 // Zimbabwe
 
-    // WARNING: this array MUST be sorted, others it cannot be searched reliably using binary search
-    private static final String[] LOCAL_TLDS = new String[] {
-       "localdomain",         // Also widely used as localhost.localdomain
-       "localhost",           // RFC2606 defined
-    };
+    // One lower case TLD per line, loaded into TLD_INDEX
+    private static final String LOCAL_TLDS =
+        "localdomain," +       // Also widely used as localhost.localdomain
+        "localhost";           // RFC2606 defined
+
+    /**
+     * All of the above TLDs, packed into a single case-insensitive trie.
+     */
+    private static final TldIndex TLD_INDEX = new TldIndex(
+            new String[] {INFRASTRUCTURE_TLDS, GENERIC_TLDS, COUNTRY_CODE_TLDS, LOCAL_TLDS},
+            new int[] {INFRASTRUCTURE_TLD, GENERIC_TLD, COUNTRY_CODE_TLD, LOCAL_TLD});
 
     /**
      * Converts potentially Unicode input to punycode.
@@ -1145,7 +1252,11 @@ public class DomainValidator implements Serializable {
         if (input == null) {
             return true;
         }
-        for(int i=0; i < input.length(); i++) {
+        return isOnlyASCII(input, 0, input.length());
+    }
+
+    private static boolean isOnlyASCII(String input, int start, int end) {
+        for(int i=start; i < end; i++) {
             if (input.charAt(i) > 0x7F) {
                 return false;
             }
@@ -1153,4 +1264,127 @@ public class DomainValidator implements Serializable {
         return true;
     }
 
+    // ================= Packed TLD index ===============
+
+    /*
+     * A trie of lower case TLDs packed into a single byte array. Each node is laid out as
+     * its TLD types (0 if no TLD ends here), the number of children, the sorted child
+     * characters and then the 2 byte offset of each child node.
+     */
+    private static final class TldIndex {
+        private final byte[] trie;
+
+        TldIndex(String[] tldLists, int[] types) {
+            TreeMap tldTypes = new TreeMap();
+            int chars = 0;
+            for (int i = 0; i < tldLists.length; i++) {
+                String[] tlds = tldLists[i].split(",");
+                for (int j = 0; j < tlds.length; j++) {
+                    Integer tldType = (Integer) tldTypes.get(tlds[j]);
+                    int type = tldType != null ? tldType.intValue() | types[i] : types[i];
+                    tldTypes.put(tlds[j], Integer.valueOf(type));
+                    chars += tlds[j].length();
+                }
+            }
+
+            String[] sortedTlds = (String[]) tldTypes.keySet().toArray(new String[tldTypes.size()]);
+            int[] sortedTypes = new int[sortedTlds.length];
+            for (int i = 0; i < sortedTlds.length; i++) {
+                sortedTypes[i] = ((Integer) tldTypes.get(sortedTlds[i])).intValue();
+            }
+
+            // At most one node per character, plus the root
+            byte[] buffer = new byte[(chars + 1) * 5];
+            int size = write(sortedTlds, sortedTypes, 0, sortedTlds.length, 0, buffer, 0);
+            trie = new byte[size];
+            System.arraycopy(buffer, 0, trie, 0, size);
+        }
+
+        /*
+         * Returns the types of the TLD between start and end, 0 if there is none.
+         */
+        int lookup(String value, int start, int end) {
+            int node = 0;
+            for (int i = start; i < end; i++) {
+                char c = value.charAt(i);
+                if (c >= 'A' && c <= 'Z') {
+                    c = (char) (c + ('a' - 'A'));
+                } else if (c > 0x7F) {
+                    return 0;
+                }
+
+                int count = trie[node + 1] & 0xFF;
+                int labels = node + 2;
+                int low = 0;
+                int high = count - 1;
+                int child = -1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    int label = trie[labels + mid];
+                    if (label < c) {
+                        low = mid + 1;
+                    } else if (label > c) {
+                        high = mid - 1;
+                    } else {
+                        child = mid;
+                        break;
+                    }
+                }
+                if (child == -1) {
+                    return 0;
+                }
+
+                int offset = labels + count + 2 * child;
+                node = ((trie[offset] & 0xFF) << 8) | (trie[offset + 1] & 0xFF);
+            }
+            return trie[node];
+        }
+
+        /*
+         * Writes the node shared by tlds[low, high), which have a common prefix of
+         * length depth, and all of its descendants at pos. Returns the end position.
+         */
+        private static int write(String[] tlds, int[] types, int low, int high, int depth,
+                byte[] buffer, int pos) {
+            int type = 0;
+            if (tlds[low].length() == depth) {
+                type = types[low];
+                low++;
+            }
+
+            int count = 0;
+            for (int i = low; i < high; count++) {
+                i = endOfGroup(tlds, i, high, depth);
+            }
+
+            buffer[pos] = (byte) type;
+            buffer[pos + 1] = (byte) count;
+            int labels = pos + 2;
+            int offsets = labels + count;
+            int next = offsets + 2 * count;
+            int child = 0;
+            for (int i = low; i < high; child++) {
+                if (next > 0xFFFF) {
+                    throw new IllegalStateException("TLD index is too large");
+                }
+                int groupEnd = endOfGroup(tlds, i, high, depth);
+                buffer[labels + child] = (byte) tlds[i].charAt(depth);
+                buffer[offsets + 2 * child] = (byte) (next >>> 8);
+                buffer[offsets + 2 * child + 1] = (byte) next;
+                next = write(tlds, types, i, groupEnd, depth + 1, buffer, next);
+                i = groupEnd;
+            }
+            return next;
+        }
+
+        private static int endOfGroup(String[] tlds, int start, int end, int depth) {
+            char c = tlds[start].charAt(depth);
+            int i = start + 1;
+            while (i < end && tlds[i].charAt(depth) == c) {
+                i++;
+            }
+            return i;
+        }
+    }
+
 }
@@ -17,8 +17,6 @@
 package commons.validator.routines;
 
 import java.io.Serializable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <p>Perform email validations.</p>
@@ -29,6 +27,12 @@ import java.util.regex.Pattern;
  * <p>
  * This implementation is not guaranteed to catch all possible errors in an email address.
  * </p>.
+ * <p>
+ * The address is checked by a single scan in linear time, without regular
+ * expressions. A user name is made of words separated by dots, where a word is
+ * either a quoted string or a run of characters other than whitespace, control
+ * characters and <code>()&lt;&gt;@,;:\".[]</code>.
+ * </p>
  *
  * @version $Revision$
  * @since Validator 1.4
@@ -37,18 +41,7 @@ public class EmailValidator implements Serializable {
 
     private static final long serialVersionUID = 1705927040799295880L;
 
-    private static final String SPECIAL_CHARS = "\\p{Cntrl}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
-    private static final String VALID_CHARS = "[^\\s" + SPECIAL_CHARS + "]";
-    private static final String QUOTED_USER = "(\"[^\"]*\")";
-    private static final String WORD = "((" + VALID_CHARS + "|')+|" + QUOTED_USER + ")";
-
-    private static final String EMAIL_REGEX = "^\\s*?(.+)@(.+?)\\s*$";
-    private static final String IP_DOMAIN_REGEX = "^\\[(.*)\\]$";
-    private static final String USER_REGEX = "^\\s*" + WORD + "(\\." + WORD + ")*$";
-
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
-    private static final Pattern IP_DOMAIN_PATTERN = Pattern.compile(IP_DOMAIN_REGEX);
-    private static final Pattern USER_PATTERN = Pattern.compile(USER_REGEX);
+    private static final String SPECIAL_CHARS = "()<>@,;:\\\".[]";
 
     private final boolean allowLocal;
 
@@ -113,17 +106,63 @@ public class EmailValidator implements Serializable {
             return false;
         }
 
-        // Check the whole email address structure
-        Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
-        if (!emailMatcher.matches()) {
+        // Split the address at the last '@' that leaves a user name and a domain
+        // without line terminators, leading and trailing whitespace is dropped
+        int length = email.length();
+        int userStart = 0;
+        int leadingEnd = 0;
+        while (leadingEnd < length && isWhitespace(email.charAt(leadingEnd))) {
+            if (isLineTerminator(email.charAt(leadingEnd))) {
+                userStart = leadingEnd + 1;
+            }
+            leadingEnd++;
+        }
+        int userLimit = leadingEnd;
+        while (userLimit < length && !isLineTerminator(email.charAt(userLimit))) {
+            userLimit++;
+        }
+        int trailingStart = length;
+        while (trailingStart > 0 && isWhitespace(email.charAt(trailingStart - 1))) {
+            trailingStart--;
+        }
+        int lastLineTerminator = -1;
+        for (int i = trailingStart - 1; i >= 0; i--) {
+            if (isLineTerminator(email.charAt(i))) {
+                lastLineTerminator = i;
+                break;
+            }
+        }
+
+        int at = userLimit - 1;
+        int domainEnd = -1;
+        for (; at > userStart; at--) {
+            if (email.charAt(at) != '@' || at + 1 == length) {
+                continue;
+            }
+            // the domain has at least one character, even if it is whitespace
+            domainEnd = Math.max(at + 2, trailingStart);
+            boolean lineTerminated = domainEnd == trailingStart
+                    ? lastLineTerminator > at
+                    : isLineTerminator(email.charAt(at + 1));
+            if (!lineTerminated) {
+                break;
+            }
+        }
+        if (at <= userStart) {
             return false;
         }
 
-        if (!isValidUser(emailMatcher.group(1))) {
+        if (getClass() != EmailValidator.class) {
+            // Component checks may have been overridden
+            return isValidUser(email.substring(userStart, at))
+                    && isValidDomain(email.substring(at + 1, domainEnd));
+        }
+
+        if (!isValidUser(email, userStart, at)) {
             return false;
         }
 
-        if (!isValidDomain(emailMatcher.group(2))) {
+        if (!isValidDomain(email, at + 1, domainEnd)) {
             return false;
         }
 
@@ -137,29 +176,115 @@ public class EmailValidator implements Serializable {
      * @return true if the email address's domain is valid.
      */
     protected boolean isValidDomain(String domain) {
-        // see if domain is an IP address in brackets
-        Matcher ipDomainMatcher = IP_DOMAIN_PATTERN.matcher(domain);
+        return isValidDomain(domain, 0, domain.length());
+    }
+
+    /**
+     * Returns true if the user component of an email address is valid.
+     *
+     * @param user being validated
+     * @return true if the user name is valid.
+     */
+    protected boolean isValidUser(String user) {
+        return isValidUser(user, 0, user.length());
+    }
 
-        if (ipDomainMatcher.matches()) {
+    /*
+     * Checks the domain between start and end, a substring is only created
+     * for domains that need an IDN conversion.
+     */
+    private boolean isValidDomain(String value, int start, int end) {
+        // see if domain is an IP address in brackets
+        if (end - start >= 2 && value.charAt(start) == '['
+                && value.charAt(end - 1) == ']') {
             InetAddressValidator inetAddressValidator =
                     InetAddressValidator.getInstance();
-            return inetAddressValidator.isValid(ipDomainMatcher.group(1));
+            return inetAddressValidator.isValid(value, start + 1, end - 1);
         }
         // Domain is symbolic name
         DomainValidator domainValidator =
                 DomainValidator.getInstance(allowLocal);
-        return domainValidator.isValid(domain) ||
-                domainValidator.isValidTld(domain);
+        if (!isOnlyASCII(value, start, end)) {
+            String domain = value.substring(start, end);
+            return domainValidator.isValid(domain) ||
+                    domainValidator.isValidTld(domain);
+        }
+        return domainValidator.isValid(value, start, end) ||
+                domainValidator.isValidTld(value, start, end);
     }
 
-    /**
-     * Returns true if the user component of an email address is valid.
-     *
-     * @param user being validated
-     * @return true if the user name is valid.
+    /*
+     * Checks that the user name between start and end is optional leading
+     * whitespace followed by words separated by dots.
      */
-    protected boolean isValidUser(String user) {
-        return USER_PATTERN.matcher(user).matches();
+    private static boolean isValidUser(String value, int start, int end) {
+        int i = start;
+        while (i < end && isWhitespace(value.charAt(i))) {
+            i++;
+        }
+        while (true) {
+            if (i == end) {
+                return false;
+            }
+            if (value.charAt(i) == '"') {
+                // quoted word, anything but a quote up to the closing quote
+                i++;
+                while (i < end && value.charAt(i) != '"') {
+                    i++;
+                }
+                if (i == end) {
+                    return false;
+                }
+                i++;
+            } else {
+                int wordStart = i;
+                while (i < end && isWordChar(value.charAt(i))) {
+                    i++;
+                }
+                if (i == wordStart) {
+                    return false;
+                }
+            }
+            if (i == end) {
+                return true;
+            }
+            if (value.charAt(i) != '.') {
+                return false;
+            }
+            i++;
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        if (c > 0x7F) {
+            // not whitespace or a control character
+            return c > 0x9F && !isWhitespace(c);
+        }
+        if (c == '\'') {
+            return true;
+        }
+        return c > ' ' && c != 0x7F && SPECIAL_CHARS.indexOf(c) == -1;
+    }
+
+    // Whitespace as defined by \s in regular expressions, which are Unicode aware on Android
+    private static boolean isWhitespace(char c) {
+        if (c > 0x7F) {
+            return c == '\u0085' || Character.isSpaceChar(c);
+        }
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isOnlyASCII(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package commons.validator.routines;
+
+import java.text.Format;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>A bounded pool of <code>Format</code>s, keyed by pattern and
+ *    <code>Locale</code>.</p>
+ *
+ * <p>Creating a <code>Format</code> is expensive and a <code>Format</code>
+ *    is not thread safe, so each one is lent to a single caller at a time
+ *    and is returned to the pool when the caller is done with it. Up to
+ *    <code>maxIdleFormats</code> idle formats are kept for each key and the
+ *    least recently used keys are dropped when there are more than
+ *    <code>maxKeys</code> of them.</p>
+ *
+ * @version $Revision$
+ */
+final class FormatPool {
+
+    private final Map idleFormats;
+    private final int maxIdleFormats;
+
+    /**
+     * Construct an empty pool.
+     *
+     * @param maxKeys The maximum number of patterns and locales to keep
+     *        formats for.
+     * @param maxIdleFormats The maximum number of idle formats to keep for
+     *        each pattern and locale.
+     */
+    FormatPool(final int maxKeys, final int maxIdleFormats) {
+        this.maxIdleFormats = maxIdleFormats;
+        this.idleFormats = new LinkedHashMap(maxKeys, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            protected boolean removeEldestEntry(Map.Entry eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    /**
+     * <p>Take an idle <code>Format</code> out of the pool.</p>
+     *
+     * @param pattern The pattern of the format, may be <code>null</code>.
+     * @param locale The locale of the format.
+     * @return An idle <code>Format</code> or <code>null</code> if there
+     *         is none, the caller should create one then.
+     */
+    synchronized Format acquire(String pattern, Locale locale) {
+        List formats = (List)idleFormats.get(new Key(pattern, locale));
+        if (formats == null || formats.isEmpty()) {
+            return null;
+        }
+        return (Format)formats.remove(formats.size() - 1);
+    }
+
+    /**
+     * <p>Give a <code>Format</code> back to the pool, it is discarded if
+     *    there are enough idle formats for its pattern and locale.</p>
+     *
+     * @param pattern The pattern of the format, may be <code>null</code>.
+     * @param locale The locale of the format.
+     * @param format The <code>Format</code>, which must not be used by the
+     *        caller anymore.
+     */
+    synchronized void release(String pattern, Locale locale, Format format) {
+        Key key = new Key(pattern, locale);
+        List formats = (List)idleFormats.get(key);
+        if (formats == null) {
+            formats = new ArrayList(maxIdleFormats);
+            idleFormats.put(key, formats);
+        }
+        if (formats.size() < maxIdleFormats) {
+            formats.add(format);
+        }
+    }
+
+    /**
+     * Pattern and locale pair.
+     */
+    private static final class Key {
+        private final String pattern;
+        private final Locale locale;
+
+        Key(String pattern, Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            return locale.equals(other.locale)
+                    && (pattern == null ? other.pattern == null : pattern.equals(other.pattern));
+        }
+
+        public int hashCode() {
+            return 31 * locale.hashCode() + (pattern == null ? 0 : pattern.hashCode());
+        }
+    }
+}
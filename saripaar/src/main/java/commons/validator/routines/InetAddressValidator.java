@@ -18,9 +18,6 @@
 package commons.validator.routines;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * <p><b>InetAddress</b> validation and conversion routines (<code>java.net.InetAddress</code>).</p>
@@ -31,6 +28,11 @@ import java.util.List;
  * This class is a Singleton; you can retrieve the instance via the {@link #getInstance()} method.
  * </p>
  *
+ * <p>
+ * Addresses are checked by index based scanners in a single pass, without
+ * regular expressions or intermediate strings.
+ * </p>
+ *
  * @version $Revision$
  * @since Validator 1.4
  */
@@ -38,17 +40,21 @@ public class InetAddressValidator implements Serializable {
 
     private static final long serialVersionUID = -919201640201914789L;
 
-    private static final String IPV4_REGEX =
-            "^(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})$";
+    private static final int IPV4_MAX_OCTET_VALUE = 255;
+
+    private static final int IPV6_MAX_HEX_GROUPS = 8;
+
+    private static final int IPV6_MAX_HEX_DIGITS_PER_GROUP = 4;
+
+    private static final int IPV4_MAX_PREFIX_LENGTH = 32;
+
+    private static final int IPV6_MAX_PREFIX_LENGTH = 128;
 
     /**
      * Singleton instance of this class.
      */
     private static final InetAddressValidator VALIDATOR = new InetAddressValidator();
 
-    /** IPv4 RegexValidator */
-    private final RegexValidator ipv4Validator = new RegexValidator(IPV4_REGEX);
-
     /**
      * Returns the singleton instance of this validator.
      * @return the singleton instance of this validator
@@ -66,45 +72,52 @@ public class InetAddressValidator implements Serializable {
         return isValidInet4Address(inetAddress) || isValidInet6Address(inetAddress);
     }
 
+    /*
+     * Same as isValid(String) for the address between start and end,
+     * without creating substrings.
+     */
+    // Needed by UrlValidator and EmailValidator
+    boolean isValid(String value, int start, int end) {
+        return isValidInet4Address(value, start, end) || isValidInet6Address(value, start, end);
+    }
+
+    /**
+     * Checks if the specified string is a valid IP address followed by a
+     * CIDR prefix length, like <code>192.168.0.0/24</code> or
+     * <code>2001:db8::/32</code>. The prefix length may be at most 32 for
+     * IPv4 addresses and 128 for IPv6 addresses.
+     * @param cidrAddress the string to validate
+     * @return true if the string validates as an IP address with a prefix length
+     */
+    public boolean isValidCidrAddress(String cidrAddress) {
+        if (cidrAddress == null) {
+            return false;
+        }
+        int slash = cidrAddress.lastIndexOf('/');
+        if (slash == -1) {
+            return false;
+        }
+        int prefixLength = parsePrefixLength(cidrAddress, slash + 1, cidrAddress.length());
+        if (prefixLength == -1) {
+            return false;
+        }
+        if (isValidInet4Address(cidrAddress, 0, slash)) {
+            return prefixLength <= IPV4_MAX_PREFIX_LENGTH;
+        }
+        return prefixLength <= IPV6_MAX_PREFIX_LENGTH
+                && isValidInet6Address(cidrAddress, 0, slash);
+    }
+
     /**
      * Validates an IPv4 address. Returns true if valid.
      * @param inet4Address the IPv4 address to validate
      * @return true if the argument contains a valid IPv4 address
      */
     public boolean isValidInet4Address(String inet4Address) {
-        // verify that address conforms to generic IPv4 format
-        String[] groups = ipv4Validator.match(inet4Address);
-
-        if (groups == null) {
+        if (inet4Address == null) {
             return false;
         }
-
-        // verify that address subgroups are legal
-        for (int i = 0; i <= 3; i++) {
-            String ipSegment = groups[i];
-            if (ipSegment == null || ipSegment.length() == 0) {
-                return false;
-            }
-
-            int iIpSegment = 0;
-
-            try {
-                iIpSegment = Integer.parseInt(ipSegment);
-            } catch(NumberFormatException e) {
-                return false;
-            }
-
-            if (iIpSegment > 255) {
-                return false;
-            }
-
-            if (ipSegment.length() > 1 && ipSegment.startsWith("0")) {
-                return false;
-            }
-
-        }
-
-        return true;
+        return isValidInet4Address(inet4Address, 0, inet4Address.length());
     }
 
     /**
@@ -115,71 +128,142 @@ public class InetAddressValidator implements Serializable {
      * @since 1.4.1
      */
     public boolean isValidInet6Address(String inet6Address) {
-        boolean containsCompressedZeroes = inet6Address.indexOf("::") > -1; // contains is Java 1.5
-        if (containsCompressedZeroes && (inet6Address.indexOf("::") != inet6Address.lastIndexOf("::"))) {
-            return false;
-        }
-        if ((inet6Address.startsWith(":") && !inet6Address.startsWith("::"))
-                || (inet6Address.endsWith(":") && !inet6Address.endsWith("::"))) {
+        if (inet6Address == null) {
             return false;
         }
-        Object[] octets = inet6Address.split(":");
-        if (containsCompressedZeroes) {
-            List octetList = new ArrayList(Arrays.asList(octets));
-            if (inet6Address.endsWith("::")) {
-                // String.split() drops ending empty segments
-                octetList.add("");
-            } else if (inet6Address.startsWith("::") && !octetList.isEmpty()) {
-                octetList.remove(0);
+        return isValidInet6Address(inet6Address, 0, inet6Address.length());
+    }
+
+    /*
+     * Checks for four dot separated decimal octets between start and end,
+     * each one at most 255 and without leading zeroes.
+     */
+    private static boolean isValidInet4Address(String value, int start, int end) {
+        int i = start;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (i == end || value.charAt(i) != '.') {
+                    return false;
+                }
+                i++;
+            }
+            int octetStart = i;
+            int octetValue = 0;
+            while (i < end && i - octetStart < 3 && isDigit(value.charAt(i))) {
+                octetValue = octetValue * 10 + (value.charAt(i) - '0');
+                i++;
+            }
+            int digits = i - octetStart;
+            if (digits == 0 || octetValue > IPV4_MAX_OCTET_VALUE) {
+                return false;
+            }
+            if (digits > 1 && value.charAt(octetStart) == '0') {
+                return false;
             }
-            octets = octetList.toArray();
         }
-        if (octets.length > 8) {
+        return i == end;
+    }
+
+    /*
+     * Checks for up to eight colon separated groups of one to four hex digits
+     * between start and end. A single "::" stands for one or more zero groups
+     * and the last group may be an embedded IPv4 address, which takes the
+     * place of two groups.
+     */
+    private static boolean isValidInet6Address(String value, int start, int end) {
+        if (start == end) {
             return false;
         }
-        int validOctets = 0;
-        int emptyOctets = 0;
-        for (int index = 0; index < octets.length; index++) {
-            String octet = (String) octets[index];
-            if (octet.length() == 0) {
-                emptyOctets++;
-                if (emptyOctets > 1) {
-                    return false;
-                }
-            } else {
-                emptyOctets = 0;
-                if (octet.indexOf(".") > -1) { // contains is Java 1.5+
-                    if (!inet6Address.endsWith(octet)) {
-                        return false;
-                    }
-                    if (index > octets.length - 1 || index > 6) {
-                        // IPV4 occupies last two octets
-                        return false;
-                    }
-                    if (!isValidInet4Address(octet)) {
-                        return false;
-                    }
-                    validOctets += 2;
-                    continue;
-                }
-                if (octet.length() > 4) {
-                    return false;
+        // groups counts "::" as a single group, as well as an embedded IPv4 address
+        int groups = 0;
+        boolean compressed = false;
+        int i = start;
+        if (value.charAt(i) == ':') {
+            if (i + 1 == end || value.charAt(i + 1) != ':') {
+                return false;
+            }
+            compressed = true;
+            groups++;
+            i += 2;
+        }
+        while (i < end) {
+            int groupStart = i;
+            boolean dotted = false;
+            while (i < end && value.charAt(i) != ':') {
+                if (value.charAt(i) == '.') {
+                    dotted = true;
                 }
-                int octetInt = 0;
-                try {
-                    octetInt = Integer.valueOf(octet, 16).intValue();
-                } catch (NumberFormatException e) {
+                i++;
+            }
+            if (dotted) {
+                // IPv4 occupies the last two groups
+                if (i != end || groups > IPV6_MAX_HEX_GROUPS - 2
+                        || !isValidInet4Address(value, groupStart, end)) {
                     return false;
                 }
-                if (octetInt < 0 || octetInt > 0xffff) {
+                return compressed || groups == IPV6_MAX_HEX_GROUPS - 2;
+            }
+            if (!isValidHexGroup(value, groupStart, i)) {
+                return false;
+            }
+            groups++;
+            if (groups > IPV6_MAX_HEX_GROUPS) {
+                return false;
+            }
+            if (i == end) {
+                break;
+            }
+            // skip the separator
+            i++;
+            if (i < end && value.charAt(i) == ':') {
+                if (compressed) {
                     return false;
                 }
+                compressed = true;
+                groups++;
+                i++;
+            } else if (i == end) {
+                return false;
             }
-            validOctets++;
         }
-        if (validOctets < 8 && !containsCompressedZeroes) {
+        return groups <= IPV6_MAX_HEX_GROUPS && (compressed || groups == IPV6_MAX_HEX_GROUPS);
+    }
+
+    private static boolean isValidHexGroup(String value, int start, int end) {
+        int digits = end - start;
+        if (digits == 0 || digits > IPV6_MAX_HEX_DIGITS_PER_GROUP) {
             return false;
         }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c) && !(c >= 'a' && c <= 'f') && !(c >= 'A' && c <= 'F')) {
+                return false;
+            }
+        }
         return true;
     }
+
+    /*
+     * Parses a prefix length of one to three decimal digits without leading
+     * zeroes, returns -1 if it is malformed.
+     */
+    private static int parsePrefixLength(String value, int start, int end) {
+        int digits = end - start;
+        if (digits == 0 || digits > 3 || (digits > 1 && value.charAt(start) == '0')) {
+            return -1;
+        }
+        int prefixLength = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            prefixLength = prefixLength * 10 + (c - '0');
+        }
+        return prefixLength;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
@@ -17,12 +17,7 @@
 package commons.validator.routines;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Locale;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <p><b>URL Validation</b> routines.</p>
@@ -101,62 +96,26 @@ public class UrlValidator implements Serializable {
     public static final long ALLOW_LOCAL_URLS = 1 << 3;
 
     /**
-     * This expression derived/taken from the BNF for URI (RFC2396).
+     * The URL is split according to the BNF for URI (RFC2396), which is equivalent to
+     * <code>^(([^:/?#]+):)?(//([^/?#]*))?([^?#]*)(\?([^#]*))?(#(.*))?</code>, by scanning it
+     * once. The components are checked in place, without creating substrings, unless a
+     * subclass may have overridden one of the component checks.
      */
-    private static final String URL_REGEX =
-            "^(([^:/?#]+):)?(//([^/?#]*))?([^?#]*)(\\?([^#]*))?(#(.*))?";
-    //        12            3  4          5       6   7        8 9
-    private static final Pattern URL_PATTERN = Pattern.compile(URL_REGEX);
+    private static final String SCHEME_END_CHARS = ":/?#";
 
-    /**
-     * Schema/Protocol (ie. http:, ftp:, file:, etc).
-     */
-    private static final int PARSE_URL_SCHEME = 2;
-
-    /**
-     * Includes hostname/ip and port number.
-     */
-    private static final int PARSE_URL_AUTHORITY = 4;
-
-    private static final int PARSE_URL_PATH = 5;
-
-    private static final int PARSE_URL_QUERY = 7;
+    private static final String AUTHORITY_END_CHARS = "/?#";
 
-    private static final int PARSE_URL_FRAGMENT = 9;
+    private static final String PATH_END_CHARS = "?#";
 
     /**
-     * Protocol scheme (e.g. http, ftp, https).
+     * Characters allowed in a path, besides letters and digits.
      */
-    private static final String SCHEME_REGEX = "^\\p{Alpha}[\\p{Alnum}\\+\\-\\.]*";
-    private static final Pattern SCHEME_PATTERN = Pattern.compile(SCHEME_REGEX);
-
-    // Drop numeric, and  "+-." for now
-    // TODO does not allow for optional userinfo. 
-    // Validation of character set is done by isValidAuthority
-    private static final String AUTHORITY_CHARS_REGEX = "\\p{Alnum}\\-\\.";
-
-    private static final String AUTHORITY_REGEX =
-            "^([" + AUTHORITY_CHARS_REGEX + "]*)(:\\d*)?(.*)?";
-    //        1                                 2       3
-    private static final Pattern AUTHORITY_PATTERN = Pattern.compile(AUTHORITY_REGEX);
-
-    private static final int PARSE_AUTHORITY_HOST_IP = 1;
-
-    private static final int PARSE_AUTHORITY_PORT = 2;
+    private static final String PATH_CHARS = "-_:@&?=+,.!/~*'%$;()";
 
     /**
-     * Should always be empty. The code currently allows spaces.
+     * Maximum number of digits in a port.
      */
-    private static final int PARSE_AUTHORITY_EXTRA = 3;
-
-    private static final String PATH_REGEX = "^(/[-\\w:@&?=+,.!/~*'%$_;\\(\\)]*)?$";
-    private static final Pattern PATH_PATTERN = Pattern.compile(PATH_REGEX);
-
-    private static final String QUERY_REGEX = "^(.*)$";
-    private static final Pattern QUERY_PATTERN = Pattern.compile(QUERY_REGEX);
-
-    private static final String PORT_REGEX = "^:(\\d{1,5})$";
-    private static final Pattern PORT_PATTERN = Pattern.compile(PORT_REGEX);
+    private static final int MAX_PORT_DIGITS = 5;
 
     /**
      * Holds the set of current validation options.
@@ -166,7 +125,7 @@ public class UrlValidator implements Serializable {
     /**
      * The set of schemes that are allowed to be in a URL.
      */
-    private final Set allowedSchemes; // Must be lower-case
+    private final String[] allowedSchemes; // Must be lower-case
 
     /**
      * Regular expressions used to manually validate authorities if IANA
@@ -258,14 +217,14 @@ public class UrlValidator implements Serializable {
         this.options = options;
 
         if (isOn(ALLOW_ALL_SCHEMES)) {
-            allowedSchemes = Collections.EMPTY_SET;
+            allowedSchemes = new String[0];
         } else {
             if (schemes == null) {
                 schemes = DEFAULT_SCHEMES;
             }
-            allowedSchemes = new HashSet(schemes.length);
+            allowedSchemes = new String[schemes.length];
             for(int i=0; i < schemes.length; i++) {
-                allowedSchemes.add(schemes[i].toLowerCase(Locale.ENGLISH));
+                allowedSchemes[i] = schemes[i].toLowerCase(Locale.ENGLISH);
             }
         }
 
@@ -287,36 +246,72 @@ public class UrlValidator implements Serializable {
             return false;
         }
 
-        // Check the whole url address structure
-        Matcher urlMatcher = URL_PATTERN.matcher(value);
-        if (!urlMatcher.matches()) {
+        int length = value.length();
+        int schemeEnd = indexOfAny(value, 0, length, SCHEME_END_CHARS);
+        if (schemeEnd < 1 || schemeEnd == length || value.charAt(schemeEnd) != ':') {
+            schemeEnd = -1;
+        }
+
+        int authorityStart = schemeEnd + 1;
+        int authorityEnd = -1;
+        if (value.startsWith("//", authorityStart)) {
+            authorityStart += 2;
+            authorityEnd = indexOfAny(value, authorityStart, length, AUTHORITY_END_CHARS);
+        } else {
+            authorityEnd = authorityStart;
+            authorityStart = -1;
+        }
+
+        int pathStart = authorityEnd;
+        int pathEnd = indexOfAny(value, pathStart, length, PATH_END_CHARS);
+
+        int queryStart = -1;
+        int queryEnd = pathEnd;
+        if (pathEnd < length && value.charAt(pathEnd) == '?') {
+            queryStart = pathEnd + 1;
+            queryEnd = indexOfAny(value, queryStart, length, "#");
+        }
+
+        int fragmentStart = queryEnd < length ? queryEnd + 1 : -1;
+
+        // The fragment must match ".*", the whole url address is malformed otherwise
+        if (fragmentStart != -1 && containsLineTerminator(value, fragmentStart, length)) {
             return false;
         }
 
-        String scheme = urlMatcher.group(PARSE_URL_SCHEME);
-        if (!isValidScheme(scheme)) {
+        if (getClass() != UrlValidator.class) {
+            // Component checks may have been overridden
+            return isValidComponents(
+                    schemeEnd != -1 ? value.substring(0, schemeEnd) : null,
+                    authorityStart != -1 ? value.substring(authorityStart, authorityEnd) : null,
+                    value.substring(pathStart, pathEnd),
+                    queryStart != -1 ? value.substring(queryStart, queryEnd) : null,
+                    fragmentStart != -1 ? value.substring(fragmentStart) : null);
+        }
+
+        if (schemeEnd == -1 || !isValidScheme(value, 0, schemeEnd)) {
             return false;
         }
 
-        String authority = urlMatcher.group(PARSE_URL_AUTHORITY);
-        if ("file".equals(scheme) && "".equals(authority)) {
+        boolean fileScheme = schemeEnd == 4 && value.startsWith("file");
+        if (fileScheme && authorityStart == authorityEnd) {
             // Special case - file: allows an empty authority
         } else {
             // Validate the authority
-            if (!isValidAuthority(authority)) {
+            if (authorityStart == -1 || !isValidAuthority(value, authorityStart, authorityEnd)) {
                 return false;
             }
         }
 
-        if (!isValidPath(urlMatcher.group(PARSE_URL_PATH))) {
+        if (!isValidPath(value, pathStart, pathEnd)) {
             return false;
         }
 
-        if (!isValidQuery(urlMatcher.group(PARSE_URL_QUERY))) {
+        if (queryStart != -1 && containsLineTerminator(value, queryStart, queryEnd)) {
             return false;
         }
 
-        if (!isValidFragment(urlMatcher.group(PARSE_URL_FRAGMENT))) {
+        if (fragmentStart != -1 && isOn(NO_FRAGMENTS)) {
             return false;
         }
 
@@ -337,16 +332,7 @@ public class UrlValidator implements Serializable {
             return false;
         }
 
-        // TODO could be removed if external schemes were checked in the ctor before being stored
-        if (!SCHEME_PATTERN.matcher(scheme).matches()) {
-            return false;
-        }
-
-        if (isOff(ALLOW_ALL_SCHEMES) && !allowedSchemes.contains(scheme.toLowerCase(Locale.ENGLISH))) {
-            return false;
-        }
-
-        return true;
+        return isValidScheme(scheme, 0, scheme.length());
     }
 
     /**
@@ -354,8 +340,8 @@ public class UrlValidator implements Serializable {
      * of hostname and port.  A <code>null</code> authority value is considered invalid.
      * Note: this implementation validates the domain unless a RegexValidator was provided.
      * If a RegexValidator was supplied and it matches, then the authority is regarded
-     * as valid with no further checks, otherwise the method checks against the
-     * AUTHORITY_PATTERN and the DomainValidator (ALLOW_LOCAL_URLS)
+     * as valid with no further checks, otherwise the method checks the host, port and
+     * any trailing whitespace and the DomainValidator (ALLOW_LOCAL_URLS)
      * @param authority Authority value to validate, alllows IDN
      * @return true if authority (hostname and port) is valid.
      */
@@ -364,43 +350,7 @@ public class UrlValidator implements Serializable {
             return false;
         }
 
-        // check manual authority validation if specified
-        if (authorityValidator != null && authorityValidator.isValid(authority)) {
-            return true;
-        }
-        // convert to ASCII if possible
-        final String authorityASCII = DomainValidator.unicodeToASCII(authority);
-
-        Matcher authorityMatcher = AUTHORITY_PATTERN.matcher(authorityASCII);
-        if (!authorityMatcher.matches()) {
-            return false;
-        }
-
-        String hostLocation = authorityMatcher.group(PARSE_AUTHORITY_HOST_IP);
-        // check if authority is hostname or IP address:
-        // try a hostname first since that's much more likely
-        DomainValidator domainValidator = DomainValidator.getInstance(isOn(ALLOW_LOCAL_URLS));
-        if (!domainValidator.isValid(hostLocation)) {
-            // try an IP address
-            InetAddressValidator inetAddressValidator =
-                InetAddressValidator.getInstance();
-            if (!inetAddressValidator.isValid(hostLocation)) {
-                // isn't either one, so the URL is invalid
-                return false;
-            }
-        }
-
-        String port = authorityMatcher.group(PARSE_AUTHORITY_PORT);
-        if (port != null && !PORT_PATTERN.matcher(port).matches()) {
-            return false;
-        }
-
-        String extra = authorityMatcher.group(PARSE_AUTHORITY_EXTRA);
-        if (extra != null && extra.trim().length() > 0){
-            return false;
-        }
-
-        return true;
+        return isValidAuthority(authority, 0, authority.length());
     }
 
     /**
@@ -413,7 +363,7 @@ public class UrlValidator implements Serializable {
             return false;
         }
 
-        if (!PATH_PATTERN.matcher(path).matches()) {
+        if (!isValidPathChars(path, 0, path.length())) {
             return false;
         }
 
@@ -441,7 +391,7 @@ public class UrlValidator implements Serializable {
             return true;
         }
 
-        return QUERY_PATTERN.matcher(query).matches();
+        return !containsLineTerminator(query, 0, query.length());
     }
 
     /**
@@ -476,6 +426,302 @@ public class UrlValidator implements Serializable {
         return count;
     }
 
+    /**
+     * Validates the components of a url address using the, possibly overridden,
+     * component checks.
+     */
+    private boolean isValidComponents(String scheme, String authority, String path,
+            String query, String fragment) {
+        if (!isValidScheme(scheme)) {
+            return false;
+        }
+
+        if ("file".equals(scheme) && "".equals(authority)) {
+            // Special case - file: allows an empty authority
+        } else {
+            // Validate the authority
+            if (!isValidAuthority(authority)) {
+                return false;
+            }
+        }
+
+        if (!isValidPath(path)) {
+            return false;
+        }
+
+        if (!isValidQuery(query)) {
+            return false;
+        }
+
+        if (!isValidFragment(fragment)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the scheme between <code>start</code> and <code>end</code>, it must be
+     * an ASCII letter followed by ASCII letters, digits, '+', '-' or '.'.
+     */
+    private boolean isValidScheme(String value, int start, int end) {
+        if (start == end || !isAsciiLetter(value.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+
+        if (isOff(ALLOW_ALL_SCHEMES) && !isAllowedScheme(value, start, end)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Case-blind lookup of a scheme, which only contains ASCII characters.
+     */
+    private boolean isAllowedScheme(String value, int start, int end) {
+        schemes:
+        for (int i = 0; i < allowedSchemes.length; i++) {
+            String allowedScheme = allowedSchemes[i];
+            if (allowedScheme.length() != end - start) {
+                continue;
+            }
+            for (int j = 0; j < allowedScheme.length(); j++) {
+                char c = value.charAt(start + j);
+                if (c >= 'A' && c <= 'Z') {
+                    c = (char) (c + ('a' - 'A'));
+                }
+                if (allowedScheme.charAt(j) != c) {
+                    continue schemes;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks the authority between <code>start</code> and <code>end</code>. It is split into
+     * a host made of letters, digits, '-' and '.', an optional port and trailing whitespace,
+     * which is ignored.
+     */
+    private boolean isValidAuthority(String value, int start, int end) {
+        // check manual authority validation if specified
+        if (authorityValidator != null && authorityValidator.isValid(value.substring(start, end))) {
+            return true;
+        }
+        // convert to ASCII if possible
+        if (!isOnlyASCII(value, start, end)) {
+            value = DomainValidator.unicodeToASCII(value.substring(start, end));
+            start = 0;
+            end = value.length();
+        }
+
+        int hostEnd = start;
+        while (hostEnd < end) {
+            int c = value.codePointAt(hostEnd);
+            if (!isHostChar(c)) {
+                break;
+            }
+            hostEnd += Character.charCount(c);
+        }
+
+        int portEnd = hostEnd;
+        if (portEnd < end && value.charAt(portEnd) == ':') {
+            portEnd++;
+            int portDigits = 0;
+            while (portEnd < end) {
+                int c = value.codePointAt(portEnd);
+                if (!isDigit(c)) {
+                    break;
+                }
+                portEnd += Character.charCount(c);
+                portDigits++;
+            }
+            if (portDigits < 1 || portDigits > MAX_PORT_DIGITS) {
+                return false;
+            }
+        }
+
+        // Whatever follows the port should be whitespace
+        for (int i = portEnd; i < end; i++) {
+            char c = value.charAt(i);
+            if (c > ' ' || isLineTerminator(c)) {
+                return false;
+            }
+        }
+
+        // check if authority is hostname or IP address:
+        // try a hostname first since that's much more likely
+        DomainValidator domainValidator = DomainValidator.getInstance(isOn(ALLOW_LOCAL_URLS));
+        if (!isOnlyASCII(value, start, hostEnd)) {
+            // the authority did not convert to ASCII, the host alone may
+            String host = value.substring(start, hostEnd);
+            return domainValidator.isValid(host)
+                    || InetAddressValidator.getInstance().isValid(host);
+        }
+        if (!domainValidator.isValid(value, start, hostEnd)) {
+            // try an IP address
+            InetAddressValidator inetAddressValidator =
+                InetAddressValidator.getInstance();
+            if (!inetAddressValidator.isValid(value, start, hostEnd)) {
+                // isn't either one, so the URL is invalid
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the path between <code>start</code> and <code>end</code>, counting
+     * the '/', '//' and '..' tokens the way {@link #countToken(String, String)} does.
+     */
+    private boolean isValidPath(String value, int start, int end) {
+        if (!isValidPathChars(value, start, end)) {
+            return false;
+        }
+
+        int slashCount = 0;
+        int slash2Count = 0;
+        int dot2Count = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            char previous = i > start ? value.charAt(i - 1) : 0;
+            if (c == '/') {
+                slashCount++;
+                if (previous == '/') {
+                    slash2Count++;
+                }
+            } else if (c == '.' && previous == '.') {
+                dot2Count++;
+            }
+        }
+
+        if (isOff(ALLOW_2_SLASHES) && (slash2Count > 0)) {
+            return false;
+        }
+
+        if (dot2Count > 0 && (slashCount - slash2Count - 1) <= dot2Count) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * A path is either empty or a '/' followed by word characters and {@link #PATH_CHARS}.
+     */
+    private static boolean isValidPathChars(String value, int start, int end) {
+        if (start == end) {
+            return true;
+        }
+        if (value.charAt(start) != '/') {
+            return false;
+        }
+        for (int i = start + 1; i < end; ) {
+            int c = value.codePointAt(i);
+            if (c > 0x7F) {
+                if (!isUnicodeWordChar(c)) {
+                    return false;
+                }
+            } else if (!isAsciiLetterOrDigit((char) c) && PATH_CHARS.indexOf(c) == -1) {
+                return false;
+            }
+            i += Character.charCount(c);
+        }
+        return true;
+    }
+
+    /**
+     * Non-ASCII characters matched by '\w' on Android, where regular expressions are
+     * Unicode aware: alphabetic characters, decimal digits, marks and connector punctuation.
+     */
+    private static boolean isUnicodeWordChar(int c) {
+        if (Character.isLetterOrDigit(c)) {
+            return true;
+        }
+
+        switch (Character.getType(c)) {
+            case Character.LETTER_NUMBER:
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.CONNECTOR_PUNCTUATION:
+                return true;
+            default:
+                // Join controls, circled and squared letters
+                return c == '\u200C' || c == '\u200D'
+                        || (c >= 0x24B6 && c <= 0x24E9) || (c >= 0x1F130 && c <= 0x1F149)
+                        || (c >= 0x1F150 && c <= 0x1F169) || (c >= 0x1F170 && c <= 0x1F189);
+        }
+    }
+
+    private static int indexOfAny(String value, int start, int end, String chars) {
+        for (int i = start; i < end; i++) {
+            if (chars.indexOf(value.charAt(i)) != -1) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Line terminators are the characters that are not matched by '.' in a regular expression.
+     */
+    private static boolean containsLineTerminator(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isLineTerminator(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isOnlyASCII(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Host characters are letters, digits, '-' and '.'. Non-ASCII letters and digits are only
+     * left in hosts that did not convert to ASCII, on Android the regular expressions that
+     * were used before accepted them.
+     */
+    private static boolean isHostChar(int c) {
+        return DomainValidator.isLetterOrDigit(c) || c == '-' || c == '.';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDigit(int c) {
+        return c <= 0x7F ? c >= '0' && c <= '9' : Character.isDigit(c);
+    }
+
     /**
      * Tests whether the given flag is on.  If the flag is not a power of 2
      * (ie. 3) this tests whether the combination of flags is on.
@@ -44,17 +44,20 @@ public final class EAN13CheckDigit extends ModulusCheckDigit {
 
     private static final long serialVersionUID = 1726347093230424107L;
 
+    /** weighted values of the digits depending on their right position */
+    private static final int[][] WEIGHTED_VALUES = new int[][] {
+        {0, 3, 6, 9, 12, 15, 18, 21, 24, 27},
+        {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}
+    };
+
     /** Singleton EAN-13 Check Digit instance */
     public static final CheckDigit EAN13_CHECK_DIGIT = new EAN13CheckDigit();
 
-    /** weighting given to digits depending on their right position */
-    private static final int[] POSITION_WEIGHT = new int[] {3, 1};
-
     /**
      * Construct a modulus 10 Check Digit routine for EAN/UPC.
      */
     public EAN13CheckDigit() {
-        super(10);
+        super(10, WEIGHTED_VALUES);
     }
 
     /**
@@ -71,7 +74,6 @@ public final class EAN13CheckDigit extends ModulusCheckDigit {
      * @return The weighted value of the character.
      */
     protected int weightedValue(int charValue, int leftPos, int rightPos) {
-        int weight = POSITION_WEIGHT[rightPos % 2];
-        return charValue * weight;
+        return WEIGHTED_VALUES[rightPos % 2][charValue];
     }
 }
@@ -46,6 +46,20 @@ public final class ISBN10CheckDigit extends ModulusCheckDigit {
 
     private static final long serialVersionUID = 8000855044504864964L;
 
+    /**
+     * Weighted values of the characters depending on their right position,
+     * reduced modulo 11. Column 10 is the value of an 'X' check digit.
+     */
+    private static final int[][] WEIGHTED_VALUES = new int[11][11];
+
+    static {
+        for (int rightPos = 0; rightPos < 11; rightPos++) {
+            for (int charValue = 0; charValue < 11; charValue++) {
+                WEIGHTED_VALUES[rightPos][charValue] = (rightPos * charValue) % 11;
+            }
+        }
+    }
+
     /** Singleton ISBN-10 Check Digit instance */
     public static final CheckDigit ISBN10_CHECK_DIGIT = new ISBN10CheckDigit();
 
@@ -53,7 +67,7 @@ public final class ISBN10CheckDigit extends ModulusCheckDigit {
      * Construct a modulus 11 Check Digit routine for ISBN-10.
      */
     public ISBN10CheckDigit() {
-        super(11);
+        super(11, WEIGHTED_VALUES);
     }
 
     /**
@@ -92,6 +106,23 @@ public final class ISBN10CheckDigit extends ModulusCheckDigit {
         return super.toInt(character, leftPos, rightPos);
     }
 
+    /**
+     * <p>Convert a character at a specified position to its value for the
+     * table driven validation.</p>
+     *
+     * <p>Character 'X' check digit converted to 10.</p>
+     *
+     * @param character The character to convert.
+     * @param rightPos The position of the character in the code, counting from right to left
+     * @return The value of the character, or <code>-1</code> if it is not allowed.
+     */
+    protected int toCharValue(char character, int rightPos) {
+        if (rightPos == 1 && character == 'X') {
+            return 10;
+        }
+        return super.toCharValue(character, rightPos);
+    }
+
     /**
      * <p>Convert an integer value to a character at a specified position.</p>
      *
@@ -41,17 +41,20 @@ public final class LuhnCheckDigit extends ModulusCheckDigit {
 
     private static final long serialVersionUID = -2976900113942875999L;
 
+    /** weighted values of the digits depending on their right position */
+    private static final int[][] WEIGHTED_VALUES = new int[][] {
+        {0, 2, 4, 6, 8, 1, 3, 5, 7, 9},
+        {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}
+    };
+
     /** Singleton Luhn Check Digit instance */
     public static final CheckDigit LUHN_CHECK_DIGIT = new LuhnCheckDigit();
 
-    /** weighting given to digits depending on their right position */
-    private static final int[] POSITION_WEIGHT = new int[] {2, 1};
-
     /**
      * Construct a modulus 10 Luhn Check Digit routine.
      */
     public LuhnCheckDigit() {
-        super(10);
+        super(10, WEIGHTED_VALUES);
     }
 
     /**
@@ -68,8 +71,6 @@ public final class LuhnCheckDigit extends ModulusCheckDigit {
      * @return The weighted value of the character.
      */
     protected int weightedValue(int charValue, int leftPos, int rightPos) {
-        int weight = POSITION_WEIGHT[rightPos % 2];
-        int weightedValue = charValue * weight;
-        return weightedValue > 9 ? (weightedValue - 9) : weightedValue;
+        return WEIGHTED_VALUES[rightPos % 2][charValue];
     }
 }
@@ -29,6 +29,12 @@ import java.io.Serializable;
  * will need to implement/override the <code>toInt()</code> and
  * <code>toChar()</code> methods.
  * <p>
+ * Subclasses that supply a table of <i>weighted values</i> are validated by
+ * {@link #validate(CharSequence)} and {@link #validate(char[], int, int)}
+ * with a single pass over the code that converts ASCII digits inline and
+ * reports bad input with a status code rather than an exception, so no
+ * garbage is created.
+ * <p>
  *
  * @version $Revision$
  * @since Validator 1.4
@@ -37,17 +43,53 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
 
     private static final long serialVersionUID = 2948962251251528941L;
 
+    /** Status code: the code is valid */
+    public static final int VALID = 0;
+
+    /** Status code: the check digit does not match the code */
+    public static final int INVALID_CHECK_DIGIT = 1;
+
+    /** Status code: the code contains a character that is not allowed */
+    public static final int INVALID_CHARACTER = 2;
+
+    /** Status code: the weighted sum of the code is zero */
+    public static final int ZERO_SUM = 3;
+
+    /** Status code: the code is <code>null</code> or empty */
+    public static final int MISSING_CODE = 4;
+
     // N.B. The modulus can be > 10 provided that the implementing class overrides toCheckDigit and toInt
     // (for example as in ISBN10CheckDigit)
     private final int modulus;
 
+    // weightedValues[rightPos % weightedValues.length][charValue], null if not table driven
+    private final int[][] weightedValues;
+
     /**
      * Construct a {@link CheckDigit} routine for a specified modulus.
      *
      * @param modulus The modulus value to use for the check digit calculation
      */
     public ModulusCheckDigit(int modulus) {
+        this(modulus, null);
+    }
+
+    /**
+     * Construct a table driven {@link CheckDigit} routine for a specified modulus.
+     * <p>
+     * The weighted value of a character with the value <code>charValue</code>
+     * at the position <code>rightPos</code> (counting from right to left) is
+     * <code>weightedValues[rightPos % weightedValues.length][charValue]</code>.
+     * Weighted values may be reduced by the modulus, a code is only treated as
+     * having a zero sum when all of its characters have the value zero.
+     *
+     * @param modulus The modulus value to use for the check digit calculation
+     * @param weightedValues The weighted values table, <code>null</code> if
+     * {@link #weightedValue(int, int, int)} should be used instead
+     */
+    protected ModulusCheckDigit(int modulus, int[][] weightedValues) {
         this.modulus = modulus;
+        this.weightedValues = weightedValues;
     }
 
     /**
@@ -67,15 +109,72 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
      * <code>false</code>
      */
     public boolean isValid(String code) {
+        return validate(code) == VALID;
+    }
+
+    /**
+     * Validate a modulus check digit for a code, without throwing an exception
+     * for invalid input.
+     *
+     * @param code The code to validate, including the check digit
+     * @return {@link #VALID} if the check digit is valid, otherwise one of
+     * {@link #INVALID_CHECK_DIGIT}, {@link #INVALID_CHARACTER},
+     * {@link #ZERO_SUM} or {@link #MISSING_CODE}
+     */
+    public int validate(CharSequence code) {
         if (code == null || code.length() == 0) {
-            return false;
+            return MISSING_CODE;
         }
-        try {
-            int modulusResult = calculateModulus(code, true);
-            return (modulusResult == 0);
-        } catch (CheckDigitException  ex) {
-            return false;
+        if (weightedValues == null) {
+            return validateUsingWeightedValue(code.toString());
         }
+
+        int lth = code.length();
+        int total = 0;
+        int allValues = 0;
+        for (int i = 0; i < lth; i++) {
+            int rightPos = lth - i;
+            int charValue = toTableIndex(code.charAt(i), rightPos);
+            if (charValue < 0) {
+                return INVALID_CHARACTER;
+            }
+            total += weightedValues[rightPos % weightedValues.length][charValue];
+            allValues |= charValue;
+        }
+        return toStatus(total, allValues);
+    }
+
+    /**
+     * Validate a modulus check digit for a code held in a character array,
+     * without throwing an exception for invalid input.
+     *
+     * @param code The characters holding the code, including the check digit
+     * @param offset The index of the first character of the code
+     * @param length The number of characters in the code
+     * @return {@link #VALID} if the check digit is valid, otherwise one of
+     * {@link #INVALID_CHECK_DIGIT}, {@link #INVALID_CHARACTER},
+     * {@link #ZERO_SUM} or {@link #MISSING_CODE}
+     */
+    public int validate(char[] code, int offset, int length) {
+        if (code == null || length <= 0) {
+            return MISSING_CODE;
+        }
+        if (weightedValues == null) {
+            return validateUsingWeightedValue(new String(code, offset, length));
+        }
+
+        int total = 0;
+        int allValues = 0;
+        for (int i = 0; i < length; i++) {
+            int rightPos = length - i;
+            int charValue = toTableIndex(code[offset + i], rightPos);
+            if (charValue < 0) {
+                return INVALID_CHARACTER;
+            }
+            total += weightedValues[rightPos % weightedValues.length][charValue];
+            allValues |= charValue;
+        }
+        return toStatus(total, allValues);
     }
 
     /**
@@ -106,8 +205,8 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
      */
     protected int calculateModulus(String code, boolean includesCheckDigit) throws CheckDigitException {
         int total = 0;
+        int lth = code.length() + (includesCheckDigit ? 0 : 1);
         for (int i = 0; i < code.length(); i++) {
-            int lth = code.length() + (includesCheckDigit ? 0 : 1);
             int leftPos  = i + 1;
             int rightPos = lth - i;
             int charValue = toInt(code.charAt(i), leftPos, rightPos);
@@ -162,6 +261,24 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
                 leftPos + "] = '" + character + "'");
     }
 
+    /**
+     * Convert a character at a specified position to its value for the table
+     * driven validation, without throwing an exception.
+     * <p>
+     * ASCII digits are converted by {@link #validate(CharSequence)} and
+     * {@link #validate(char[], int, int)} directly, this method is called for
+     * any other character. The default implementation accepts non-ASCII
+     * decimal digits, like {@link #toInt(char, int, int)}.
+     *
+     * @param character The character to convert
+     * @param rightPos The position of the character in the code, counting from right to left
+     * @return The value of the character, or <code>-1</code> if the character
+     * is not allowed at this position
+     */
+    protected int toCharValue(char character, int rightPos) {
+        return Character.isDigit(character) ? Character.getNumericValue(character) : -1;
+    }
+
     /**
      * Convert an integer value to a check digit.
      * <p>
@@ -199,4 +316,28 @@ public abstract class ModulusCheckDigit implements CheckDigit, Serializable {
         return total;
     }
 
+    private int toTableIndex(char character, int rightPos) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
+        int charValue = toCharValue(character, rightPos);
+        return charValue < weightedValues[0].length ? charValue : -1;
+    }
+
+    private int toStatus(int total, int allValues) {
+        if (allValues == 0) {
+            return ZERO_SUM;
+        }
+        return total % modulus == 0 ? VALID : INVALID_CHECK_DIGIT;
+    }
+
+    // Routines without a weighted values table can't tell a zero sum from a bad character
+    private int validateUsingWeightedValue(String code) {
+        try {
+            return calculateModulus(code, true) == 0 ? VALID : INVALID_CHECK_DIGIT;
+        } catch (CheckDigitException ex) {
+            return INVALID_CHARACTER;
+        }
+    }
+
 }